@@ -0,0 +1,30 @@
+package br.com.minhavenda.minhavenda.application.dto;
+
+import java.util.List;
+
+/**
+ * Lista com teto de itens imposto pelo servidor.
+ *
+ * As consultas buscam um item a mais que o limite só para saber se a
+ * lista foi cortada; o cliente que precisar do restante usa a listagem
+ * paginada, por cursor ou a exportação administrativa.
+ *
+ * @param itens itens até o limite
+ * @param truncada indica se existiam mais itens além do limite
+ */
+public record ListaLimitada<T>(
+        List<T> itens,
+        boolean truncada
+) {
+
+    /**
+     * @param resultado consulta feita com limite + 1 itens
+     * @param limite quantidade máxima de itens retornados
+     */
+    public static <T> ListaLimitada<T> de(List<T> resultado, int limite) {
+        if (resultado.size() > limite) {
+            return new ListaLimitada<>(List.copyOf(resultado.subList(0, limite)), true);
+        }
+        return new ListaLimitada<>(resultado, false);
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.minhavenda.minhavenda.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Página de uma listagem por cursor (keyset).
+ *
+ * Em vez de número de página, o cliente recebe um cursor opaco e o envia
+ * em {@code ?after=} para buscar a próxima fatia. O total de elementos só
+ * é calculado quando solicitado explicitamente (evita COUNT(*) por request).
+ *
+ * @param conteudo itens da fatia atual
+ * @param proximoCursor cursor para a próxima fatia (null na última)
+ * @param temProximo indica se existe próxima fatia
+ * @param totalElementos total de elementos (apenas se solicitado)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PaginaCursor<T>(
+        List<T> conteudo,
+        String proximoCursor,
+        boolean temProximo,
+        Long totalElementos
+) {
+}
@@ -0,0 +1,25 @@
+package br.com.minhavenda.minhavenda.application.dto;
+
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * Página de busca acompanhada das facetas dos filtros aplicados.
+ *
+ * Estende PageImpl para manter o mesmo JSON da página comum, apenas com o
+ * campo adicional {@code facetas}.
+ */
+public class PaginaFacetada<T> extends PageImpl<T> {
+
+    private final FacetasProdutoDTO facetas;
+
+    public PaginaFacetada(Page<T> pagina, FacetasProdutoDTO facetas) {
+        super(pagina.getContent(), pagina.getPageable(), pagina.getTotalElements());
+        this.facetas = facetas;
+    }
+
+    public FacetasProdutoDTO getFacetas() {
+        return facetas;
+    }
+}
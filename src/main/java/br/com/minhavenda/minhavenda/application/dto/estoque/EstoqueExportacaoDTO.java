@@ -0,0 +1,20 @@
+package br.com.minhavenda.minhavenda.application.dto.estoque;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Linha da exportação de estoque (admin).
+ *
+ * @param produtoId ID do produto
+ * @param produtoNome nome do produto
+ * @param quantidade quantidade em estoque
+ * @param atualizadoEm última movimentação
+ */
+public record EstoqueExportacaoDTO(
+        UUID produtoId,
+        String produtoNome,
+        Integer quantidade,
+        Instant atualizadoEm
+) {
+}
@@ -0,0 +1,35 @@
+package br.com.minhavenda.minhavenda.application.dto.produto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Contagens (facetas) dos produtos que atendem a uma busca com filtros.
+ *
+ * @param categorias quantidade de produtos por categoria, da maior para a menor
+ * @param faixasPreco histograma de preço, na ordem das faixas
+ * @param emEstoque produtos com estoque disponível
+ * @param semEstoque produtos sem estoque
+ */
+public record FacetasProdutoDTO(
+        List<CategoriaFaceta> categorias,
+        List<FaixaPrecoFaceta> faixasPreco,
+        long emEstoque,
+        long semEstoque
+) {
+
+    /**
+     * @param id ID da categoria (null = produtos sem categoria)
+     */
+    public record CategoriaFaceta(Long id, String nome, long quantidade) {
+    }
+
+    /**
+     * Faixa [de, ate). A última faixa não tem limite superior.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record FaixaPrecoFaceta(BigDecimal de, BigDecimal ate, long quantidade) {
+    }
+}
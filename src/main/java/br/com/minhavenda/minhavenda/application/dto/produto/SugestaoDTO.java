@@ -0,0 +1,35 @@
+package br.com.minhavenda.minhavenda.application.dto.produto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Sugestão de autocomplete: nome de produto ou de categoria.
+ *
+ * @param texto nome sugerido (como cadastrado)
+ * @param tipo PRODUTO ou CATEGORIA
+ * @param produtoId ID do produto (apenas tipo PRODUTO)
+ * @param categoriaId ID da categoria (apenas tipo CATEGORIA)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record SugestaoDTO(
+        String texto,
+        Tipo tipo,
+        UUID produtoId,
+        Long categoriaId
+) {
+
+    public enum Tipo {
+        PRODUTO,
+        CATEGORIA
+    }
+
+    public static SugestaoDTO produto(UUID id, String nome) {
+        return new SugestaoDTO(nome, Tipo.PRODUTO, id, null);
+    }
+
+    public static SugestaoDTO categoria(Long id, String nome) {
+        return new SugestaoDTO(nome, Tipo.CATEGORIA, null, id);
+    }
+}
@@ -4,6 +4,7 @@ import br.com.minhavenda.minhavenda.application.dto.pedido.*;
 import br.com.minhavenda.minhavenda.domain.entity.*;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
@@ -28,6 +29,14 @@ public class PedidoMapper {
     }
 
     public PedidoDetalhadoDTO toDetalhadoDTO(Pedido pedido) {
+        return toDetalhadoDTO(pedido, pedido.getItens());
+    }
+
+    /**
+     * Monta o DTO detalhado com itens já carregados à parte (exportação),
+     * sem inicializar a coleção lazy do pedido.
+     */
+    public PedidoDetalhadoDTO toDetalhadoDTO(Pedido pedido, List<ItemPedido> itens) {
         return PedidoDetalhadoDTO.builder()
                 .id(pedido.getId())
                 .status(pedido.getStatus())
@@ -37,12 +46,12 @@ public class PedidoMapper {
                 .valorTotal(pedido.getValorTotal())
                 .enderecoEntrega(pedido.getEnderecoEntrega())
                 .observacoes(pedido.getObservacoes())
-                .quantidadeItens(pedido.getQuantidadeTotal())
+                .quantidadeItens(itens.stream().mapToInt(ItemPedido::getQuantidade).sum())
                 .dataCriacao(pedido.getDataCriacao())
                 .dataPagamento(pedido.getDataPagamento())
                 .dataEnvio(pedido.getDataEnvio())
                 .dataEntrega(pedido.getDataEntrega())
-                .itens(pedido.getItens().stream()
+                .itens(itens.stream()
                         .map(this::itemToDTO)
                         .collect(Collectors.toList()))
                 .build();
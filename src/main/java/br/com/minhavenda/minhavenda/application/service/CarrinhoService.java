@@ -14,6 +14,9 @@ import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.Carrin
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ItemCarrinhoRepository;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioAutenticado;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioPrincipalCache;
+import br.com.minhavenda.minhavenda.infrastructure.retry.RetentarEmConflito;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +43,7 @@ public class CarrinhoService {
     private final ItemCarrinhoRepository itemCarrinhoRepository;
     private final ProdutoRepository produtoRepository;
     private final UsuarioRepository usuarioRepository;
+    private final UsuarioPrincipalCache usuarioPrincipalCache;
     private final CarrinhoMapper carrinhoMapper;
 
     /**
@@ -70,6 +74,7 @@ public class CarrinhoService {
      * @param request dados do item a adicionar
      * @return carrinho atualizado
      */
+    @RetentarEmConflito
     @Transactional
     public CarrinhoDTO adicionarItem(String email, AdicionarItemCarrinhoRequest request) {
         // 1. Buscar usuário
@@ -145,6 +150,7 @@ public class CarrinhoService {
      * @param request nova quantidade
      * @return carrinho atualizado
      */
+    @RetentarEmConflito
     @Transactional
     public CarrinhoDTO atualizarItem(
             String email,
@@ -194,6 +200,7 @@ public class CarrinhoService {
      * @param itemId ID do item
      * @return carrinho atualizado
      */
+    @RetentarEmConflito
     @Transactional
     public CarrinhoDTO removerItem(String email, UUID itemId) {
         // 1. Buscar usuário e carrinho
@@ -226,6 +233,7 @@ public class CarrinhoService {
      * @param email email do usuário
      * @return carrinho vazio
      */
+    @RetentarEmConflito
     @Transactional
     public CarrinhoDTO limparCarrinho(String email) {
         // 1. Buscar usuário e carrinho
@@ -246,8 +254,10 @@ public class CarrinhoService {
     // ========== MÉTODOS AUXILIARES ==========
 
     private Usuario buscarUsuarioPorEmail(String email) {
-        return usuarioRepository.findByEmail(email)
+        UUID usuarioId = usuarioPrincipalCache.buscar(email)
+                .map(UsuarioAutenticado::id)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+        return usuarioRepository.getReferenceById(usuarioId);
     }
 
     private Produto buscarProdutoPorId(UUID produtoId) {
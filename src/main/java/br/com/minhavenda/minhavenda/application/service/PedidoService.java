@@ -1,5 +1,6 @@
 package br.com.minhavenda.minhavenda.application.service;
 
+import br.com.minhavenda.minhavenda.application.dto.PaginaCursor;
 import br.com.minhavenda.minhavenda.application.dto.pedido.CheckoutRequest;
 import br.com.minhavenda.minhavenda.application.dto.pedido.PedidoDTO;
 import br.com.minhavenda.minhavenda.application.dto.pedido.PedidoDetalhadoDTO;
@@ -7,14 +8,32 @@ import br.com.minhavenda.minhavenda.application.mapper.PedidoMapper;
 import br.com.minhavenda.minhavenda.domain.entity.*;
 import br.com.minhavenda.minhavenda.domain.enums.StatusCarrinho;
 import br.com.minhavenda.minhavenda.domain.enums.StatusPedido;
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import br.com.minhavenda.minhavenda.domain.exception.BusinessException;
+import br.com.minhavenda.minhavenda.infrastructure.eventos.OutboxEventos;
+import br.com.minhavenda.minhavenda.infrastructure.notificacao.FilaNotificacoes;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.*;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioAutenticado;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioPrincipalCache;
+import br.com.minhavenda.minhavenda.infrastructure.retry.RetentarEmConflito;
+import br.com.minhavenda.minhavenda.infrastructure.tarefas.TarefasAposCommit;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,17 +46,34 @@ import java.util.stream.Collectors;
  * - Buscar pedido específico
  * - Gerenciar status do pedido (pagar, enviar, entregar, cancelar)
  * - Validações de negócio
+ *
+ * Cada mudança de status grava um {@link EventoDominio} no outbox
+ * ({@link OutboxEventos}) e enfileira um e-mail para o cliente
+ * ({@link FilaNotificacoes}), na mesma transação. O envio acontece fora
+ * do request.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PedidoService {
 
+    /** Campo de ordenação do histórico de pedidos por cursor */
+    private static final String CAMPO_CURSOR_PEDIDO = "dataCriacao";
+
+    /** Limite de pedidos por fatia na listagem por cursor */
+    private static final int TAMANHO_MAXIMO_CURSOR = 100;
+
     private final PedidoRepository pedidoRepository;
     private final CarrinhoRepository carrinhoRepository;
     private final UsuarioRepository usuarioRepository;
-    private final ProdutoRepository produtoRepository;
+    private final UsuarioPrincipalCache usuarioPrincipalCache;
+    private final EstoqueRepository estoqueRepository;
     private final PedidoMapper pedidoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventos outboxEventos;
+    private final FilaNotificacoes filaNotificacoes;
+    private final TarefasAposCommit tarefasAposCommit;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Finaliza o checkout convertendo o carrinho em pedido.
@@ -45,25 +81,29 @@ public class PedidoService {
      * Fluxo:
      * 1. Busca carrinho ativo do usuário
      * 2. Valida que carrinho não está vazio
-     * 3. Valida estoque de todos os produtos
+     * 3. Valida que os produtos continuam ativos
      * 4. Cria pedido com status CRIADO
      * 5. Copia itens do carrinho para o pedido (snapshot)
      * 6. Salva pedido
-     * 7. Atualiza estoque dos produtos (decrementa quantidade)
-     * 8. Finaliza carrinho (status FINALIZADO)
+     * 7. Finaliza carrinho (status FINALIZADO)
+     * 8. Registra evento no outbox e enfileira notificação
+     * 9. Reserva estoque com UPDATE condicional (falha se insuficiente),
+     *    por último: as linhas de estoques ficam travadas só até o commit
+     * 10. Após o commit, em background: métricas e log
      *
      * @param email email do usuário (do token JWT)
      * @param request dados do checkout (endereço, observações)
      * @return pedido criado
      */
+    @RetentarEmConflito
     @Transactional
     public PedidoDTO finalizarCheckout(String email, CheckoutRequest request) {
         // 1. Buscar usuário
         Usuario usuario = buscarUsuarioPorEmail(email);
 
-        // 2. Buscar carrinho ativo
+        // 2. Buscar carrinho ativo (itens, produtos e estoques em uma query)
         Carrinho carrinho = carrinhoRepository
-                .findByUsuarioAndStatus(usuario, StatusCarrinho.ATIVO)
+                .buscarParaCheckout(usuario.getId(), StatusCarrinho.ATIVO)
                 .orElseThrow(() -> new RuntimeException("Carrinho não encontrado"));
 
         // 3. Validar carrinho não vazio
@@ -71,8 +111,8 @@ public class PedidoService {
             throw new RuntimeException("Carrinho está vazio");
         }
 
-        // 4. Validar estoque de todos os produtos
-        validarEstoqueProdutos(carrinho);
+        // 4. Validar produtos ativos
+        validarProdutosAtivos(carrinho);
 
         // 5. Criar pedido
         Pedido pedido = Pedido.builder()
@@ -102,22 +142,41 @@ public class PedidoService {
         // 8. Salvar pedido
         pedido = pedidoRepository.save(pedido);
 
-        // 9. Atualizar estoque dos produtos
-        for (ItemCarrinho itemCarrinho : carrinho.getItens()) {
-            Produto produto = itemCarrinho.getProduto();
-            produto.removerEstoque(itemCarrinho.getQuantidade());
-            produtoRepository.save(produto);
-        }
-
-        // 10. Finalizar carrinho (não deletar, manter histórico)
+        // 9. Finalizar carrinho (não deletar, manter histórico)
         carrinho.finalizar();
         carrinhoRepository.save(carrinho);
 
-        log.info("Pedido criado: ID={}, Usuario={}, Valor={}, Itens={}",
-                pedido.getId(),
-                usuario.getEmail(),
-                pedido.getValorTotal(),
-                pedido.getItens().size());
+        // 10. Registrar PEDIDO_CRIADO no outbox e enfileirar e-mail (mesma transação)
+        outboxEventos.registrar(EventoDominio.pedidoCriado(pedido.getId(), usuario.getId(), Map.of(
+                "valorTotal", pedido.getValorTotal(),
+                "itens", pedido.getItens().stream()
+                        .map(item -> Map.of(
+                                "produtoId", item.getProduto().getId().toString(),
+                                "quantidade", item.getQuantidade(),
+                                "precoUnitario", item.getPrecoUnitario()))
+                        .toList()
+        )));
+        notificar(usuario, String.format("Recebemos seu pedido %s. Valor total: R$ %s.",
+                pedido.getId(), pedido.getValorTotal()));
+
+        // 11. Gravar tudo antes de travar estoques: os locks das reservas
+        // ficam abertos só entre o batch de UPDATEs e o commit
+        pedidoRepository.flush();
+
+        // 12. Reservar estoque (UPDATEs condicionais em um batch, sem oversell)
+        reservarEstoque(carrinho);
+
+        // 13. Métricas e log depois do commit, fora do request
+        UUID pedidoId = pedido.getId();
+        BigDecimal valorTotal = pedido.getValorTotal();
+        int quantidadeItens = pedido.getItens().size();
+        tarefasAposCommit.executar("checkout", () -> {
+            meterRegistry.counter("pedidos.criados").increment();
+            meterRegistry.summary("pedidos.valor").record(valorTotal.doubleValue());
+            meterRegistry.summary("pedidos.itens").record(quantidadeItens);
+            log.info("Pedido criado: ID={}, Usuario={}, Valor={}, Itens={}",
+                    pedidoId, email, valorTotal, quantidadeItens);
+        });
 
         return pedidoMapper.toDTO(pedido);
     }
@@ -140,6 +199,62 @@ public class PedidoService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Lista os pedidos do usuário logado por cursor (keyset).
+     * Ordenados por data de criação (mais recente primeiro).
+     *
+     * @param email email do usuário
+     * @param after cursor da fatia anterior (null = primeira fatia)
+     * @param tamanho quantidade de pedidos na fatia
+     * @param incluirTotal se deve calcular o total de pedidos
+     * @return fatia de pedidos com o próximo cursor
+     */
+    @Transactional(readOnly = true)
+    public PaginaCursor<PedidoDTO> listarMeusPedidosPorCursor(
+            String email,
+            String after,
+            int tamanho,
+            boolean incluirTotal
+    ) {
+        Usuario usuario = buscarUsuarioPorEmail(email);
+        int tamanhoFatia = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_CURSOR));
+        // Busca um pedido a mais só para saber se existe próxima fatia
+        Limit limite = Limit.of(tamanhoFatia + 1);
+
+        List<Pedido> pedidos;
+        if (after == null || after.isBlank()) {
+            pedidos = pedidoRepository.buscarHistorico(usuario, limite);
+        } else {
+            CursorKeyset cursor = CursorKeyset.decodificar(after);
+            cursor.validarOrdenacao(CAMPO_CURSOR_PEDIDO, Sort.Direction.DESC);
+            pedidos = pedidoRepository.buscarHistoricoApos(
+                    usuario, converterDataCursor(cursor.valor()), cursor.id(), limite);
+        }
+
+        boolean temProximo = pedidos.size() > tamanhoFatia;
+        List<Pedido> conteudo = temProximo ? pedidos.subList(0, tamanhoFatia) : pedidos;
+
+        String proximoCursor = null;
+        if (temProximo) {
+            Pedido ultimo = conteudo.get(conteudo.size() - 1);
+            proximoCursor = new CursorKeyset(
+                    CAMPO_CURSOR_PEDIDO,
+                    Sort.Direction.DESC,
+                    ultimo.getId(),
+                    ultimo.getDataCriacao().toString()
+            ).codificar();
+        }
+
+        Long total = incluirTotal ? pedidoRepository.countByUsuario(usuario) : null;
+
+        return new PaginaCursor<>(
+                conteudo.stream().map(pedidoMapper::toDTO).collect(Collectors.toList()),
+                proximoCursor,
+                temProximo,
+                total
+        );
+    }
+
     /**
      * Busca pedido específico por ID.
      * Valida que o pedido pertence ao usuário logado.
@@ -169,6 +284,7 @@ public class PedidoService {
      * @param pedidoId ID do pedido
      * @return pedido atualizado
      */
+    @RetentarEmConflito
     @Transactional
     public PedidoDTO pagarPedido(String email, UUID pedidoId) {
         Usuario usuario = buscarUsuarioPorEmail(email);
@@ -180,6 +296,8 @@ public class PedidoService {
         pedido.marcarComoPago();
 
         pedido = pedidoRepository.save(pedido);
+        outboxEventos.registrar(EventoDominio.pedidoPago(pedido.getId(), null));
+        notificar(usuario, String.format("Pagamento do pedido %s confirmado.", pedido.getId()));
 
         log.info("Pedido pago: ID={}, Usuario={}", pedidoId, email);
 
@@ -194,6 +312,7 @@ public class PedidoService {
      * @param pedidoId ID do pedido
      * @return pedido cancelado
      */
+    @RetentarEmConflito
     @Transactional
     public PedidoDTO cancelarPedido(String email, UUID pedidoId) {
         Usuario usuario = buscarUsuarioPorEmail(email);
@@ -205,6 +324,8 @@ public class PedidoService {
         pedido.cancelar();
 
         pedido = pedidoRepository.save(pedido);
+        outboxEventos.registrar(EventoDominio.pedidoCancelado(pedido.getId(), "Cancelado pelo cliente"));
+        notificar(usuario, String.format("Seu pedido %s foi cancelado.", pedido.getId()));
 
         log.info("Pedido cancelado: ID={}, Usuario={}", pedidoId, email);
 
@@ -219,6 +340,7 @@ public class PedidoService {
      * @param pedidoId ID do pedido
      * @return pedido atualizado
      */
+    @RetentarEmConflito
     @Transactional
     public PedidoDTO marcarComoEnviado(UUID pedidoId) {
         Pedido pedido = pedidoRepository.findById(pedidoId)
@@ -227,6 +349,8 @@ public class PedidoService {
         pedido.marcarComoEnviado();
 
         pedido = pedidoRepository.save(pedido);
+        outboxEventos.registrar(EventoDominio.pedidoEnviado(pedido.getId(), null));
+        notificar(pedido.getUsuario(), String.format("Seu pedido %s foi enviado.", pedido.getId()));
 
         log.info("Pedido enviado: ID={}", pedidoId);
 
@@ -239,6 +363,7 @@ public class PedidoService {
      * @param pedidoId ID do pedido
      * @return pedido atualizado
      */
+    @RetentarEmConflito
     @Transactional
     public PedidoDTO marcarComoEntregue(UUID pedidoId) {
         Pedido pedido = pedidoRepository.findById(pedidoId)
@@ -247,6 +372,8 @@ public class PedidoService {
         pedido.marcarComoEntregue();
 
         pedido = pedidoRepository.save(pedido);
+        outboxEventos.registrar(EventoDominio.pedidoEntregue(pedido.getId()));
+        notificar(pedido.getUsuario(), String.format("Seu pedido %s foi entregue.", pedido.getId()));
 
         log.info("Pedido entregue: ID={}", pedidoId);
 
@@ -284,41 +411,94 @@ public class PedidoService {
 
     // ========== MÉTODOS AUXILIARES ==========
 
+    private LocalDateTime converterDataCursor(String valor) {
+        try {
+            return LocalDateTime.parse(valor);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException("Cursor inválido", e);
+        }
+    }
+
     /**
-     * Busca usuário por email.
+     * Busca usuário por email usando o cache de principal.
+     * Retorna uma referência (proxy) sem consultar a tabela usuarios.
      */
     private Usuario buscarUsuarioPorEmail(String email) {
-        return usuarioRepository.findByEmail(email)
+        UUID usuarioId = usuarioPrincipalCache.buscar(email)
+                .map(UsuarioAutenticado::id)
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
+        return usuarioRepository.getReferenceById(usuarioId);
+    }
+
+    /**
+     * Enfileira um e-mail para o cliente (enviado pelo DespachanteNotificacoes).
+     */
+    private void notificar(Usuario usuario, String mensagem) {
+        filaNotificacoes.enfileirar(Notificacao.criarEmail(usuario, mensagem));
     }
 
     /**
-     * Valida estoque de todos os produtos do carrinho.
-     * Lança exceção se algum produto não tiver estoque suficiente.
+     * Valida se todos os produtos do carrinho continuam ativos.
      */
-    private void validarEstoqueProdutos(Carrinho carrinho) {
+    private void validarProdutosAtivos(Carrinho carrinho) {
         for (ItemCarrinho item : carrinho.getItens()) {
             Produto produto = item.getProduto();
-            Integer quantidadeNecessaria = item.getQuantidade();
 
-            // Valida produto ativo
             if (!produto.getAtivo()) {
                 throw new RuntimeException(
                         String.format("Produto '%s' não está mais disponível", produto.getNome())
                 );
             }
+        }
+    }
 
-            // Valida estoque suficiente
-            if (!produto.temEstoqueSuficiente(quantidadeNecessaria)) {
-                throw new RuntimeException(
+    /**
+     * Reserva o estoque de todos os itens do carrinho.
+     *
+     * Cada item é um UPDATE condicional (quantidade >= solicitada), e
+     * todos vão ao banco em um único batch JDBC. Se algum item não
+     * afetar exatamente uma linha, a transação inteira é desfeita: 0 é
+     * estoque insuficiente, e uma contagem desconhecida do driver
+     * (SUCCESS_NO_INFO) também falha, para não vender sem estoque. Os itens são ordenados por produto para que
+     * checkouts concorrentes travem as linhas na mesma ordem (evita
+     * deadlock).
+     */
+    private void reservarEstoque(Carrinho carrinho) {
+        List<ItemCarrinho> itens = carrinho.getItens().stream()
+                .sorted(Comparator.comparing(item -> item.getProduto().getId()))
+                .toList();
+
+        List<ReservaEstoque> reservas = itens.stream()
+                .map(item -> new ReservaEstoque(item.getProduto().getId(), item.getQuantidade()))
+                .toList();
+
+        int[] reservados = estoqueRepository.reservarEmLote(reservas);
+
+        for (int i = 0; i < itens.size(); i++) {
+            if (reservados[i] != 1) {
+                ItemCarrinho item = itens.get(i);
+                if (reservados[i] != 0) {
+                    throw new IllegalStateException(String.format(
+                            "Reserva de estoque não confirmada para o produto %s (resultado %d)",
+                            item.getProduto().getId(), reservados[i]));
+                }
+                throw new BusinessException(
                         String.format(
-                                "Estoque insuficiente para o produto '%s'. Disponível: %d, Solicitado: %d",
-                                produto.getNome(),
-                                produto.getEstoque().getQuantidade(),
-                                quantidadeNecessaria
+                                "Estoque insuficiente para o produto '%s'. Solicitado: %d",
+                                item.getProduto().getNome(),
+                                item.getQuantidade()
                         )
                 );
             }
         }
+
+        Set<Long> categoriaIds = itens.stream()
+                .map(item -> item.getProduto().getCategoria())
+                .filter(Objects::nonNull)
+                .map(Categoria::getId)
+                .collect(Collectors.toSet());
+
+        eventPublisher.publishEvent(new EstoqueAlteradoEvent(
+                reservas.stream().map(ReservaEstoque::produtoId).toList(), categoriaIds));
     }
 }
@@ -7,12 +7,11 @@ import br.com.minhavenda.minhavenda.domain.entity.Usuario;
 import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
 import br.com.minhavenda.minhavenda.infrastructure.security.JwtService;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioAutenticado;
 import br.com.minhavenda.minhavenda.domain.valueobject.Email;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -35,7 +34,6 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
 
     /**
      * Registra novo usuário no sistema.
@@ -90,9 +88,8 @@ public class AuthenticationService {
         usuarioRepository.save(usuario);
 
         // 6. GERA TOKEN JWT
-        // Carrega UserDetails para gerar token
-        UserDetails userDetails = userDetailsService.loadUserByUsername(usuario.getEmail());
-        String jwtToken = jwtService.generateToken(userDetails);
+        // Inclui tipo, ID e versão para autorização stateless
+        String jwtToken = jwtService.generateToken(UsuarioAutenticado.de(usuario));
 
         // 7. RETORNA RESPONSE
         return AuthenticationResponse.builder()
@@ -134,8 +131,7 @@ public class AuthenticationService {
                 .orElseThrow(() -> new RuntimeException("Usuário não encontrado"));
 
         // 3. GERA TOKEN JWT
-        UserDetails userDetails = userDetailsService.loadUserByUsername(usuario.getEmail());
-        String jwtToken = jwtService.generateToken(userDetails);
+        String jwtToken = jwtService.generateToken(UsuarioAutenticado.de(usuario));
 
         // 4. RETORNA RESPONSE
         return AuthenticationResponse.builder()
@@ -4,8 +4,10 @@ import br.com.minhavenda.minhavenda.application.dto.AtualizarCategoriaRequest;
 import br.com.minhavenda.minhavenda.application.dto.CategoriaDTO;
 import br.com.minhavenda.minhavenda.application.mapper.CategoriaMapper;
 import br.com.minhavenda.minhavenda.domain.entity.Categoria;
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CategoriaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,6 +20,7 @@ public class AtualizarCategoriaUseCase {
 
     private final CategoriaRepository categoriaRepository;
     private final CategoriaMapper categoriaMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategoriaDTO executar(Long id, AtualizarCategoriaRequest request) {
@@ -41,6 +44,8 @@ public class AtualizarCategoriaUseCase {
         // Salvar
         Categoria categoriaAtualizada = categoriaRepository.save(categoria);
 
+        eventPublisher.publishEvent(new CategoriaAlteradaEvent(id));
+
         // Retornar DTO
         return categoriaMapper.toDTO(categoriaAtualizada);
     }
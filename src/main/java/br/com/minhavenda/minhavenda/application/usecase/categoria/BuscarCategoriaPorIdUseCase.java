@@ -2,16 +2,17 @@ package br.com.minhavenda.minhavenda.application.usecase.categoria;
 
 import br.com.minhavenda.minhavenda.application.dto.CategoriaDTO;
 import br.com.minhavenda.minhavenda.application.mapper.CategoriaMapper;
-import br.com.minhavenda.minhavenda.domain.entity.Categoria;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheCatalogo;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CategoriaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 /**
  * Use Case para buscar categoria por ID.
+ *
+ * Consulta o {@link CacheCatalogo} antes do banco.
  */
 @Service
 @RequiredArgsConstructor
@@ -19,17 +20,17 @@ public class BuscarCategoriaPorIdUseCase {
 
     private final CategoriaRepository categoriaRepository;
     private final CategoriaMapper categoriaMapper;
+    private final CacheCatalogo cacheCatalogo;
 
-    @Transactional(readOnly = true)
     public Optional<CategoriaDTO> executar(Long id) {
-        Optional<Categoria> categoria = categoriaRepository.findById(id);
-        return categoria.map(categoriaMapper::toDTO);
+        return Optional.ofNullable(cacheCatalogo.categorias().buscar(id, chave ->
+                categoriaRepository.findById(chave)
+                        .map(categoriaMapper::toDTO)
+                        .orElse(null)));
     }
 
-    @Transactional(readOnly = true)
     public CategoriaDTO executarOuFalhar(Long id) {
-        Categoria categoria = categoriaRepository.findById(id)
+        return executar(id)
                 .orElseThrow(() -> new RuntimeException("Categoria não encontrada com ID: " + id));
-        return categoriaMapper.toDTO(categoria);
     }
-}
\ No newline at end of file
+}
@@ -3,8 +3,10 @@ package br.com.minhavenda.minhavenda.application.usecase.categoria;
 import br.com.minhavenda.minhavenda.application.dto.CategoriaDTO;
 import br.com.minhavenda.minhavenda.application.mapper.CategoriaMapper;
 import br.com.minhavenda.minhavenda.domain.entity.Categoria;
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CategoriaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,7 @@ public class CriarCategoriaUseCase {
 
     private final CategoriaRepository categoriaRepository;
     private final CategoriaMapper categoriaMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CategoriaDTO executar(CategoriaDTO categoriaDTO) {
@@ -35,6 +38,8 @@ public class CriarCategoriaUseCase {
         // Salvar
         Categoria categoriaSalva = categoriaRepository.save(categoria);
 
+        eventPublisher.publishEvent(new CategoriaAlteradaEvent(categoriaSalva.getId()));
+
         // Retornar DTO
         return categoriaMapper.toDTO(categoriaSalva);
     }
@@ -1,8 +1,10 @@
 package br.com.minhavenda.minhavenda.application.usecase.categoria;
 
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CategoriaRepository;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,7 @@ public class ExcluirCategoriaUseCase {
 
     private final CategoriaRepository categoriaRepository;
     private final ProdutoRepository produtoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void executar(Long id) {
@@ -30,5 +33,7 @@ public class ExcluirCategoriaUseCase {
 
         // Excluir
         categoriaRepository.deleteById(id);
+
+        eventPublisher.publishEvent(new CategoriaAlteradaEvent(id));
     }
 }
\ No newline at end of file
@@ -1,12 +1,18 @@
 package br.com.minhavenda.minhavenda.application.usecase.categoria;
 
 import br.com.minhavenda.minhavenda.application.dto.CategoriaDTO;
+import br.com.minhavenda.minhavenda.application.dto.ListaLimitada;
 import br.com.minhavenda.minhavenda.application.mapper.CategoriaMapper;
 import br.com.minhavenda.minhavenda.domain.entity.Categoria;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheCatalogo;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CategoriaRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +20,9 @@ import java.util.List;
 
 /**
  * Use Case para listar categorias.
+ *
+ * A lista de categorias ativas vem do {@link CacheCatalogo}; em caso de
+ * acerto, nenhuma transação ou conexão é aberta.
  */
 @Service
 @RequiredArgsConstructor
@@ -21,11 +30,17 @@ public class ListarCategoriasUseCase {
 
     private final CategoriaRepository categoriaRepository;
     private final CategoriaMapper categoriaMapper;
+    private final CacheCatalogo cacheCatalogo;
+
+    /** Teto de itens das listagens sem paginação */
+    @Value("${catalogo.listagem.maximo-itens:1000}")
+    private int maximoItens;
 
-    @Transactional(readOnly = true)
     public List<CategoriaDTO> executar() {
-        List<Categoria> categorias = categoriaRepository.findByAtivoTrue();
-        return categoriaMapper.toDTO(categorias);
+        return cacheCatalogo.categoriasAtivas().buscar(CacheCatalogo.TODOS, chave -> {
+            List<Categoria> categorias = categoriaRepository.findByAtivoTrue();
+            return List.copyOf(categoriaMapper.toDTO(categorias));
+        });
     }
 
     @Transactional(readOnly = true)
@@ -34,10 +49,17 @@ public class ListarCategoriasUseCase {
         return categorias.map(categoriaMapper::toDTO);
     }
 
+    /**
+     * Lista categorias ativas e inativas, ordenadas por nome, até o limite
+     * (no máximo catalogo.listagem.maximo-itens).
+     *
+     * @param limite quantidade de itens desejada (null = máximo)
+     */
     @Transactional(readOnly = true)
-    public List<CategoriaDTO> listarTodas() {
-        List<Categoria> categorias = categoriaRepository.findAll();
-        return categoriaMapper.toDTO(categorias);
+    public ListaLimitada<CategoriaDTO> listarTodas(Integer limite) {
+        int maximo = limite != null ? Math.max(1, Math.min(limite, maximoItens)) : maximoItens;
+        Slice<Categoria> categorias = categoriaRepository.findAllBy(PageRequest.of(0, maximo, Sort.by("nome", "id")));
+        return new ListaLimitada<>(categoriaMapper.toDTO(categorias.getContent()), categorias.hasNext());
     }
 
     @Transactional(readOnly = true)
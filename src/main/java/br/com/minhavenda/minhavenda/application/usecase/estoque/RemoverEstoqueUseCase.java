@@ -1,7 +1,10 @@
 package br.com.minhavenda.minhavenda.application.usecase.estoque;
 
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
 import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.infrastructure.eventos.OutboxEventos;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.retry.RetentarEmConflito;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -18,6 +21,7 @@ import java.util.UUID;
  * - Validar se há estoque suficiente
  * - Remover quantidade do estoque
  * - Registrar log da operação
+ * - Registrar ESTOQUE_ATUALIZADO no outbox
  */
 @Slf4j
 @Service
@@ -25,6 +29,7 @@ import java.util.UUID;
 public class RemoverEstoqueUseCase {
 
     private final ProdutoRepository produtoRepository;
+    private final OutboxEventos outboxEventos;
 
     /**
      * Remove estoque de um produto.
@@ -35,6 +40,7 @@ public class RemoverEstoqueUseCase {
      * @throws RuntimeException se produto não encontrado
      * @throws IllegalArgumentException se quantidade inválida ou estoque insuficiente
      */
+    @RetentarEmConflito
     @Transactional
     public void executar(UUID produtoId, Integer quantidade, String motivo) {
         log.info("Removendo {} unidades do estoque do produto {}", quantidade, produtoId);
@@ -65,6 +71,7 @@ public class RemoverEstoqueUseCase {
 
         // Salvar
         produtoRepository.save(produto);
+        outboxEventos.registrar(EventoDominio.estoqueAtualizado(produtoId, estoqueAtual, novoEstoque));
 
         log.info("Estoque atualizado. Produto {}: {} → {}. Motivo: {}",
                 produtoId, estoqueAtual, novoEstoque, motivo != null ? motivo : "Não informado");
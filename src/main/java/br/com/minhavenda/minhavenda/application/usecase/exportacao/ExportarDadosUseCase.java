@@ -0,0 +1,221 @@
+package br.com.minhavenda.minhavenda.application.usecase.exportacao;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.estoque.EstoqueExportacaoDTO;
+import br.com.minhavenda.minhavenda.application.dto.pedido.PedidoDetalhadoDTO;
+import br.com.minhavenda.minhavenda.application.mapper.PedidoMapper;
+import br.com.minhavenda.minhavenda.domain.entity.Estoque;
+import br.com.minhavenda.minhavenda.domain.entity.ItemPedido;
+import br.com.minhavenda.minhavenda.domain.entity.Pedido;
+import br.com.minhavenda.minhavenda.domain.enums.StatusPedido;
+import br.com.minhavenda.minhavenda.infrastructure.exportacao.ColunaCsv;
+import br.com.minhavenda.minhavenda.infrastructure.exportacao.EscritorExportacao;
+import br.com.minhavenda.minhavenda.infrastructure.exportacao.FormatoExportacao;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.EstoqueRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.PedidoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoConsultaRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Use Case para exportação administrativa em streaming (NDJSON ou CSV).
+ *
+ * Responsabilidades:
+ * - Exportar produtos (ativos e inativos)
+ * - Exportar pedidos com itens (opcionalmente por status)
+ * - Exportar estoque
+ *
+ * Cada exportação lê um Stream do repositório (ResultSet em lotes do fetch
+ * size) e escreve registro a registro no OutputStream da resposta. Entidades
+ * são desanexadas do contexto de persistência assim que escritas, então a
+ * memória usada é constante, independente do tamanho das tabelas.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExportarDadosUseCase {
+
+    /** Linhas buscadas por ida ao banco (produtos; pedidos e estoque usam a hint da query) */
+    private static final int FETCH_SIZE = 500;
+
+    private static final List<ColunaCsv<ProdutoDTO>> COLUNAS_PRODUTO = List.of(
+            ColunaCsv.de("id", ProdutoDTO::getId),
+            ColunaCsv.de("nome", ProdutoDTO::getNome),
+            ColunaCsv.de("descricao", ProdutoDTO::getDescricao),
+            ColunaCsv.de("preco", produto -> produto.getPreco() != null ? produto.getPreco().getValor() : null),
+            ColunaCsv.de("ativo", ProdutoDTO::getAtivo),
+            ColunaCsv.de("categoria_id", ProdutoDTO::getCategoriaId),
+            ColunaCsv.de("categoria_nome", ProdutoDTO::getCategoriaNome),
+            ColunaCsv.de("quantidade_estoque", ProdutoDTO::getQuantidadeEstoque),
+            ColunaCsv.de("data_cadastro", ProdutoDTO::getDataCadastro)
+    );
+
+    /** Uma linha por item, com os dados do pedido repetidos */
+    private static final List<ColunaCsv<ItemPedido>> COLUNAS_PEDIDO = List.of(
+            ColunaCsv.de("pedido_id", item -> item.getPedido().getId()),
+            ColunaCsv.de("status", item -> item.getPedido().getStatus()),
+            ColunaCsv.de("data_criacao", item -> item.getPedido().getDataCriacao()),
+            ColunaCsv.de("valor_total", item -> item.getPedido().getValorTotal()),
+            ColunaCsv.de("item_id", ItemPedido::getId),
+            ColunaCsv.de("produto_id", item -> item.getProduto().getId()),
+            ColunaCsv.de("produto_nome", ItemPedido::getProdutoNome),
+            ColunaCsv.de("quantidade", ItemPedido::getQuantidade),
+            ColunaCsv.de("preco_unitario", ItemPedido::getPrecoUnitario),
+            ColunaCsv.de("subtotal", ItemPedido::getSubtotal)
+    );
+
+    private static final List<ColunaCsv<EstoqueExportacaoDTO>> COLUNAS_ESTOQUE = List.of(
+            ColunaCsv.de("produto_id", EstoqueExportacaoDTO::produtoId),
+            ColunaCsv.de("produto_nome", EstoqueExportacaoDTO::produtoNome),
+            ColunaCsv.de("quantidade", EstoqueExportacaoDTO::quantidade),
+            ColunaCsv.de("atualizado_em", EstoqueExportacaoDTO::atualizadoEm)
+    );
+
+    private final ProdutoConsultaRepository produtoConsultaRepository;
+    private final PedidoRepository pedidoRepository;
+    private final EstoqueRepository estoqueRepository;
+    private final PedidoMapper pedidoMapper;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Exporta todos os produtos (ativos e inativos), ordenados por nome.
+     * Projeção em DTO: nada entra no contexto de persistência.
+     *
+     * @return quantidade de produtos exportados
+     */
+    public long exportarProdutos(FormatoExportacao formato, OutputStream saida) throws IOException {
+        EscritorExportacao<ProdutoDTO> escritor = EscritorExportacao.de(formato, objectMapper, COLUNAS_PRODUTO, saida);
+        long total = 0;
+
+        try (Stream<ProdutoDTO> produtos = produtoConsultaRepository.stream(null, Sort.by("nome", "id"), FETCH_SIZE)) {
+            for (Iterator<ProdutoDTO> it = produtos.iterator(); it.hasNext(); ) {
+                escritor.escrever(it.next());
+                total++;
+            }
+        }
+
+        escritor.finalizar();
+        log.info("Exportação de produtos ({}): {} registros", formato, total);
+        return total;
+    }
+
+    /**
+     * Exporta pedidos com seus itens, do mais antigo para o mais recente.
+     *
+     * NDJSON: um pedido detalhado (com itens) por linha. CSV: uma linha por
+     * item. Os itens vêm de uma única query ordenada por pedido, então basta
+     * guardar os itens do pedido corrente. Pedidos sem itens não aparecem.
+     *
+     * @param status filtro por status (null = todos)
+     * @return quantidade de pedidos exportados
+     */
+    public long exportarPedidos(StatusPedido status, FormatoExportacao formato, OutputStream saida) throws IOException {
+        long total = 0;
+
+        try (Stream<ItemPedido> itens = pedidoRepository.streamItensComPedido(status)) {
+            Iterator<ItemPedido> it = itens.iterator();
+
+            if (formato == FormatoExportacao.CSV) {
+                EscritorExportacao<ItemPedido> escritor = EscritorExportacao.csv(COLUNAS_PEDIDO, saida);
+                Pedido anterior = null;
+                while (it.hasNext()) {
+                    ItemPedido item = it.next();
+                    escritor.escrever(item);
+                    if (item.getPedido() != anterior) {
+                        desanexar(anterior);
+                        anterior = item.getPedido();
+                        total++;
+                    }
+                    entityManager.detach(item);
+                }
+                desanexar(anterior);
+                escritor.finalizar();
+            } else {
+                EscritorExportacao<PedidoDetalhadoDTO> escritor = EscritorExportacao.ndjson(objectMapper, saida);
+                Pedido atual = null;
+                List<ItemPedido> doPedido = new ArrayList<>();
+                while (it.hasNext()) {
+                    ItemPedido item = it.next();
+                    if (atual != null && item.getPedido() != atual) {
+                        escreverPedido(escritor, atual, doPedido);
+                        total++;
+                    }
+                    atual = item.getPedido();
+                    doPedido.add(item);
+                }
+                if (atual != null) {
+                    escreverPedido(escritor, atual, doPedido);
+                    total++;
+                }
+                escritor.finalizar();
+            }
+        }
+
+        log.info("Exportação de pedidos ({}, status={}): {} registros", formato, status, total);
+        return total;
+    }
+
+    /**
+     * Exporta o estoque de todos os produtos, ordenado por nome do produto.
+     *
+     * @return quantidade de registros exportados
+     */
+    public long exportarEstoque(FormatoExportacao formato, OutputStream saida) throws IOException {
+        EscritorExportacao<EstoqueExportacaoDTO> escritor =
+                EscritorExportacao.de(formato, objectMapper, COLUNAS_ESTOQUE, saida);
+        long total = 0;
+
+        try (Stream<Estoque> estoques = estoqueRepository.streamComProduto()) {
+            for (Iterator<Estoque> it = estoques.iterator(); it.hasNext(); ) {
+                Estoque estoque = it.next();
+                escritor.escrever(new EstoqueExportacaoDTO(
+                        estoque.getProduto().getId(),
+                        estoque.getProduto().getNome(),
+                        estoque.getQuantidade(),
+                        estoque.getAtualizadoEm()
+                ));
+                entityManager.detach(estoque.getProduto());
+                entityManager.detach(estoque);
+                total++;
+            }
+        }
+
+        escritor.finalizar();
+        log.info("Exportação de estoque ({}): {} registros", formato, total);
+        return total;
+    }
+
+    private void escreverPedido(
+            EscritorExportacao<PedidoDetalhadoDTO> escritor,
+            Pedido pedido,
+            List<ItemPedido> itens
+    ) throws IOException {
+        escritor.escrever(pedidoMapper.toDetalhadoDTO(pedido, itens));
+        itens.forEach(entityManager::detach);
+        itens.clear();
+        desanexar(pedido);
+    }
+
+    private void desanexar(Object entidade) {
+        if (entidade != null) {
+            entityManager.detach(entidade);
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package br.com.minhavenda.minhavenda.application.usecase.produto;
 
 import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
-import br.com.minhavenda.minhavenda.application.mapper.ProdutoMapper;
-import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheCatalogo;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoConsultaRepository;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.specification.ProdutoSpecification;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -15,16 +17,17 @@ import java.util.UUID;
  * Use Case para buscar produto por ID.
  * 
  * Responsabilidades:
- * - Buscar produto no repository
+ * - Buscar produto no cache do catálogo ({@link CacheCatalogo})
+ * - Em caso de falta, projetar o DTO direto do banco
  * - Validar existência
- * - Converter para DTO
  */
 @Service
 @RequiredArgsConstructor
 public class BuscarProdutoPorIdUseCase {
 
+    private final ProdutoConsultaRepository produtoConsultaRepository;
     private final ProdutoRepository produtoRepository;
-    private final ProdutoMapper produtoMapper;
+    private final CacheCatalogo cacheCatalogo;
 
     /**
      * Busca produto por ID.
@@ -32,10 +35,23 @@ public class BuscarProdutoPorIdUseCase {
      * @param id ID do produto
      * @return Optional com ProdutoDTO se encontrado
      */
-    @Transactional(readOnly = true)
     public Optional<ProdutoDTO> executar(UUID id) {
-        Optional<Produto> produto = produtoRepository.findById(id);
-        return produto.map(produtoMapper::toDTO);
+        return Optional.ofNullable(cacheCatalogo.produtos().buscar(id, chave ->
+                produtoConsultaRepository.listar(ProdutoSpecification.porIds(List.of(chave)), Sort.unsorted())
+                        .stream()
+                        .findFirst()
+                        .orElse(null)));
+    }
+
+    /**
+     * Verifica se o produto existe sem montar o DTO: cache local ou
+     * existsById (GET condicional, antes de responder 304).
+     *
+     * @param id ID do produto
+     * @return true se o produto existe
+     */
+    public boolean existe(UUID id) {
+        return cacheCatalogo.produtos().contemLocal(id) || produtoRepository.existsById(id);
     }
 
     /**
@@ -45,10 +61,8 @@ public class BuscarProdutoPorIdUseCase {
      * @return ProdutoDTO
      * @throws RuntimeException se produto não encontrado
      */
-    @Transactional(readOnly = true)
     public ProdutoDTO executarOuFalhar(UUID id) {
-        Produto produto = produtoRepository.findById(id)
+        return executar(id)
                 .orElseThrow(() -> new RuntimeException("Produto não encontrado com ID: " + id));
-        return produtoMapper.toDTO(produto);
     }
 }
@@ -4,17 +4,22 @@ import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
 import br.com.minhavenda.minhavenda.application.mapper.ProdutoMapper;
 import br.com.minhavenda.minhavenda.domain.entity.Estoque;
 import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.domain.event.ProdutoAlteradoEvent;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.Set;
+
 @Service
 @RequiredArgsConstructor
 public class CriarProdutoUseCase {
 
     private final ProdutoRepository produtoRepository;
     private final ProdutoMapper produtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProdutoDTO execute(ProdutoDTO produtoDTO) {
@@ -32,6 +37,10 @@ public class CriarProdutoUseCase {
         
         // Salva o produto no banco de dados (o estoque será salvo em cascata)
         Produto produtoSalvo = produtoRepository.save(produto);
+
+        // O ID só existe após o save; índices de busca são atualizados após o commit
+        eventPublisher.publishEvent(new ProdutoAlteradoEvent(produtoSalvo.getId(),
+                produtoSalvo.getCategoria() != null ? Set.of(produtoSalvo.getCategoria().getId()) : Set.of()));
         
         // Converte a entidade salva de volta para DTO e retorna
         return produtoMapper.toDTO(produtoSalvo);
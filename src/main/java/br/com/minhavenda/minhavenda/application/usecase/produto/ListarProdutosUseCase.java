@@ -1,30 +1,50 @@
 package br.com.minhavenda.minhavenda.application.usecase.produto;
 
+import br.com.minhavenda.minhavenda.application.dto.ListaLimitada;
+import br.com.minhavenda.minhavenda.application.dto.PaginaCursor;
+import br.com.minhavenda.minhavenda.application.dto.PaginaFacetada;
 import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
 import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
-import br.com.minhavenda.minhavenda.application.mapper.ProdutoMapper;
 import br.com.minhavenda.minhavenda.domain.entity.Produto;
-import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.busca.ContadorFacetas;
+import br.com.minhavenda.minhavenda.infrastructure.busca.MotorBusca;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheCatalogo;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheConsultasProduto;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CampoOrdenacaoProduto;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoConsultaRepository;
 import br.com.minhavenda.minhavenda.infrastructure.persistence.specification.ProdutoSpecification;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
  * Use Case para listar e buscar produtos.
  *
  * Responsabilidades:
- * - Listar produtos ativos (com/sem paginação)
+ * - Listar produtos ativos (paginados ou até o teto de itens)
  * - Buscar produtos por termo
  * - Buscar produtos com filtros dinâmicos
- * - Listar todos produtos (admin)
+ * - Listar todos produtos (admin, paginados ou até o teto de itens)
+ *
+ * As leituras usam {@link ProdutoConsultaRepository}, que projeta
+ * ProdutoDTO direto do SQL, sem carregar entidades Produto. Buscas
+ * por termo passam pelo {@link MotorBusca} configurado
+ * (catalogo.busca.modo).
  */
 @Service
 @RequiredArgsConstructor
@@ -32,20 +52,40 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ListarProdutosUseCase {
 
-    private final ProdutoRepository produtoRepository;
-    private final ProdutoMapper produtoMapper;
+    /** Limite de itens por fatia na listagem por cursor */
+    private static final int TAMANHO_MAXIMO_CURSOR = 100;
+
+    /** Ordenação estável das listagens sem paginação: o corte no limite é determinístico */
+    private static final Sort ORDEM_LISTAGEM = Sort.by("nome", "id");
+
+    private final ProdutoConsultaRepository produtoConsultaRepository;
+    private final MotorBusca motorBusca;
+    private final ContadorFacetas contadorFacetas;
+    private final CacheCatalogo cacheCatalogo;
+    private final CacheConsultasProduto cacheConsultasProduto;
+
+    /** Teto de itens das listagens sem paginação */
+    @Value("${catalogo.listagem.maximo-itens:1000}")
+    private int maximoItens;
 
     /**
-     * Lista todos produtos ativos (sem paginação).
-     * Uso: Listagem simples, catálogo pequeno.
+     * Lista produtos ativos ordenados por nome, sem paginação, até o limite
+     * (no máximo catalogo.listagem.maximo-itens).
+     *
+     * O teto inteiro (mais um item, para saber se houve corte) vem do
+     * {@link CacheCatalogo}; em caso de acerto, nenhuma transação ou
+     * conexão é aberta (SUPPORTS).
+     *
+     * @param limite quantidade de itens desejada (null = máximo)
      */
-    public List<ProdutoDTO> executar() {
-        log.debug("Listando todos produtos ativos");
-        List<Produto> produtos = produtoRepository.findByAtivoTrue();
-
-        return produtos.stream()
-                .map(produtoMapper::toDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public ListaLimitada<ProdutoDTO> listarAtivos(Integer limite) {
+        List<ProdutoDTO> ativos = cacheCatalogo.produtosAtivos().buscar(CacheCatalogo.TODOS, chave -> {
+            log.debug("Listando até {} produtos ativos", maximoItens);
+            return List.copyOf(produtoConsultaRepository.listar(
+                    ProdutoSpecification.apenasAtivos(), ORDEM_LISTAGEM, maximoItens + 1));
+        });
+        return ListaLimitada.de(ativos, limitar(limite));
     }
 
     /**
@@ -56,9 +96,30 @@ public class ListarProdutosUseCase {
      */
     public Page<ProdutoDTO> executar(Pageable pageable) {
         log.debug("Listando produtos ativos com paginação: {}", pageable);
-        Page<Produto> produtos = produtoRepository.findByAtivoTrue(pageable);
+        return produtoConsultaRepository.listar(ProdutoSpecification.apenasAtivos(), pageable);
+    }
 
-        return produtos.map(produtoMapper::toDTO);
+    /**
+     * Lista produtos ativos por cursor (keyset).
+     * Uso: navegação profunda / scroll infinito, sem COUNT(*) por request.
+     *
+     * @param campo Campo de ordenação
+     * @param direcao Direção da ordenação
+     * @param after Cursor da fatia anterior (null = primeira fatia)
+     * @param tamanho Quantidade de itens na fatia
+     * @param incluirTotal Se deve calcular o total de produtos
+     */
+    public PaginaCursor<ProdutoDTO> listarPorCursor(
+            CampoOrdenacaoProduto campo,
+            Sort.Direction direcao,
+            String after,
+            int tamanho,
+            boolean incluirTotal
+    ) {
+        log.debug("Listando produtos ativos por cursor: campo={}, direcao={}, tamanho={}", campo, direcao, tamanho);
+        int tamanhoFatia = Math.max(1, Math.min(tamanho, TAMANHO_MAXIMO_CURSOR));
+        return produtoConsultaRepository.listarPorCursor(
+                ProdutoSpecification.apenasAtivos(), campo, direcao, after, tamanhoFatia, incluirTotal);
     }
 
     /**
@@ -75,8 +136,12 @@ public class ListarProdutosUseCase {
             return executar(pageable);
         }
 
-        Page<Produto> produtos = produtoRepository.buscarPorTermo(termo.trim(), pageable);
-        return produtos.map(produtoMapper::toDTO);
+        FiltroProdutoRequest filtro = FiltroProdutoRequest.builder()
+                .termo(termo.trim())
+                .ativo(true)
+                .build();
+
+        return motorBusca.buscar(filtro, pageable);
     }
 
     /**
@@ -86,7 +151,26 @@ public class ListarProdutosUseCase {
      * @param filtro Filtros de busca
      * @param pageable Configuração de paginação e ordenação
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public Page<ProdutoDTO> buscarComFiltros(FiltroProdutoRequest filtro, Pageable pageable) {
+        return buscarComFiltros(filtro, pageable, false);
+    }
+
+    /**
+     * Busca produtos com filtros, opcionalmente com as facetas
+     * (contagem por categoria, faixas de preço e estoque).
+     *
+     * Os IDs de cada página vêm do {@link CacheConsultasProduto} e os
+     * produtos do {@link CacheCatalogo}; com os dois em acerto, nenhuma
+     * transação ou conexão é aberta (SUPPORTS).
+     *
+     * @param filtro Filtros de busca
+     * @param pageable Configuração de paginação e ordenação
+     * @param incluirFacetas Se deve calcular as facetas (uma query a mais)
+     * @return página comum, ou {@link PaginaFacetada} com as facetas
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Page<ProdutoDTO> buscarComFiltros(FiltroProdutoRequest filtro, Pageable pageable, boolean incluirFacetas) {
         log.debug("Buscando produtos com filtros: {} e paginação: {}", filtro, pageable);
 
         // Validar faixa de preço
@@ -94,33 +178,29 @@ public class ListarProdutosUseCase {
             throw new IllegalArgumentException("Preço mínimo deve ser menor ou igual ao preço máximo");
         }
 
-        // Se nenhum filtro aplicado, retorna apenas produtos ativos
-        if (!filtro.hasAnyFilter() && Boolean.TRUE.equals(filtro.getAtivo())) {
-            return executar(pageable);
-        }
-
-        // Construir Specification com filtros
-        Specification<Produto> spec = ProdutoSpecification.comFiltros(filtro);
-
-        // Executar query
-        Page<Produto> produtos = produtoRepository.findAll(spec, pageable);
+        Page<ProdutoDTO> produtos = cacheConsultasProduto.buscar(
+                filtro, pageable, () -> consultar(filtro, pageable), this::hidratar);
 
         log.debug("Encontrados {} produtos com os filtros aplicados", produtos.getTotalElements());
 
-        return produtos.map(produtoMapper::toDTO);
+        if (incluirFacetas) {
+            return new PaginaFacetada<>(produtos, contarFacetas(filtro, pageable));
+        }
+        return produtos;
     }
 
     /**
-     * Lista todos produtos incluindo inativos (sem paginação).
+     * Lista produtos incluindo inativos, ordenados por nome, até o limite
+     * (no máximo catalogo.listagem.maximo-itens). Para o catálogo inteiro,
+     * a exportação em /admin/exportacao/produtos.
      * ADMIN APENAS.
+     *
+     * @param limite quantidade de itens desejada (null = máximo)
      */
-    public List<ProdutoDTO> listarTodos() {
-        log.debug("Listando TODOS produtos (ativos e inativos)");
-        List<Produto> produtos = produtoRepository.findAll();
-
-        return produtos.stream()
-                .map(produtoMapper::toDTO)
-                .collect(Collectors.toList());
+    public ListaLimitada<ProdutoDTO> listarTodos(Integer limite) {
+        int maximo = limitar(limite);
+        log.debug("Listando até {} produtos (ativos e inativos)", maximo);
+        return ListaLimitada.de(produtoConsultaRepository.listar(null, ORDEM_LISTAGEM, maximo + 1), maximo);
     }
 
     /**
@@ -131,8 +211,51 @@ public class ListarProdutosUseCase {
      */
     public Page<ProdutoDTO> listarTodos(Pageable pageable) {
         log.debug("Listando TODOS produtos com paginação: {}", pageable);
-        Page<Produto> produtos = produtoRepository.findAll(pageable);
+        return produtoConsultaRepository.listar(null, pageable);
+    }
+
+    private int limitar(Integer limite) {
+        return limite != null ? Math.max(1, Math.min(limite, maximoItens)) : maximoItens;
+    }
+
+    private Page<ProdutoDTO> consultar(FiltroProdutoRequest filtro, Pageable pageable) {
+        if (!filtro.hasAnyFilter() && Boolean.TRUE.equals(filtro.getAtivo())) {
+            // Nenhum filtro aplicado: apenas produtos ativos
+            return executar(pageable);
+        }
+        if (filtro.getTermo() != null && !filtro.getTermo().trim().isEmpty()) {
+            // Com termo: motor de busca (LIKE ou full-text)
+            return motorBusca.buscar(filtro, pageable);
+        }
+        // Sem termo: Specification com os demais filtros
+        Specification<Produto> spec = ProdutoSpecification.comFiltros(filtro);
+        return produtoConsultaRepository.listar(spec, pageable);
+    }
+
+    /**
+     * Facetas sobre o mesmo conjunto de {@link #consultar}: com termo, pelo
+     * motor de busca (mesma regra de casamento); sem termo, só os filtros.
+     */
+    private FacetasProdutoDTO contarFacetas(FiltroProdutoRequest filtro, Pageable pageable) {
+        if (filtro.getTermo() != null && !filtro.getTermo().trim().isEmpty()) {
+            return motorBusca.contarFacetas(filtro, pageable.getSort());
+        }
+        return contadorFacetas.contar(filtro);
+    }
+
+    /**
+     * Carrega os produtos dos IDs pelo cache de produtos, preservando a
+     * ordem. Os que faltarem vêm do banco em uma única query.
+     */
+    private List<ProdutoDTO> hidratar(List<UUID> ids) {
+        Map<UUID, ProdutoDTO> porId = cacheCatalogo.produtos().buscarTodos(ids, faltantes ->
+                produtoConsultaRepository.listar(ProdutoSpecification.porIds(faltantes), Sort.unsorted())
+                        .stream()
+                        .collect(Collectors.toMap(ProdutoDTO::getId, Function.identity())));
 
-        return produtos.map(produtoMapper::toDTO);
+        return ids.stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package br.com.minhavenda.minhavenda.application.usecase.produto;
+
+import br.com.minhavenda.minhavenda.application.dto.produto.SugestaoDTO;
+import br.com.minhavenda.minhavenda.infrastructure.busca.SugestoesCatalogo;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Use Case para autocomplete de produtos e categorias.
+ *
+ * Responde da trie em memória ({@link SugestoesCatalogo}), sem consultar
+ * o banco: pode ser chamado a cada tecla digitada.
+ */
+@Service
+@RequiredArgsConstructor
+public class SugerirProdutosUseCase {
+
+    private final SugestoesCatalogo sugestoesCatalogo;
+
+    /**
+     * @param prefixo texto digitado até agora
+     * @param limite quantidade máxima de sugestões
+     * @return nomes de produtos e categorias, dos mais vendidos para os menos
+     */
+    public List<SugestaoDTO> executar(String prefixo, int limite) {
+        return sugestoesCatalogo.sugerir(prefixo, limite);
+    }
+}
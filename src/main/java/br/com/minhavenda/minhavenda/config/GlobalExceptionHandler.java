@@ -4,6 +4,7 @@ import br.com.minhavenda.minhavenda.domain.exception.BusinessException;
 import br.com.minhavenda.minhavenda.domain.exception.EntityAlreadyExistsException;
 import br.com.minhavenda.minhavenda.domain.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -136,6 +137,26 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Trata conflito de versão (optimistic locking) após esgotar as retentativas
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex,
+            WebRequest request
+    ) {
+        log.warn("Conflito de concorrência: {}", ex.getMessage());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                "O recurso foi alterado por outra requisição. Tente novamente.",
+                LocalDateTime.now(),
+                request.getDescription(false).replace("uri=", "")
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     /**
      * Trata erros gerais de negócio
      */
@@ -94,6 +94,13 @@ public class Carrinho {
     @Column(name = "data_atualizacao", nullable = false)
     private LocalDateTime dataAtualizacao;
 
+    /**
+     * Versão para controle de concorrência otimista.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     /**
      * Quantidade total de itens no carrinho.
      */
@@ -0,0 +1,43 @@
+package br.com.minhavenda.minhavenda.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * O que um incremento da {@link CatalogoVersao} alterou: um produto, ou uma
+ * categoria (afetada por um produto ou alterada ela mesma).
+ *
+ * Gravada e lida via SQL pela VersaoCatalogo; o mapeamento existe para que
+ * o schema gerado pelo Hibernate (testes em H2) tenha a tabela.
+ */
+@Entity
+@Table(name = "catalogo_alteracoes", indexes = {
+    @Index(name = "idx_catalogo_alteracoes_versao", columnList = "versao"),
+    @Index(name = "idx_catalogo_alteracoes_registro", columnList = "registrado_em")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogoAlteracao {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long versao;
+
+    @Column(name = "produto_id")
+    private UUID produtoId;
+
+    @Column(name = "categoria_id")
+    private Long categoriaId;
+
+    @Column(name = "categoria_alterada", nullable = false)
+    private Boolean categoriaAlterada;
+
+    @Column(name = "registrado_em", nullable = false)
+    private Instant registradoEm;
+}
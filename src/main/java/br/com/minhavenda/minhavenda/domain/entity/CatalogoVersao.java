@@ -0,0 +1,30 @@
+package br.com.minhavenda.minhavenda.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Versão do catálogo compartilhada entre instâncias (linha única, id = 1).
+ *
+ * Lida e incrementada via SQL pela VersaoCatalogo; o mapeamento existe
+ * para que o schema gerado pelo Hibernate (testes em H2) tenha a tabela.
+ */
+@Entity
+@Table(name = "catalogo_versao")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogoVersao {
+
+    public static final short ID = 1;
+
+    @Id
+    private Short id;
+
+    @Column(nullable = false)
+    private Long versao;
+
+    @Column(name = "atualizado_em", nullable = false)
+    private Instant atualizadoEm;
+}
@@ -30,6 +30,10 @@ public class Estoque {
     @Column(name = "atualizado_em", nullable = false)
     private Instant atualizadoEm;
 
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @PrePersist
     @PreUpdate
     protected void onUpdate() {
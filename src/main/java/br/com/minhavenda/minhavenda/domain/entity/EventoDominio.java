@@ -38,6 +38,21 @@ public class EventoDominio {
     @Column(name = "data_publicacao", nullable = false, updatable = false)
     private Instant dataPublicacao;
 
+    /** Confirmação do broker; null enquanto pendente no outbox */
+    @Column(name = "publicado_em")
+    private Instant publicadoEm;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tentativas = 0;
+
+    @Column(name = "ultimo_erro", length = 500)
+    private String ultimoErro;
+
+    /** Relay desistiu após as tentativas máximas; null enquanto na fila */
+    @Column(name = "estacionado_em")
+    private Instant estacionadoEm;
+
     // Factory methods
     public static EventoDominio criar(String tipo, Map<String, Object> payload) {
         if (tipo == null || tipo.trim().isEmpty()) {
@@ -67,7 +82,9 @@ public class EventoDominio {
     public static EventoDominio pedidoPago(UUID pedidoId, UUID pagamentoId) {
         Map<String, Object> payload = new HashMap<>();
         payload.put("pedidoId", pedidoId.toString());
-        payload.put("pagamentoId", pagamentoId.toString());
+        if (pagamentoId != null) {
+            payload.put("pagamentoId", pagamentoId.toString());
+        }
         return criar("PEDIDO_PAGO", payload);
     }
 
@@ -81,10 +98,18 @@ public class EventoDominio {
     public static EventoDominio pedidoEnviado(UUID pedidoId, UUID entregaId) {
         Map<String, Object> payload = new HashMap<>();
         payload.put("pedidoId", pedidoId.toString());
-        payload.put("entregaId", entregaId.toString());
+        if (entregaId != null) {
+            payload.put("entregaId", entregaId.toString());
+        }
         return criar("PEDIDO_ENVIADO", payload);
     }
 
+    public static EventoDominio pedidoEntregue(UUID pedidoId) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("pedidoId", pedidoId.toString());
+        return criar("PEDIDO_ENTREGUE", payload);
+    }
+
     public static EventoDominio estoqueAtualizado(UUID produtoId, Integer quantidadeAnterior, Integer quantidadeAtual) {
         Map<String, Object> payload = new HashMap<>();
         payload.put("produtoId", produtoId.toString());
@@ -93,6 +118,29 @@ public class EventoDominio {
         return criar("ESTOQUE_ATUALIZADO", payload);
     }
 
+    // Outbox
+    public void marcarPublicado(Instant momento) {
+        this.publicadoEm = momento;
+        this.ultimoErro = null;
+    }
+
+    public void registrarFalha(String erro) {
+        this.tentativas++;
+        this.ultimoErro = erro != null && erro.length() > 500 ? erro.substring(0, 500) : erro;
+    }
+
+    public void estacionar(Instant momento) {
+        this.estacionadoEm = momento;
+    }
+
+    public boolean isEstacionado() {
+        return estacionadoEm != null;
+    }
+
+    public boolean isPublicado() {
+        return publicadoEm != null;
+    }
+
     // Métodos de consulta
     public Object getPayloadValue(String key) {
         return payload.get(key);
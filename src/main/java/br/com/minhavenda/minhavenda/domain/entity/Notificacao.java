@@ -39,6 +39,27 @@ public class Notificacao {
     @Column(name = "enviado_em")
     private Instant enviadoEm;
 
+    @Column(name = "criado_em", nullable = false, updatable = false)
+    @Builder.Default
+    private Instant criadoEm = Instant.now();
+
+    /** Quando pode ser (re)enviada; avança enquanto um worker a tem reservada */
+    @Column(name = "proxima_tentativa_em", nullable = false)
+    @Builder.Default
+    private Instant proximaTentativaEm = Instant.now();
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer tentativas = 0;
+
+    @Column(name = "ultimo_erro", length = 500)
+    private String ultimoErro;
+
+    /** Esgotou as tentativas */
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean falhou = false;
+
     // Factory methods
     public static Notificacao criarEmail(Usuario usuario, String mensagem) {
         validarMensagem(mensagem);
@@ -68,6 +89,28 @@ public class Notificacao {
         }
         this.enviado = true;
         this.enviadoEm = Instant.now();
+        this.ultimoErro = null;
+    }
+
+    /**
+     * Reserva (lease) ou adia a notificação: nenhum worker a pega antes do momento.
+     */
+    public void agendar(Instant momento) {
+        this.proximaTentativaEm = momento;
+    }
+
+    /**
+     * Registra uma tentativa sem sucesso. Ao atingir o máximo de tentativas,
+     * a notificação é marcada como falha definitiva.
+     */
+    public void registrarFalha(String erro, Instant proximaTentativa, int tentativasMaximas) {
+        this.tentativas++;
+        this.ultimoErro = erro != null && erro.length() > 500 ? erro.substring(0, 500) : erro;
+        if (this.tentativas >= tentativasMaximas) {
+            this.falhou = true;
+        } else {
+            this.proximaTentativaEm = proximaTentativa;
+        }
     }
 
     public void reenviar() {
@@ -76,10 +119,11 @@ public class Notificacao {
         }
         this.enviado = false;
         this.enviadoEm = null;
+        this.proximaTentativaEm = Instant.now();
     }
 
     public boolean isPendente() {
-        return !this.enviado;
+        return !this.enviado && !this.falhou;
     }
 
     public boolean isEmail() {
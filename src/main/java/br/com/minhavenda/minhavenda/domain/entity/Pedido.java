@@ -76,6 +76,10 @@ public class Pedido {
     @UpdateTimestamp
     private LocalDateTime dataAtualizacao;
 
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @Column(name = "data_pagamento")
     private LocalDateTime dataPagamento;
 
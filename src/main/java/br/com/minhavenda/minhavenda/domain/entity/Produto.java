@@ -1,15 +1,21 @@
 package br.com.minhavenda.minhavenda.domain.entity;
 
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import br.com.minhavenda.minhavenda.domain.event.ProdutoAlteradoEvent;
 import br.com.minhavenda.minhavenda.domain.valueobject.Money;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.validator.constraints.URL;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -21,7 +27,7 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-public class Produto {
+public class Produto extends AbstractAggregateRoot<Produto> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -86,10 +92,12 @@ public class Produto {
     // Métodos de negócio
     public void ativar() {
         this.ativo = true;
+        registrarAlteracao();
     }
 
     public void desativar() {
         this.ativo = false;
+        registrarAlteracao();
     }
 
     public void atualizarPreco(Money novoPreco) {
@@ -100,16 +108,21 @@ public class Produto {
             throw new IllegalArgumentException("O preço deve ser maior que zero");
         }
         this.preco = novoPreco;
+        registrarAlteracao();
     }
 
     public void atualizarCategoria(Categoria novaCategoria) {
+        Set<Long> categoriasAfetadas = categoriaIds();
         this.categoria = novaCategoria;
+        categoriasAfetadas.addAll(categoriaIds());
+        registerEvent(new ProdutoAlteradoEvent(this.id, Set.copyOf(categoriasAfetadas)));
     }
 
     public void atualizarInformacoes(String nome, String descricao, String urlImagem) {
         setNome(nome);
         this.descricao = descricao != null ? descricao.trim() : null;
         this.urlImagem = urlImagem;
+        registrarAlteracao();
     }
     
     public void adicionarEstoque(Integer quantidade) {
@@ -120,6 +133,7 @@ public class Produto {
                 .build();
         }
         this.estoque.adicionar(quantidade);
+        registrarAlteracaoEstoque();
     }
     
     public void removerEstoque(Integer quantidade) {
@@ -127,6 +141,7 @@ public class Produto {
             throw new IllegalStateException("Produto não possui registro de estoque");
         }
         this.estoque.remover(quantidade);
+        registrarAlteracaoEstoque();
     }
     
     public boolean temEstoqueSuficiente(Integer quantidadeDesejada) {
@@ -148,4 +163,34 @@ public class Produto {
 
         return !this.preco.getValor().equals(outroPreco.getValor());
     }
+
+    /**
+     * Registra evento para atualizar índices de busca e caches do catálogo.
+     * Publicado pelo Spring Data ao salvar o produto pelo repository.
+     */
+    private void registrarAlteracao() {
+        registerEvent(new ProdutoAlteradoEvent(this.id, Set.copyOf(categoriaIds())));
+    }
+
+    /**
+     * Registra evento para invalidar caches do catálogo. Produtos novos
+     * (ainda sem ID) são anunciados por quem os cria.
+     */
+    private void registrarAlteracaoEstoque() {
+        if (this.id != null) {
+            registerEvent(new EstoqueAlteradoEvent(List.of(this.id), Set.copyOf(categoriaIds())));
+        }
+    }
+
+    /**
+     * ID da categoria do produto (vazio se não houver), para os eventos.
+     * Em um proxy lazy, getId() não inicializa a categoria.
+     */
+    private Set<Long> categoriaIds() {
+        Set<Long> ids = new HashSet<>();
+        if (this.categoria != null && this.categoria.getId() != null) {
+            ids.add(this.categoria.getId());
+        }
+        return ids;
+    }
 }
@@ -1,9 +1,11 @@
 package br.com.minhavenda.minhavenda.domain.entity;
 
 import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import br.com.minhavenda.minhavenda.domain.event.UsuarioAlteradoEvent;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.AbstractAggregateRoot;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -16,7 +18,7 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
-public class Usuario {
+public class Usuario extends AbstractAggregateRoot<Usuario> {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -46,10 +48,20 @@ public class Usuario {
     // Métodos de negócio
     public void ativar() {
         this.ativo = true;
+        registrarAlteracao();
     }
 
     public void desativar() {
         this.ativo = false;
+        registrarAlteracao();
+    }
+
+    public void alterarTipo(TipoUsuario novoTipo) {
+        if (novoTipo == null) {
+            throw new IllegalArgumentException("Tipo do usuário não pode ser nulo");
+        }
+        this.tipo = novoTipo;
+        registrarAlteracao();
     }
 
     public boolean isAtivo() {
@@ -69,5 +81,14 @@ public class Usuario {
             throw new IllegalArgumentException("Senha hash não pode ser vazia");
         }
         this.senha = novaSenhaHash;
+        registrarAlteracao();
+    }
+
+    /**
+     * Registra evento para invalidar dados de autenticação em cache.
+     * Publicado pelo Spring Data ao salvar o usuário pelo repository.
+     */
+    private void registrarAlteracao() {
+        registerEvent(new UsuarioAlteradoEvent(this.id, this.email));
     }
 }
@@ -0,0 +1,13 @@
+package br.com.minhavenda.minhavenda.domain.event;
+
+/**
+ * Evento de domínio publicado quando uma categoria é criada, alterada ou
+ * excluída.
+ *
+ * Usado para invalidar caches e índices do catálogo após o commit
+ * (produtos carregam o nome da categoria).
+ *
+ * @param categoriaId ID da categoria
+ */
+public record CategoriaAlteradaEvent(Long categoriaId) {
+}
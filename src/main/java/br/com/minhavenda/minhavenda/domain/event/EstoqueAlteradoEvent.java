@@ -0,0 +1,17 @@
+package br.com.minhavenda.minhavenda.domain.event;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado quando a quantidade em estoque de produtos
+ * muda (entrada, saída ou reserva no checkout).
+ *
+ * Usado para invalidar caches do catálogo após o commit.
+ *
+ * @param produtoIds IDs dos produtos cujo estoque mudou
+ * @param categoriaIds categorias desses produtos
+ */
+public record EstoqueAlteradoEvent(List<UUID> produtoIds, Set<Long> categoriaIds) {
+}
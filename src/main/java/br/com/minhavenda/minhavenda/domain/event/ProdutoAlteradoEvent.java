@@ -0,0 +1,18 @@
+package br.com.minhavenda.minhavenda.domain.event;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado quando um produto é criado ou quando dados
+ * usados na busca do catálogo mudam (nome, descrição, preço, categoria
+ * ou ativação).
+ *
+ * Usado para atualizar índices de busca em memória e invalidar caches
+ * do catálogo após o commit.
+ *
+ * @param produtoId ID do produto alterado
+ * @param categoriaIds categorias afetadas (a atual e, numa troca, a anterior)
+ */
+public record ProdutoAlteradoEvent(UUID produtoId, Set<Long> categoriaIds) {
+}
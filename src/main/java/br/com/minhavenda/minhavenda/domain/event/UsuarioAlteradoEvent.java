@@ -0,0 +1,15 @@
+package br.com.minhavenda.minhavenda.domain.event;
+
+import java.util.UUID;
+
+/**
+ * Evento de domínio publicado quando dados relevantes para autenticação
+ * de um usuário mudam (ativação, desativação, senha ou tipo).
+ *
+ * Usado para invalidar caches de principal após o commit.
+ *
+ * @param usuarioId ID do usuário alterado
+ * @param email email do usuário (chave do cache de principal)
+ */
+public record UsuarioAlteradoEvent(UUID usuarioId, String email) {
+}
@@ -0,0 +1,139 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Calcula as facetas de uma busca com filtros em uma única query.
+ *
+ * Agrupa os produtos filtrados por (categoria, faixa de preço, em estoque)
+ * com um GROUP BY e soma as combinações em memória: o resultado tem no
+ * máximo categorias x faixas x 2 linhas, independente do catálogo.
+ *
+ * O termo não é interpretado aqui: cada {@link MotorBusca} passa a mesma
+ * condição (ou os mesmos IDs) que usa na busca, para que as facetas
+ * contem exatamente o conjunto de resultados. As facetas consideram todos
+ * os filtros, inclusive categoria e preço.
+ */
+@Component
+public class ContadorFacetas {
+
+    /** IDs por query em {@link #contarPorIds}, abaixo do limite de parâmetros do driver */
+    private static final int IDS_POR_QUERY = 1000;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final BigDecimal[] limitesFaixas;
+
+    public ContadorFacetas(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            @Value("${catalogo.facetas.faixas-preco:50,100,250,500,1000,2500,5000}") BigDecimal[] limitesFaixas
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.limitesFaixas = limitesFaixas.clone();
+        Arrays.sort(this.limitesFaixas);
+    }
+
+    /**
+     * Facetas dos produtos que atendem aos filtros, sem considerar o termo.
+     */
+    public FacetasProdutoDTO contar(FiltroProdutoRequest filtro) {
+        return contar(filtro, "", new MapSqlParameterSource());
+    }
+
+    /**
+     * Facetas dos produtos que atendem aos filtros e à condição do termo.
+     *
+     * @param condicaoTermo trecho iniciado por " AND " sobre o alias p (produtos),
+     *                      ou vazio; seus valores já devem estar em {@code params}
+     * @param params parâmetros da condição do termo
+     */
+    public FacetasProdutoDTO contar(FiltroProdutoRequest filtro, String condicaoTermo, MapSqlParameterSource params) {
+        Contagem contagem = new Contagem();
+        acumular(filtro, condicaoTermo, params, contagem);
+        return contagem.resultado();
+    }
+
+    /**
+     * Facetas de um conjunto de produtos já encontrado (ex.: pelo índice
+     * em memória), em lotes de IDs somados em memória.
+     */
+    public FacetasProdutoDTO contarPorIds(FiltroProdutoRequest filtro, List<UUID> ids) {
+        Contagem contagem = new Contagem();
+        for (int inicio = 0; inicio < ids.size(); inicio += IDS_POR_QUERY) {
+            List<UUID> lote = ids.subList(inicio, Math.min(inicio + IDS_POR_QUERY, ids.size()));
+            acumular(filtro, " AND p.id IN (:ids)", new MapSqlParameterSource("ids", lote), contagem);
+        }
+        return contagem.resultado();
+    }
+
+    private void acumular(FiltroProdutoRequest filtro, String condicaoTermo,
+                          MapSqlParameterSource params, Contagem contagem) {
+        StringBuilder faixa = new StringBuilder("CASE");
+        for (int i = 0; i < limitesFaixas.length; i++) {
+            faixa.append(" WHEN p.preco < :limite").append(i).append(" THEN ").append(i);
+            params.addValue("limite" + i, limitesFaixas[i]);
+        }
+        faixa.append(" ELSE ").append(limitesFaixas.length).append(" END");
+
+        String sql = "SELECT c.id AS categoria_id, c.nome AS categoria_nome, "
+                + faixa + " AS faixa, "
+                + "CASE WHEN COALESCE(e.quantidade, 0) > 0 THEN 1 ELSE 0 END AS em_estoque, "
+                + "COUNT(*) AS quantidade "
+                + "FROM produtos p "
+                + ProdutoSql.JOINS
+                + " WHERE 1 = 1" + condicaoTermo + ProdutoSql.filtros(filtro, params)
+                + " GROUP BY c.id, c.nome, faixa, em_estoque";
+
+        jdbcTemplate.query(sql, params, rs -> {
+            Long categoriaId = rs.getObject("categoria_id", Long.class);
+            long quantidade = rs.getLong("quantidade");
+
+            contagem.categorias.merge(categoriaId,
+                    new FacetasProdutoDTO.CategoriaFaceta(categoriaId, rs.getString("categoria_nome"), quantidade),
+                    (atual, nova) -> new FacetasProdutoDTO.CategoriaFaceta(
+                            atual.id(), atual.nome(), atual.quantidade() + nova.quantidade()));
+            contagem.porFaixa[rs.getInt("faixa")] += quantidade;
+            contagem.estoque[rs.getInt("em_estoque")] += quantidade;
+        });
+    }
+
+    /**
+     * Somas parciais das linhas do GROUP BY.
+     */
+    private final class Contagem {
+
+        private final Map<Long, FacetasProdutoDTO.CategoriaFaceta> categorias = new LinkedHashMap<>();
+        private final long[] porFaixa = new long[limitesFaixas.length + 1];
+        private final long[] estoque = new long[2];
+
+        private FacetasProdutoDTO resultado() {
+            List<FacetasProdutoDTO.CategoriaFaceta> porCategoria = new ArrayList<>(categorias.values());
+            porCategoria.sort(Comparator.comparingLong(FacetasProdutoDTO.CategoriaFaceta::quantidade).reversed()
+                    .thenComparing(FacetasProdutoDTO.CategoriaFaceta::nome, Comparator.nullsLast(String::compareTo)));
+
+            List<FacetasProdutoDTO.FaixaPrecoFaceta> faixas = new ArrayList<>(porFaixa.length);
+            for (int i = 0; i < porFaixa.length; i++) {
+                faixas.add(new FacetasProdutoDTO.FaixaPrecoFaceta(
+                        i == 0 ? BigDecimal.ZERO : limitesFaixas[i - 1],
+                        i < limitesFaixas.length ? limitesFaixas[i] : null,
+                        porFaixa[i]
+                ));
+            }
+
+            return new FacetasProdutoDTO(porCategoria, faixas, estoque[1], estoque[0]);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória dos produtos ativos.
+ *
+ * Cada produto recebe um ordinal (int) e cada token de nome, descrição e
+ * categoria aponta para uma {@link ListaPostagens} com os ordinais que o
+ * contêm. Tokens são normalizados sem acentos e em minúsculas, então
+ * "Eletrônicos" e "eletronicos" são o mesmo token.
+ *
+ * A busca casa cada termo por prefixo (autocomplete: "note" encontra
+ * "notebook") e exige todos os termos (AND). Categoria e faixa de preço
+ * são filtradas sobre os candidatos, sem ir ao banco.
+ *
+ * Leituras concorrentes; atualizações incrementais sob write lock.
+ */
+public final class IndiceInvertidoProdutos {
+
+    /** Propriedades de Sort que o índice sabe ordenar */
+    private static final Set<String> ORDENACOES_SUPORTADAS = Set.of(
+            MotorBusca.ORDENACAO_RELEVANCIA, "nome", "preco.valor", "dataCadastro", "categoria.nome"
+    );
+
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> ordinais = new HashMap<>();
+    private final List<Documento> documentos = new ArrayList<>();
+    private final NavigableMap<String, ListaPostagens> postagens = new TreeMap<>();
+
+    /**
+     * Indexa (ou reindexa) um produto. Produtos inativos são removidos.
+     */
+    public void indexar(ProdutoDTO produto) {
+        if (!Boolean.TRUE.equals(produto.getAtivo())) {
+            remover(produto.getId());
+            return;
+        }
+
+        Set<String> tokensNome = new LinkedHashSet<>(tokenizar(produto.getNome()));
+        Set<String> tokens = new LinkedHashSet<>(tokensNome);
+        tokens.addAll(tokenizar(produto.getDescricao()));
+        tokens.addAll(tokenizar(produto.getCategoriaNome()));
+
+        Documento documento = new Documento(
+                produto.getId(),
+                produto.getNome(),
+                produto.getPreco() != null ? produto.getPreco().getValor() : null,
+                produto.getDataCadastro(),
+                produto.getCategoriaId(),
+                produto.getCategoriaNome(),
+                tokensNome.toArray(String[]::new),
+                tokens.toArray(String[]::new)
+        );
+
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinais.get(produto.getId());
+            if (ordinal == null) {
+                ordinal = documentos.size();
+                documentos.add(null);
+                ordinais.put(produto.getId(), ordinal);
+            } else {
+                desindexarTokens(ordinal, documentos.get(ordinal));
+            }
+
+            documentos.set(ordinal, documento);
+            for (String token : documento.tokens()) {
+                postagens.computeIfAbsent(token, t -> new ListaPostagens()).adicionar(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove um produto do índice. O ordinal não é reaproveitado.
+     */
+    public void remover(UUID produtoId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinais.remove(produtoId);
+            if (ordinal != null) {
+                desindexarTokens(ordinal, documentos.get(ordinal));
+                documentos.set(ordinal, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return quantidade de produtos indexados
+     */
+    public int tamanho() {
+        lock.readLock().lock();
+        try {
+            return ordinais.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Busca os produtos que contêm todos os termos (por prefixo) e passam
+     * nos filtros de categoria e preço.
+     *
+     * @param filtro termo, categoria e faixa de preço
+     * @param sort ordenação (ver {@link #suportaOrdenacao(Sort)})
+     * @return IDs de todos os produtos encontrados, já ordenados
+     */
+    public List<UUID> buscar(FiltroProdutoRequest filtro, Sort sort) {
+        List<String> termos = tokenizar(filtro.getTermo());
+        if (termos.isEmpty()) {
+            return List.of();
+        }
+
+        List<Candidato> candidatos = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            BitSet encontrados = null;
+            for (String termo : termos) {
+                BitSet doTermo = new BitSet(documentos.size());
+                postagens.subMap(termo, true, termo + Character.MAX_VALUE, false)
+                        .values()
+                        .forEach(lista -> lista.marcarEm(doTermo));
+
+                if (encontrados == null) {
+                    encontrados = doTermo;
+                } else {
+                    encontrados.and(doTermo);
+                }
+                if (encontrados.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            for (int i = encontrados.nextSetBit(0); i >= 0; i = encontrados.nextSetBit(i + 1)) {
+                Documento documento = documentos.get(i);
+                if (documento != null && passaNosFiltros(documento, filtro)) {
+                    candidatos.add(new Candidato(documento, relevancia(documento, termos)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        candidatos.sort(comparador(sort));
+        return candidatos.stream()
+                .map(candidato -> candidato.documento().id())
+                .toList();
+    }
+
+    /**
+     * Indica se todas as propriedades do Sort podem ser ordenadas pelo índice.
+     */
+    public static boolean suportaOrdenacao(Sort sort) {
+        return sort.stream().allMatch(order -> ORDENACOES_SUPORTADAS.contains(order.getProperty()));
+    }
+
+    /**
+     * Quebra o texto em tokens sem acentos, em minúsculas e sem repetição.
+     */
+    static List<String> tokenizar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = MARCAS_DIACRITICAS
+                .matcher(Normalizer.normalize(texto, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(SEPARADORES.split(normalizado))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private void desindexarTokens(int ordinal, Documento documento) {
+        if (documento == null) {
+            return;
+        }
+        for (String token : documento.tokens()) {
+            ListaPostagens lista = postagens.get(token);
+            if (lista != null) {
+                lista.remover(ordinal);
+                if (lista.isVazia()) {
+                    postagens.remove(token);
+                }
+            }
+        }
+    }
+
+    private static boolean passaNosFiltros(Documento documento, FiltroProdutoRequest filtro) {
+        if (filtro.getCategoriaId() != null && !filtro.getCategoriaId().equals(documento.categoriaId())) {
+            return false;
+        }
+        if (filtro.getPrecoMin() != null
+                && (documento.preco() == null || documento.preco().compareTo(filtro.getPrecoMin()) < 0)) {
+            return false;
+        }
+        return filtro.getPrecoMax() == null
+                || (documento.preco() != null && documento.preco().compareTo(filtro.getPrecoMax()) <= 0);
+    }
+
+    /**
+     * Quantidade de termos que casam (por prefixo) com o nome do produto.
+     */
+    private static int relevancia(Documento documento, List<String> termos) {
+        int relevancia = 0;
+        for (String termo : termos) {
+            for (String tokenNome : documento.tokensNome()) {
+                if (tokenNome.startsWith(termo)) {
+                    relevancia++;
+                    break;
+                }
+            }
+        }
+        return relevancia;
+    }
+
+    private static Comparator<Candidato> comparador(Sort sort) {
+        Comparator<Candidato> comparador = null;
+        for (Sort.Order order : sort) {
+            Comparator<Candidato> campo = switch (order.getProperty()) {
+                case MotorBusca.ORDENACAO_RELEVANCIA -> Comparator.comparingInt(Candidato::relevancia);
+                case "preco.valor" -> Comparator.comparing(c -> c.documento().preco(),
+                        Comparator.nullsLast(Comparator.<BigDecimal>naturalOrder()));
+                case "dataCadastro" -> Comparator.comparing(c -> c.documento().dataCadastro(),
+                        Comparator.nullsLast(Comparator.<Instant>naturalOrder()));
+                case "categoria.nome" -> Comparator.comparing(c -> c.documento().categoriaNome(),
+                        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+                default -> Comparator.comparing(c -> c.documento().nome(), String.CASE_INSENSITIVE_ORDER);
+            };
+            if (order.isDescending()) {
+                campo = campo.reversed();
+            }
+            comparador = comparador == null ? campo : comparador.thenComparing(campo);
+        }
+
+        // Desempate estável: relevância, nome e ID
+        Comparator<Candidato> desempate = Comparator.comparingInt(Candidato::relevancia).reversed()
+                .thenComparing(c -> c.documento().nome(), String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(c -> c.documento().id());
+        return comparador == null ? desempate : comparador.thenComparing(desempate);
+    }
+
+    private record Documento(
+            UUID id,
+            String nome,
+            BigDecimal preco,
+            Instant dataCadastro,
+            Long categoriaId,
+            String categoriaNome,
+            String[] tokensNome,
+            String[] tokens
+    ) {
+    }
+
+    private record Candidato(Documento documento, int relevancia) {
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Lista de postagens (posting list) de um token: ordinais dos produtos
+ * que contêm o token, em ordem crescente, em um int[] primitivo.
+ *
+ * Ordinais novos são sempre maiores que os existentes, então a inserção
+ * normalmente é um append. Não é thread-safe; o acesso é controlado por
+ * {@link IndiceInvertidoProdutos}.
+ */
+final class ListaPostagens {
+
+    private int[] ordinais = new int[4];
+    private int tamanho;
+
+    void adicionar(int ordinal) {
+        int posicao = Arrays.binarySearch(ordinais, 0, tamanho, ordinal);
+        if (posicao >= 0) {
+            return;
+        }
+        int insercao = -posicao - 1;
+        if (tamanho == ordinais.length) {
+            ordinais = Arrays.copyOf(ordinais, tamanho * 2);
+        }
+        System.arraycopy(ordinais, insercao, ordinais, insercao + 1, tamanho - insercao);
+        ordinais[insercao] = ordinal;
+        tamanho++;
+    }
+
+    void remover(int ordinal) {
+        int posicao = Arrays.binarySearch(ordinais, 0, tamanho, ordinal);
+        if (posicao < 0) {
+            return;
+        }
+        System.arraycopy(ordinais, posicao + 1, ordinais, posicao, tamanho - posicao - 1);
+        tamanho--;
+    }
+
+    boolean isVazia() {
+        return tamanho == 0;
+    }
+
+    /**
+     * Marca os ordinais desta lista no BitSet (união).
+     */
+    void marcarEm(BitSet destino) {
+        for (int i = 0; i < tamanho; i++) {
+            destino.set(ordinais[i]);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Busca textual de produtos do catálogo.
+ *
+ * Recebe os mesmos filtros da busca com filtros (termo, categoria, faixa
+ * de preço e ativo) e devolve DTOs paginados. A ordenação
+ * {@link #ORDENACAO_RELEVANCIA} ordena pela relevância do termo quando o
+ * motor suporta; nos demais, cai para ordenação por nome.
+ *
+ * Implementações (catalogo.busca.modo):
+ * - like: {@link MotorBuscaLike} (padrão, LOWER(...) LIKE, roda em H2)
+ * - fulltext: {@link MotorBuscaFullText} (Postgres tsvector + GIN + ts_rank)
+ * - trigram: {@link MotorBuscaTrigram} (Postgres pg_trgm, tolera erros de digitação)
+ * - indice: {@link MotorBuscaIndiceInvertido} (índice invertido em memória, por prefixo)
+ */
+public interface MotorBusca {
+
+    /** Campo de ordenação por relevância (sort=relevancia:desc) */
+    String ORDENACAO_RELEVANCIA = "relevancia";
+
+    /**
+     * Busca produtos pelo termo e demais filtros.
+     *
+     * @param filtro filtros de busca (termo obrigatório)
+     * @param pageable paginação e ordenação
+     * @return página de DTOs
+     */
+    Page<ProdutoDTO> buscar(FiltroProdutoRequest filtro, Pageable pageable);
+
+    /**
+     * Conta as facetas sobre o mesmo conjunto de produtos que
+     * {@link #buscar} encontra para o filtro (mesma regra de termo).
+     *
+     * @param filtro filtros de busca (termo obrigatório)
+     * @param sort ordenação da busca (pode decidir a estratégia do motor)
+     * @return facetas por categoria, faixa de preço e estoque
+     */
+    FacetasProdutoDTO contarFacetas(FiltroProdutoRequest filtro, Sort sort);
+}
@@ -0,0 +1,72 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Busca full-text no Postgres.
+ *
+ * Usa a coluna gerada produtos.busca_tsv (nome com peso A, descrição com
+ * peso B, dicionário português + unaccent) e o índice GIN criado na V10,
+ * em vez de varrer a tabela com LIKE. O termo é interpretado com
+ * websearch_to_tsquery, que aceita texto livre do usuário ("notebook -gamer",
+ * "\"mouse sem fio\"") sem erro de sintaxe.
+ *
+ * Ordenação por relevância usa ts_rank. Requer Postgres (não roda em H2).
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.busca.modo", havingValue = "fulltext")
+@RequiredArgsConstructor
+public class MotorBuscaFullText implements MotorBusca {
+
+    private static final String CONFIGURACAO = "portugues_unaccent";
+    private static final String RELEVANCIA = "ts_rank(p.busca_tsv, q)";
+    private static final String CONDICAO = "p.busca_tsv @@ websearch_to_tsquery('" + CONFIGURACAO + "', :termo)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ContadorFacetas contadorFacetas;
+
+    @Override
+    public Page<ProdutoDTO> buscar(FiltroProdutoRequest filtro, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource("termo", filtro.getTermo().trim());
+        String filtros = ProdutoSql.filtros(filtro, params);
+
+        String sql = "SELECT " + ProdutoSql.COLUNAS
+                + " FROM produtos p"
+                + " CROSS JOIN websearch_to_tsquery('" + CONFIGURACAO + "', :termo) q "
+                + ProdutoSql.JOINS
+                + " WHERE p.busca_tsv @@ q" + filtros
+                + ProdutoSql.ordenacao(pageable.getSort(), RELEVANCIA);
+
+        if (pageable.isPaged()) {
+            sql += " LIMIT :limite OFFSET :offset";
+            params.addValue("limite", pageable.getPageSize());
+            params.addValue("offset", pageable.getOffset());
+        }
+
+        List<ProdutoDTO> conteudo = jdbcTemplate.query(sql, params, ProdutoSql.ROW_MAPPER);
+
+        String sqlContagem = "SELECT COUNT(*) FROM produtos p WHERE " + CONDICAO + filtros;
+
+        return PageableExecutionUtils.getPage(conteudo, pageable,
+                () -> jdbcTemplate.queryForObject(sqlContagem, params, Long.class));
+    }
+
+    @Override
+    public FacetasProdutoDTO contarFacetas(FiltroProdutoRequest filtro, Sort sort) {
+        MapSqlParameterSource params = new MapSqlParameterSource("termo", filtro.getTermo().trim());
+        return contadorFacetas.contar(filtro, " AND " + CONDICAO, params);
+    }
+}
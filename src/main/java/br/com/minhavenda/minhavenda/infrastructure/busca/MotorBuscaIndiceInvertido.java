@@ -0,0 +1,201 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
+import br.com.minhavenda.minhavenda.domain.event.ProdutoAlteradoEvent;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoConsultaRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.specification.ProdutoSpecification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Busca pelo {@link IndiceInvertidoProdutos} em memória.
+ *
+ * Termo, categoria e faixa de preço são resolvidos no índice; o banco só é
+ * consultado para hidratar os produtos da página pedida (uma query por ID,
+ * sem COUNT). Estoque não é indexado, então sai sempre atualizado do banco.
+ *
+ * O índice é montado na subida da aplicação e mantido em dia pelo
+ * {@link ProdutoAlteradoEvent}, após o commit; o
+ * {@link CategoriaAlteradaEvent} remonta o índice inteiro. Alterações que
+ * chegam durante uma reconstrução são reaplicadas sobre o índice novo.
+ *
+ * Cai para o {@link MotorBuscaLike} quando o índice ainda não está pronto,
+ * quando a busca inclui inativos ou quando a ordenação é por estoque. As
+ * facetas contam os IDs encontrados no índice, com a mesma regra de queda.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catalogo.busca.modo", havingValue = "indice")
+public class MotorBuscaIndiceInvertido implements MotorBusca {
+
+    private final ProdutoConsultaRepository produtoConsultaRepository;
+    private final MotorBuscaLike motorAlternativo;
+    private final ContadorFacetas contadorFacetas;
+    private final Set<UUID> alteradosDuranteReconstrucao = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lockReconstrucao = new ReentrantLock();
+
+    private volatile IndiceInvertidoProdutos indice;
+    private volatile boolean reconstruindo;
+
+    public MotorBuscaIndiceInvertido(
+            ProdutoConsultaRepository produtoConsultaRepository,
+            ContadorFacetas contadorFacetas,
+            MeterRegistry meterRegistry
+    ) {
+        this.produtoConsultaRepository = produtoConsultaRepository;
+        this.contadorFacetas = contadorFacetas;
+        this.motorAlternativo = new MotorBuscaLike(produtoConsultaRepository, contadorFacetas);
+
+        Gauge.builder("catalogo.busca.indice.produtos", this,
+                        motor -> motor.indice != null ? motor.indice.tamanho() : 0)
+                .description("Produtos no índice invertido de busca")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void aoIniciar() {
+        reconstruir();
+    }
+
+    /**
+     * Monta um índice novo a partir dos produtos ativos e o troca pelo atual.
+     *
+     * Uma reconstrução por vez. ReentrantLock no lugar de synchronized: a
+     * consulta ao banco dentro de um bloco synchronized prenderia a thread
+     * virtual à thread portadora (pinning) durante todo o I/O.
+     */
+    public void reconstruir() {
+        lockReconstrucao.lock();
+        try {
+            long inicio = System.nanoTime();
+            reconstruindo = true;
+            alteradosDuranteReconstrucao.clear();
+
+            try {
+                IndiceInvertidoProdutos novo = new IndiceInvertidoProdutos();
+                produtoConsultaRepository.listar(ProdutoSpecification.apenasAtivos(), Sort.unsorted())
+                        .forEach(novo::indexar);
+                indice = novo;
+            } finally {
+                reconstruindo = false;
+            }
+
+            for (UUID produtoId : alteradosDuranteReconstrucao) {
+                reindexar(produtoId);
+            }
+            alteradosDuranteReconstrucao.clear();
+
+            log.info("Índice de busca montado com {} produtos em {}ms",
+                    indice.tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+        } finally {
+            lockReconstrucao.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarProduto(ProdutoAlteradoEvent event) {
+        if (reconstruindo) {
+            alteradosDuranteReconstrucao.add(event.produtoId());
+        }
+        reindexar(event.produtoId());
+    }
+
+    /**
+     * Categorias mudam raramente e afetam todos os seus produtos (nome
+     * indexado): mais simples remontar o índice inteiro.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarCategoria(CategoriaAlteradaEvent event) {
+        reconstruir();
+    }
+
+    @Override
+    public Page<ProdutoDTO> buscar(FiltroProdutoRequest filtro, Pageable pageable) {
+        IndiceInvertidoProdutos atual = indice;
+        if (atual == null
+                || !Boolean.TRUE.equals(filtro.getAtivo())
+                || !IndiceInvertidoProdutos.suportaOrdenacao(pageable.getSort())) {
+            return motorAlternativo.buscar(filtro, pageable);
+        }
+
+        List<UUID> encontrados = atual.buscar(filtro, pageable.getSort());
+
+        List<UUID> pagina = encontrados;
+        if (pageable.isPaged()) {
+            int inicio = (int) Math.min(pageable.getOffset(), encontrados.size());
+            int fim = Math.min(inicio + pageable.getPageSize(), encontrados.size());
+            pagina = encontrados.subList(inicio, fim);
+        }
+
+        return new PageImpl<>(hidratar(pagina), pageable, encontrados.size());
+    }
+
+    @Override
+    public FacetasProdutoDTO contarFacetas(FiltroProdutoRequest filtro, Sort sort) {
+        IndiceInvertidoProdutos atual = indice;
+        if (atual == null
+                || !Boolean.TRUE.equals(filtro.getAtivo())
+                || !IndiceInvertidoProdutos.suportaOrdenacao(sort)) {
+            return motorAlternativo.contarFacetas(filtro, sort);
+        }
+        return contadorFacetas.contarPorIds(filtro, atual.buscar(filtro, Sort.unsorted()));
+    }
+
+    /**
+     * Carrega os DTOs da página, preservando a ordem do índice.
+     */
+    private List<ProdutoDTO> hidratar(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, ProdutoDTO> porId = produtoConsultaRepository
+                .listar(ProdutoSpecification.porIds(ids), Sort.unsorted())
+                .stream()
+                .collect(Collectors.toMap(ProdutoDTO::getId, Function.identity()));
+
+        List<ProdutoDTO> conteudo = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            ProdutoDTO produto = porId.get(id);
+            if (produto != null) {
+                conteudo.add(produto);
+            }
+        }
+        return conteudo;
+    }
+
+    private void reindexar(UUID produtoId) {
+        IndiceInvertidoProdutos atual = indice;
+        if (atual == null) {
+            return;
+        }
+
+        produtoConsultaRepository.listar(ProdutoSpecification.porIds(List.of(produtoId)), Sort.unsorted())
+                .stream()
+                .findFirst()
+                .ifPresentOrElse(atual::indexar, () -> atual.remover(produtoId));
+    }
+}
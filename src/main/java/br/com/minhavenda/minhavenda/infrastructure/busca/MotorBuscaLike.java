@@ -0,0 +1,62 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoConsultaRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.specification.ProdutoSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Busca por LOWER(nome/descricao) LIKE '%termo%' via ProdutoSpecification.
+ *
+ * Não usa índice (varredura sequencial de produtos), mas roda em qualquer
+ * banco, inclusive H2 nos testes. Sem noção de relevância: a ordenação
+ * por relevância vira ordenação por nome.
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.busca.modo", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MotorBuscaLike implements MotorBusca {
+
+    /** Mesma regra da ProdutoSpecification, em SQL para as facetas */
+    private static final String CONDICAO = " AND (LOWER(p.nome) LIKE :like OR LOWER(p.descricao) LIKE :like)";
+
+    private final ProdutoConsultaRepository produtoConsultaRepository;
+    private final ContadorFacetas contadorFacetas;
+
+    @Override
+    public Page<ProdutoDTO> buscar(FiltroProdutoRequest filtro, Pageable pageable) {
+        return produtoConsultaRepository.listar(ProdutoSpecification.comFiltros(filtro), semRelevancia(pageable));
+    }
+
+    @Override
+    public FacetasProdutoDTO contarFacetas(FiltroProdutoRequest filtro, Sort sort) {
+        MapSqlParameterSource params = new MapSqlParameterSource(
+                "like", "%" + filtro.getTermo().trim().toLowerCase(Locale.ROOT) + "%");
+        return contadorFacetas.contar(filtro, CONDICAO, params);
+    }
+
+    private Pageable semRelevancia(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(ORDENACAO_RELEVANCIA) == null) {
+            return pageable;
+        }
+        Sort sort = Sort.by(pageable.getSort().stream()
+                .map(order -> ORDENACAO_RELEVANCIA.equals(order.getProperty())
+                        ? Sort.Order.asc("nome")
+                        : order)
+                .toList());
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+}
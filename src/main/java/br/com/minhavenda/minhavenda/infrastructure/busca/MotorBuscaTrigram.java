@@ -0,0 +1,115 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Busca tolerante a erros de digitação com pg_trgm.
+ *
+ * Um produto casa se o termo for parecido com alguma palavra do nome ou da
+ * descrição (word_similarity acima do limiar, operador {@code <%}) ou se o
+ * termo aparecer como substring (LIKE). "notbook" encontra "Notebook Dell"
+ * e "celuar" encontra "Celular". Os dois operadores usam os índices GIN
+ * gin_trgm_ops sobre LOWER(nome) e LOWER(descricao) criados na V11.
+ *
+ * Ordenação por relevância usa a maior word_similarity entre nome e
+ * descrição. Requer Postgres (não roda em H2).
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.busca.modo", havingValue = "trigram")
+public class MotorBuscaTrigram implements MotorBusca {
+
+    private static final String RELEVANCIA = """
+            GREATEST(word_similarity(:termo, LOWER(p.nome)),
+                     word_similarity(:termo, LOWER(COALESCE(p.descricao, ''))))""";
+
+    private static final String CONDICAO = """
+            (:termo <% LOWER(p.nome) OR :termo <% LOWER(p.descricao)
+             OR LOWER(p.nome) LIKE :like OR LOWER(p.descricao) LIKE :like)""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ContadorFacetas contadorFacetas;
+    private final double limiar;
+
+    public MotorBuscaTrigram(
+            NamedParameterJdbcTemplate jdbcTemplate,
+            ContadorFacetas contadorFacetas,
+            @Value("${catalogo.busca.trigram.limiar:0.4}") double limiar
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.contadorFacetas = contadorFacetas;
+        this.limiar = limiar;
+    }
+
+    /**
+     * Transacional para que o limiar (set_config local) valha para as
+     * duas queries e não vaze para outras requisições do pool.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProdutoDTO> buscar(FiltroProdutoRequest filtro, Pageable pageable) {
+        MapSqlParameterSource params = parametros(filtro);
+        String filtros = ProdutoSql.filtros(filtro, params);
+
+        aplicarLimiar();
+
+        String sql = "SELECT " + ProdutoSql.COLUNAS
+                + " FROM produtos p "
+                + ProdutoSql.JOINS
+                + " WHERE " + CONDICAO + filtros
+                + ProdutoSql.ordenacao(pageable.getSort(), RELEVANCIA);
+
+        if (pageable.isPaged()) {
+            sql += " LIMIT :limite OFFSET :offset";
+            params.addValue("limite", pageable.getPageSize());
+            params.addValue("offset", pageable.getOffset());
+        }
+
+        List<ProdutoDTO> conteudo = jdbcTemplate.query(sql, params, ProdutoSql.ROW_MAPPER);
+
+        String sqlContagem = "SELECT COUNT(*) FROM produtos p WHERE " + CONDICAO + filtros;
+
+        return PageableExecutionUtils.getPage(conteudo, pageable,
+                () -> jdbcTemplate.queryForObject(sqlContagem, params, Long.class));
+    }
+
+    /**
+     * Transacional pelo mesmo motivo de {@link #buscar}: o limiar vale
+     * para a query das facetas.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FacetasProdutoDTO contarFacetas(FiltroProdutoRequest filtro, Sort sort) {
+        aplicarLimiar();
+        return contadorFacetas.contar(filtro, " AND " + CONDICAO, parametros(filtro));
+    }
+
+    private MapSqlParameterSource parametros(FiltroProdutoRequest filtro) {
+        String termo = filtro.getTermo().trim().toLowerCase(Locale.ROOT);
+        return new MapSqlParameterSource()
+                .addValue("termo", termo)
+                .addValue("like", "%" + termo + "%");
+    }
+
+    private void aplicarLimiar() {
+        jdbcTemplate.queryForObject(
+                "SELECT set_config('pg_trgm.word_similarity_threshold', :limiar, true)",
+                new MapSqlParameterSource("limiar", String.valueOf(limiar)),
+                String.class
+        );
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Trechos de SQL nativo compartilhados pelos motores de busca em Postgres.
+ *
+ * Produz as mesmas colunas da projeção JPA (ProdutoConsultaRepository),
+ * aplica os filtros de {@link FiltroProdutoRequest} (exceto o termo, que
+ * é responsabilidade de cada motor) e traduz o Sort da API para colunas
+ * SQL por whitelist.
+ */
+final class ProdutoSql {
+
+    static final String COLUNAS = """
+            p.id, p.nome, p.descricao, p.preco, p.moeda, p.ativo, p.data_cadastro,
+            c.id AS categoria_id, c.nome AS categoria_nome,
+            COALESCE(e.quantidade, 0) AS quantidade_estoque
+            """;
+
+    static final String JOINS = """
+            LEFT JOIN categorias c ON c.id = p.categoria_id
+            LEFT JOIN estoques e ON e.produto_id = p.id
+            """;
+
+    /** Propriedades aceitas no Sort (mesmas da API) e suas colunas */
+    private static final Map<String, String> COLUNAS_ORDENACAO = Map.of(
+            "nome", "p.nome",
+            "preco.valor", "p.preco",
+            "dataCadastro", "p.data_cadastro",
+            "estoque", "quantidade_estoque",
+            "categoria.nome", "c.nome"
+    );
+
+    /**
+     * data_cadastro é gravado em UTC (hibernate.jdbc.time_zone=UTC).
+     */
+    static final RowMapper<ProdutoDTO> ROW_MAPPER = (rs, rowNum) -> ProdutoDTO.builder()
+            .id(rs.getObject("id", UUID.class))
+            .nome(rs.getString("nome"))
+            .descricao(rs.getString("descricao"))
+            .preco(new Money(rs.getBigDecimal("preco"), rs.getString("moeda")))
+            .ativo(rs.getBoolean("ativo"))
+            .dataCadastro(rs.getObject("data_cadastro", LocalDateTime.class).toInstant(ZoneOffset.UTC))
+            .categoriaId(rs.getObject("categoria_id", Long.class))
+            .categoriaNome(rs.getString("categoria_nome"))
+            .quantidadeEstoque(rs.getInt("quantidade_estoque"))
+            .build();
+
+    private ProdutoSql() {
+    }
+
+    /**
+     * Condições AND para categoria, faixa de preço e ativo.
+     * Os valores vão para {@code params}; nunca são concatenados no SQL.
+     *
+     * @return trecho iniciado por " AND ", ou vazio se não houver filtros
+     */
+    static String filtros(FiltroProdutoRequest filtro, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder();
+
+        if (filtro.getAtivo() != null) {
+            sql.append(" AND p.ativo = :ativo");
+            params.addValue("ativo", filtro.getAtivo());
+        }
+        if (filtro.getCategoriaId() != null) {
+            sql.append(" AND p.categoria_id = :categoriaId");
+            params.addValue("categoriaId", filtro.getCategoriaId());
+        }
+        if (filtro.getPrecoMin() != null) {
+            sql.append(" AND p.preco >= :precoMin");
+            params.addValue("precoMin", filtro.getPrecoMin());
+        }
+        if (filtro.getPrecoMax() != null) {
+            sql.append(" AND p.preco <= :precoMax");
+            params.addValue("precoMax", filtro.getPrecoMax());
+        }
+
+        return sql.toString();
+    }
+
+    /**
+     * Traduz o Sort para ORDER BY, sempre com p.id como desempate.
+     *
+     * @param sort ordenação da API
+     * @param relevancia expressão SQL da relevância (usada para sort=relevancia)
+     * @return cláusula ORDER BY completa
+     */
+    static String ordenacao(Sort sort, String relevancia) {
+        String ordens = sort.stream()
+                .map(order -> {
+                    String coluna = MotorBusca.ORDENACAO_RELEVANCIA.equals(order.getProperty())
+                            ? relevancia
+                            : COLUNAS_ORDENACAO.get(order.getProperty());
+                    if (coluna == null) {
+                        return null;
+                    }
+                    return coluna + (order.isAscending() ? " ASC" : " DESC");
+                })
+                .filter(ordem -> ordem != null)
+                .collect(Collectors.joining(", "));
+
+        if (ordens.isEmpty()) {
+            ordens = relevancia + " DESC";
+        }
+        return " ORDER BY " + ordens + ", p.id";
+    }
+}
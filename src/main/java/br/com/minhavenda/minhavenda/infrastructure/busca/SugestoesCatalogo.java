@@ -0,0 +1,114 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.produto.SugestaoDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sugestões de autocomplete de nomes de produtos e categorias.
+ *
+ * Atende a partir de uma {@link TrieSugestoes} em memória, sem ir ao banco.
+ * Produtos pesam pela quantidade vendida (itens de pedidos não cancelados)
+ * e categorias pela soma das vendas dos seus produtos.
+ *
+ * A trie é remontada periodicamente em background
+ * (catalogo.sugestoes.intervalo) e trocada atomicamente; as consultas em
+ * andamento continuam na versão anterior. Até a primeira montagem, a
+ * lista de sugestões é vazia.
+ */
+@Slf4j
+@Component
+public class SugestoesCatalogo {
+
+    private static final String SQL_PRODUTOS = """
+            SELECT p.id, p.nome, p.categoria_id, COALESCE(v.vendas, 0) AS vendas
+            FROM produtos p
+            LEFT JOIN (
+                SELECT i.produto_id, SUM(i.quantidade) AS vendas
+                FROM itens_pedido i
+                JOIN pedidos pe ON pe.id = i.pedido_id
+                WHERE pe.status <> 'CANCELADO'
+                GROUP BY i.produto_id
+            ) v ON v.produto_id = p.id
+            WHERE p.ativo = TRUE
+            """;
+
+    private static final String SQL_CATEGORIAS = "SELECT c.id, c.nome FROM categorias c WHERE c.ativo = TRUE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maximoSugestoes;
+    private final AtomicReference<TrieSugestoes> trie = new AtomicReference<>();
+
+    public SugestoesCatalogo(
+            JdbcTemplate jdbcTemplate,
+            @Value("${catalogo.sugestoes.maximo:10}") int maximoSugestoes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.maximoSugestoes = maximoSugestoes;
+    }
+
+    /**
+     * Sugestões para o prefixo digitado.
+     *
+     * @param prefixo início do nome (acentos e maiúsculas são ignorados)
+     * @param limite quantidade máxima (limitada a catalogo.sugestoes.maximo)
+     * @return sugestões da mais vendida para a menos vendida
+     */
+    public List<SugestaoDTO> sugerir(String prefixo, int limite) {
+        TrieSugestoes atual = trie.get();
+        if (atual == null || prefixo == null) {
+            return List.of();
+        }
+        return atual.sugerir(prefixo, Math.min(limite, maximoSugestoes));
+    }
+
+    /**
+     * Remonta a trie a partir do banco e troca pela atual.
+     */
+    @Scheduled(
+            initialDelayString = "${catalogo.sugestoes.atraso-inicial:PT5S}",
+            fixedDelayString = "${catalogo.sugestoes.intervalo:PT5M}"
+    )
+    public void reconstruir() {
+        long inicio = System.nanoTime();
+        List<TrieSugestoes.Entrada> entradas = new ArrayList<>();
+        Map<Long, Long> vendasPorCategoria = new HashMap<>();
+
+        jdbcTemplate.query(SQL_PRODUTOS, rs -> {
+            long vendas = rs.getLong("vendas");
+            entradas.add(new TrieSugestoes.Entrada(
+                    SugestaoDTO.produto(rs.getObject("id", UUID.class), rs.getString("nome")),
+                    vendas
+            ));
+
+            long categoriaId = rs.getLong("categoria_id");
+            if (!rs.wasNull()) {
+                vendasPorCategoria.merge(categoriaId, vendas, Long::sum);
+            }
+        });
+
+        jdbcTemplate.query(SQL_CATEGORIAS, rs -> {
+            long categoriaId = rs.getLong("id");
+            entradas.add(new TrieSugestoes.Entrada(
+                    SugestaoDTO.categoria(categoriaId, rs.getString("nome")),
+                    vendasPorCategoria.getOrDefault(categoriaId, 0L)
+            ));
+        });
+
+        TrieSugestoes nova = TrieSugestoes.construir(entradas, maximoSugestoes);
+        trie.set(nova);
+
+        log.info("Trie de sugestões montada com {} nomes em {}ms",
+                nova.tamanho(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
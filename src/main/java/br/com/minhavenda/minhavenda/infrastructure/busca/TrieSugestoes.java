@@ -0,0 +1,186 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.produto.SugestaoDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Trie compacta (radix: arestas com rótulos de várias letras) e imutável
+ * para autocomplete.
+ *
+ * As sugestões são ordenadas por peso (vendas) na montagem, então o índice
+ * de uma sugestão é o seu ranking. Cada nó guarda os k melhores índices da
+ * sua subárvore, já calculados: uma consulta apenas desce pelo prefixo
+ * (O(tamanho do prefixo)) e devolve a lista pronta do nó.
+ *
+ * Cada nome entra a partir de cada palavra ("notebook dell inspiron",
+ * "dell inspiron", "inspiron"), então "dell" também sugere o notebook.
+ * Chaves são normalizadas como no {@link IndiceInvertidoProdutos}.
+ */
+final class TrieSugestoes {
+
+    private static final int[] NENHUM = new int[0];
+
+    private final SugestaoDTO[] sugestoes;
+    private final No raiz;
+
+    private TrieSugestoes(SugestaoDTO[] sugestoes, No raiz) {
+        this.sugestoes = sugestoes;
+        this.raiz = raiz;
+    }
+
+    /**
+     * Monta a trie.
+     *
+     * @param entradas sugestões com seus pesos
+     * @param k quantidade de sugestões guardadas por nó (limite máximo da consulta)
+     */
+    static TrieSugestoes construir(List<Entrada> entradas, int k) {
+        List<Entrada> ordenadas = new ArrayList<>(entradas);
+        ordenadas.sort(Comparator.comparingLong(Entrada::peso).reversed()
+                .thenComparing(entrada -> entrada.sugestao().texto(), String.CASE_INSENSITIVE_ORDER));
+
+        List<Chave> chaves = new ArrayList<>();
+        SugestaoDTO[] sugestoes = new SugestaoDTO[ordenadas.size()];
+        for (int ranking = 0; ranking < ordenadas.size(); ranking++) {
+            sugestoes[ranking] = ordenadas.get(ranking).sugestao();
+
+            List<String> tokens = IndiceInvertidoProdutos.tokenizar(sugestoes[ranking].texto());
+            for (int inicio = 0; inicio < tokens.size(); inicio++) {
+                chaves.add(new Chave(String.join(" ", tokens.subList(inicio, tokens.size())), ranking));
+            }
+        }
+
+        chaves.sort(Comparator.comparing(Chave::texto).thenComparingInt(Chave::ranking));
+
+        // Agrupa rankings de chaves iguais
+        List<String> textos = new ArrayList<>();
+        List<int[]> rankings = new ArrayList<>();
+        for (int i = 0; i < chaves.size(); ) {
+            int j = i;
+            while (j < chaves.size() && chaves.get(j).texto().equals(chaves.get(i).texto())) {
+                j++;
+            }
+            textos.add(chaves.get(i).texto());
+            rankings.add(chaves.subList(i, j).stream().mapToInt(Chave::ranking).distinct().limit(k).toArray());
+            i = j;
+        }
+
+        No raiz = textos.isEmpty()
+                ? new No(new char[0], new String[0], new No[0], NENHUM)
+                : construirNo(textos.toArray(String[]::new), rankings.toArray(int[][]::new), 0, textos.size(), 0, k);
+
+        return new TrieSugestoes(sugestoes, raiz);
+    }
+
+    /**
+     * @return até {@code limite} sugestões para o prefixo, da mais vendida para a menos
+     */
+    List<SugestaoDTO> sugerir(String prefixo, int limite) {
+        String chave = String.join(" ", IndiceInvertidoProdutos.tokenizar(prefixo));
+        if (chave.isEmpty()) {
+            return List.of();
+        }
+
+        No no = raiz;
+        int posicao = 0;
+        while (posicao < chave.length()) {
+            int filho = Arrays.binarySearch(no.primeiros, chave.charAt(posicao));
+            if (filho < 0) {
+                return List.of();
+            }
+            String rotulo = no.rotulos[filho];
+            int comparar = Math.min(rotulo.length(), chave.length() - posicao);
+            if (!chave.regionMatches(posicao, rotulo, 0, comparar)) {
+                return List.of();
+            }
+            posicao += comparar;
+            no = no.filhos[filho];
+        }
+
+        return Arrays.stream(no.melhores)
+                .limit(limite)
+                .mapToObj(ranking -> sugestoes[ranking])
+                .toList();
+    }
+
+    int tamanho() {
+        return sugestoes.length;
+    }
+
+    /**
+     * Monta o nó das chaves [inicio, fim), que compartilham os primeiros
+     * {@code profundidade} caracteres.
+     */
+    private static No construirNo(String[] textos, int[][] rankings, int inicio, int fim, int profundidade, int k) {
+        List<Character> primeiros = new ArrayList<>();
+        List<String> rotulos = new ArrayList<>();
+        List<No> filhos = new ArrayList<>();
+        List<int[]> candidatos = new ArrayList<>();
+
+        int i = inicio;
+        if (textos[i].length() == profundidade) {
+            candidatos.add(rankings[i]);
+            i++;
+        }
+
+        while (i < fim) {
+            char primeiro = textos[i].charAt(profundidade);
+            int j = i + 1;
+            while (j < fim && textos[j].charAt(profundidade) == primeiro) {
+                j++;
+            }
+
+            int comum = prefixoComum(textos[i], textos[j - 1], profundidade);
+            No filho = construirNo(textos, rankings, i, j, comum, k);
+
+            primeiros.add(primeiro);
+            rotulos.add(textos[i].substring(profundidade, comum));
+            filhos.add(filho);
+            candidatos.add(filho.melhores);
+            i = j;
+        }
+
+        char[] primeirosArray = new char[primeiros.size()];
+        for (int c = 0; c < primeirosArray.length; c++) {
+            primeirosArray[c] = primeiros.get(c);
+        }
+
+        int[] melhores = candidatos.stream()
+                .flatMapToInt(Arrays::stream)
+                .sorted()
+                .distinct()
+                .limit(k)
+                .toArray();
+
+        return new No(primeirosArray, rotulos.toArray(String[]::new), filhos.toArray(No[]::new), melhores);
+    }
+
+    private static int prefixoComum(String a, String b, int desde) {
+        int limite = Math.min(a.length(), b.length());
+        int i = desde;
+        while (i < limite && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Sugestão candidata e seu peso (maior = mais relevante).
+     */
+    record Entrada(SugestaoDTO sugestao, long peso) {
+    }
+
+    private record Chave(String texto, int ranking) {
+    }
+
+    /**
+     * Nó da trie. Filhos ordenados pelo primeiro caractere do rótulo da
+     * aresta (busca binária em {@code primeiros}).
+     */
+    private record No(char[] primeiros, String[] rotulos, No[] filhos, int[] melhores) {
+    }
+}
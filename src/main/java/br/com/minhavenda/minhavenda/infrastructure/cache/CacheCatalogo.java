@@ -0,0 +1,116 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import br.com.minhavenda.minhavenda.application.dto.CategoriaDTO;
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import br.com.minhavenda.minhavenda.domain.event.ProdutoAlteradoEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Caches de leitura do catálogo (produtos e categorias).
+ *
+ * Cada cache é um {@link CacheDoisNiveis}. A invalidação é feita após o
+ * commit, pelos eventos de domínio:
+ * - {@link ProdutoAlteradoEvent} / {@link EstoqueAlteradoEvent}: o produto
+ *   alterado e a lista de produtos ativos
+ * - {@link CategoriaAlteradaEvent}: a categoria, a lista de categorias e
+ *   os produtos (que carregam o nome da categoria)
+ * - {@link CatalogoAlteradoExternamenteEvent}: o nível local de todos os
+ *   caches (a alteração foi feita e invalidada em outra instância)
+ */
+@Slf4j
+@Component
+public class CacheCatalogo {
+
+    /** Chave única dos caches de listas completas */
+    public static final String TODOS = "todos";
+
+    private final CacheDoisNiveis<String, List<CategoriaDTO>> categoriasAtivas;
+    private final CacheDoisNiveis<Long, CategoriaDTO> categorias;
+    private final CacheDoisNiveis<String, List<ProdutoDTO>> produtosAtivos;
+    private final CacheDoisNiveis<UUID, ProdutoDTO> produtos;
+
+    public CacheCatalogo(
+            CacheCompartilhado compartilhado,
+            MeterRegistry meterRegistry,
+            @Value("${catalogo.cache.ttl:5m}") Duration ttl,
+            @Value("${catalogo.cache.tamanho-maximo:10000}") long tamanhoMaximo
+    ) {
+        this.categoriasAtivas = new CacheDoisNiveis<>("catalogo.categorias.ativas", 1, ttl, compartilhado, meterRegistry);
+        this.categorias = new CacheDoisNiveis<>("catalogo.categorias", tamanhoMaximo, ttl, compartilhado, meterRegistry);
+        this.produtosAtivos = new CacheDoisNiveis<>("catalogo.produtos.ativos", 1, ttl, compartilhado, meterRegistry);
+        this.produtos = new CacheDoisNiveis<>("catalogo.produtos", tamanhoMaximo, ttl, compartilhado, meterRegistry);
+    }
+
+    public CacheDoisNiveis<String, List<CategoriaDTO>> categoriasAtivas() {
+        return categoriasAtivas;
+    }
+
+    public CacheDoisNiveis<Long, CategoriaDTO> categorias() {
+        return categorias;
+    }
+
+    public CacheDoisNiveis<String, List<ProdutoDTO>> produtosAtivos() {
+        return produtosAtivos;
+    }
+
+    public CacheDoisNiveis<UUID, ProdutoDTO> produtos() {
+        return produtos;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarProduto(ProdutoAlteradoEvent event) {
+        log.debug("Invalidando cache do produto {}", event.produtoId());
+        produtos.invalidar(event.produtoId());
+        produtosAtivos.invalidarTudo();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarEstoque(EstoqueAlteradoEvent event) {
+        log.debug("Invalidando cache dos produtos {} (estoque)", event.produtoIds());
+        event.produtoIds().forEach(produtos::invalidar);
+        produtosAtivos.invalidarTudo();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarCategoria(CategoriaAlteradaEvent event) {
+        log.debug("Invalidando cache da categoria {}", event.categoriaId());
+        categorias.invalidar(event.categoriaId());
+        categoriasAtivas.invalidarTudo();
+        produtos.invalidarTudo();
+        produtosAtivos.invalidarTudo();
+    }
+
+    @EventListener
+    public void aoAlterarExternamente(CatalogoAlteradoExternamenteEvent event) {
+        if (event.completo()) {
+            log.debug("Descartando caches locais do catálogo (versão {})", event.versao());
+            categoriasAtivas.invalidarLocal();
+            categorias.invalidarLocal();
+            produtosAtivos.invalidarLocal();
+            produtos.invalidarLocal();
+            return;
+        }
+        if (!event.categoriasAlteradas().isEmpty()) {
+            log.debug("Descartando caches locais das categorias {} (versão {})",
+                    event.categoriasAlteradas(), event.versao());
+            event.categoriasAlteradas().forEach(categorias::invalidarLocal);
+            categoriasAtivas.invalidarLocal();
+            produtos.invalidarLocal();
+        } else {
+            log.debug("Descartando caches locais dos produtos {} (versão {})", event.produtoIds(), event.versao());
+            event.produtoIds().forEach(produtos::invalidarLocal);
+        }
+        produtosAtivos.invalidarLocal();
+    }
+}
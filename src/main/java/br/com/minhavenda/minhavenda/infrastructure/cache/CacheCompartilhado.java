@@ -0,0 +1,39 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+/**
+ * Segundo nível (compartilhado entre instâncias) do cache do catálogo.
+ *
+ * Consultado apenas quando o cache local ({@link CacheDoisNiveis}) não tem
+ * a chave, antes de ir ao banco. Os valores são DTOs imutáveis na prática;
+ * uma implementação remota (ex.: Redis) deve serializá-los.
+ *
+ * Implementações (catalogo.cache.compartilhado):
+ * - nenhum: {@link CacheCompartilhadoDesligado} (padrão, só o cache local)
+ * - memoria: {@link CacheCompartilhadoEmMemoria} (mapa com TTL, para testes
+ *   e instância única)
+ */
+public interface CacheCompartilhado {
+
+    /**
+     * @param regiao nome do cache (ex.: catalogo.produtos)
+     * @param chave chave dentro da região
+     * @return valor, ou null se ausente ou expirado
+     */
+    Object buscar(String regiao, Object chave);
+
+    void gravar(String regiao, Object chave, Object valor);
+
+    void remover(String regiao, Object chave);
+
+    /**
+     * Remove todas as chaves da região.
+     */
+    void limpar(String regiao);
+
+    /**
+     * @return false se as operações não fazem nada (sem métricas de acerto)
+     */
+    default boolean isHabilitado() {
+        return true;
+    }
+}
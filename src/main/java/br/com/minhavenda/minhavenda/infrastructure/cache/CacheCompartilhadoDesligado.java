@@ -0,0 +1,34 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sem segundo nível: o catálogo usa apenas o cache local de cada instância.
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.cache.compartilhado", havingValue = "nenhum", matchIfMissing = true)
+public class CacheCompartilhadoDesligado implements CacheCompartilhado {
+
+    @Override
+    public Object buscar(String regiao, Object chave) {
+        return null;
+    }
+
+    @Override
+    public void gravar(String regiao, Object chave, Object valor) {
+    }
+
+    @Override
+    public void remover(String regiao, Object chave) {
+    }
+
+    @Override
+    public void limpar(String regiao) {
+    }
+
+    @Override
+    public boolean isHabilitado() {
+        return false;
+    }
+}
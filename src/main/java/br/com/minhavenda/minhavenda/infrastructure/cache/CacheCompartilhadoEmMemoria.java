@@ -0,0 +1,67 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Segundo nível em memória, com TTL.
+ *
+ * Substituto local de um cache remoto: mesma semântica (TTL, remoção por
+ * chave e por região), mas sem compartilhamento real entre instâncias.
+ * Útil em testes e para exercitar o fluxo de dois níveis.
+ */
+@Component
+@ConditionalOnProperty(name = "catalogo.cache.compartilhado", havingValue = "memoria")
+public class CacheCompartilhadoEmMemoria implements CacheCompartilhado {
+
+    private final Map<String, Map<Object, Entrada>> regioes = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public CacheCompartilhadoEmMemoria(@Value("${catalogo.cache.compartilhado.ttl:10m}") Duration ttl) {
+        this.ttlMillis = ttl.toMillis();
+    }
+
+    @Override
+    public Object buscar(String regiao, Object chave) {
+        Map<Object, Entrada> entradas = regioes.get(regiao);
+        if (entradas == null) {
+            return null;
+        }
+        Entrada entrada = entradas.get(chave);
+        if (entrada == null) {
+            return null;
+        }
+        if (entrada.expiraEm() <= System.currentTimeMillis()) {
+            entradas.remove(chave, entrada);
+            return null;
+        }
+        return entrada.valor();
+    }
+
+    @Override
+    public void gravar(String regiao, Object chave, Object valor) {
+        regioes.computeIfAbsent(regiao, r -> new ConcurrentHashMap<>())
+                .put(chave, new Entrada(valor, System.currentTimeMillis() + ttlMillis));
+    }
+
+    @Override
+    public void remover(String regiao, Object chave) {
+        Map<Object, Entrada> entradas = regioes.get(regiao);
+        if (entradas != null) {
+            entradas.remove(chave);
+        }
+    }
+
+    @Override
+    public void limpar(String regiao) {
+        regioes.remove(regiao);
+    }
+
+    private record Entrada(Object valor, long expiraEm) {
+    }
+}
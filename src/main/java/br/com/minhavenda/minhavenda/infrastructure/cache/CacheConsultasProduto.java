@@ -0,0 +1,227 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import br.com.minhavenda.minhavenda.domain.event.ProdutoAlteradoEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache de resultados das buscas com filtros (GET /produtos/buscar).
+ *
+ * A chave é o filtro normalizado (termo sem espaços nas pontas e em
+ * minúsculas, preços sem zeros à direita) mais página, tamanho e
+ * ordenação. O valor guarda só os IDs da página e o total; os produtos são
+ * hidratados pelo cache de produtos do {@link CacheCatalogo}, sempre
+ * atualizado.
+ *
+ * Invalidação por geração: cada categoria tem um contador, e há um global.
+ * A chave inclui a geração da categoria filtrada, ou a global quando a
+ * busca não filtra categoria. Alterações de produto, estoque e categoria
+ * incrementam as gerações das categorias afetadas e a global, após o
+ * commit; as chaves antigas deixam de ser lidas e saem por TTL ou tamanho.
+ * Alterações de outra instância ({@link CatalogoAlteradoExternamenteEvent})
+ * avançam todas as gerações.
+ * Uma consulta que começou antes do commit grava na geração antiga, então
+ * nunca é servida depois do evento.
+ *
+ * Single-flight: em uma falta, a primeira requisição executa a consulta e
+ * as concorrentes da mesma chave esperam pelo mesmo resultado (um
+ * CompletableFuture no cache), sem ir ao banco. Se a consulta falhar, a
+ * falha é repassada a quem esperava e a chave não fica no cache.
+ *
+ * Desligado com catalogo.cache.consultas.tamanho-maximo=0.
+ */
+@Slf4j
+@Component
+public class CacheConsultasProduto {
+
+    private static final String NOME = "catalogo.consultas";
+
+    private final AsyncCache<Chave, Resultado> resultados;
+    private final boolean habilitado;
+    private final AtomicLong geracaoGlobal = new AtomicLong();
+    private final ConcurrentMap<Long, AtomicLong> geracoes = new ConcurrentHashMap<>();
+    private final Counter coalescidas;
+
+    public CacheConsultasProduto(
+            MeterRegistry meterRegistry,
+            @Value("${catalogo.cache.consultas.ttl:5m}") Duration ttl,
+            @Value("${catalogo.cache.consultas.tamanho-maximo:2000}") long tamanhoMaximo
+    ) {
+        this.habilitado = tamanhoMaximo > 0;
+        this.resultados = Caffeine.newBuilder()
+                .maximumSize(Math.max(tamanhoMaximo, 0))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, resultados, NOME);
+        this.coalescidas = Counter.builder("cache.coalescidas")
+                .description("Requisições que esperaram uma consulta já em andamento")
+                .tag("cache", NOME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param filtro filtros da busca
+     * @param pageable página e ordenação (buscas sem paginação não são cacheadas)
+     * @param consultar executa a busca no banco em caso de falta
+     * @param hidratar carrega os produtos dos IDs, na mesma ordem
+     * @return página da busca
+     */
+    public Page<ProdutoDTO> buscar(
+            FiltroProdutoRequest filtro,
+            Pageable pageable,
+            Supplier<Page<ProdutoDTO>> consultar,
+            Function<List<UUID>, List<ProdutoDTO>> hidratar
+    ) {
+        if (!habilitado || pageable.isUnpaged()) {
+            return consultar.get();
+        }
+
+        Chave chave = Chave.de(filtro, pageable, geracao(filtro.getCategoriaId()));
+        CompletableFuture<Resultado> novo = new CompletableFuture<>();
+        CompletableFuture<Resultado> futuro = resultados.get(chave, (k, executor) -> novo);
+
+        if (futuro != novo) {
+            if (!futuro.isDone()) {
+                coalescidas.increment();
+            }
+            Resultado resultado = aguardar(futuro);
+            return new PageImpl<>(hidratar.apply(resultado.ids()), pageable, resultado.total());
+        }
+
+        try {
+            Page<ProdutoDTO> pagina = consultar.get();
+            novo.complete(new Resultado(
+                    pagina.getContent().stream().map(ProdutoDTO::getId).toList(),
+                    pagina.getTotalElements()
+            ));
+            return pagina;
+        } catch (RuntimeException | Error e) {
+            novo.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarProduto(ProdutoAlteradoEvent event) {
+        incrementarGeracoes(event.categoriaIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarEstoque(EstoqueAlteradoEvent event) {
+        incrementarGeracoes(event.categoriaIds());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarCategoria(CategoriaAlteradaEvent event) {
+        incrementarGeracoes(Set.of(event.categoriaId()));
+    }
+
+    /**
+     * Alteração feita em outra instância: avançam as gerações das
+     * categorias afetadas, ou todas quando o que mudou é desconhecido.
+     */
+    @EventListener
+    public void aoAlterarExternamente(CatalogoAlteradoExternamenteEvent event) {
+        incrementarGeracoes(event.completo() ? geracoes.keySet() : event.categoriaIds());
+    }
+
+    private void incrementarGeracoes(Collection<Long> categoriaIds) {
+        log.debug("Invalidando buscas cacheadas das categorias {}", categoriaIds);
+        for (Long categoriaId : categoriaIds) {
+            geracoes.computeIfAbsent(categoriaId, id -> new AtomicLong()).incrementAndGet();
+        }
+        geracaoGlobal.incrementAndGet();
+    }
+
+    private long geracao(Long categoriaId) {
+        if (categoriaId == null) {
+            return geracaoGlobal.get();
+        }
+        return geracoes.computeIfAbsent(categoriaId, id -> new AtomicLong()).get();
+    }
+
+    private static Resultado aguardar(CompletableFuture<Resultado> futuro) {
+        try {
+            return futuro.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    private record Chave(
+            String termo,
+            Long categoriaId,
+            BigDecimal precoMin,
+            BigDecimal precoMax,
+            Boolean ativo,
+            int pagina,
+            int tamanho,
+            Sort ordenacao,
+            long geracao
+    ) {
+
+        static Chave de(FiltroProdutoRequest filtro, Pageable pageable, long geracao) {
+            String termo = filtro.getTermo() != null && !filtro.getTermo().isBlank()
+                    ? filtro.getTermo().trim().toLowerCase(Locale.ROOT)
+                    : null;
+
+            return new Chave(
+                    termo,
+                    filtro.getCategoriaId(),
+                    normalizar(filtro.getPrecoMin()),
+                    normalizar(filtro.getPrecoMax()),
+                    filtro.getAtivo(),
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    pageable.getSort(),
+                    geracao
+            );
+        }
+
+        private static BigDecimal normalizar(BigDecimal valor) {
+            return valor != null ? valor.stripTrailingZeros() : null;
+        }
+    }
+
+    /**
+     * IDs da página, na ordem da busca, e total de resultados.
+     */
+    private record Resultado(List<UUID> ids, long total) {
+    }
+}
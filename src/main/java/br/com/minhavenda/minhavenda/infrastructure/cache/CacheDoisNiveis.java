@@ -0,0 +1,166 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Cache de dois níveis: Caffeine local (W-TinyLFU, limitado por tamanho e
+ * TTL) na frente de um {@link CacheCompartilhado}.
+ *
+ * Leitura: local → compartilhado → carregador (banco). Cargas concorrentes
+ * da mesma chave são feitas uma única vez (o Caffeine bloqueia os demais
+ * leitores até a primeira terminar). Valores null (não encontrado) não são
+ * cacheados.
+ *
+ * Métricas no Micrometer, com a tag cache=nome:
+ * - cache.gets{result=hit|miss}, cache.evictions e cache.load.duration
+ *   do nível local
+ * - cache.compartilhado.gets{result=hit|miss} do segundo nível
+ *
+ * A invalidação remove a chave local depois que cargas em andamento
+ * terminam e só então remove do compartilhado, para que uma carga antiga
+ * não regrave o valor removido. Outras instâncias enxergam a mudança pelo
+ * compartilhado quando o TTL local expirar.
+ */
+public final class CacheDoisNiveis<K, V> {
+
+    private final String nome;
+    private final Cache<K, V> local;
+    private final CacheCompartilhado compartilhado;
+    private final Counter acertosCompartilhado;
+    private final Counter faltasCompartilhado;
+
+    public CacheDoisNiveis(
+            String nome,
+            long tamanhoMaximo,
+            Duration ttl,
+            CacheCompartilhado compartilhado,
+            MeterRegistry meterRegistry
+    ) {
+        this.nome = nome;
+        this.compartilhado = compartilhado;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, nome);
+        this.acertosCompartilhado = Counter.builder("cache.compartilhado.gets")
+                .tag("cache", nome)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.faltasCompartilhado = Counter.builder("cache.compartilhado.gets")
+                .tag("cache", nome)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param chave chave
+     * @param carregar carrega do banco em caso de falta nos dois níveis
+     * @return valor, ou null se o carregador não encontrar
+     */
+    @SuppressWarnings("unchecked")
+    public V buscar(K chave, Function<K, V> carregar) {
+        return local.get(chave, k -> {
+            if (compartilhado.isHabilitado()) {
+                V valor = (V) compartilhado.buscar(nome, k);
+                if (valor != null) {
+                    acertosCompartilhado.increment();
+                    return valor;
+                }
+                faltasCompartilhado.increment();
+            }
+
+            V valor = carregar.apply(k);
+            if (valor != null) {
+                compartilhado.gravar(nome, k, valor);
+            }
+            return valor;
+        });
+    }
+
+    /**
+     * Busca várias chaves de uma vez. As que faltarem nos dois níveis são
+     * carregadas juntas, em uma única chamada ao carregador.
+     *
+     * @param chaves chaves
+     * @param carregar carrega do banco as chaves que faltarem
+     * @return valores encontrados (chaves não encontradas ficam de fora)
+     */
+    @SuppressWarnings("unchecked")
+    public Map<K, V> buscarTodos(Collection<K> chaves, Function<Set<K>, Map<K, V>> carregar) {
+        return local.getAll(chaves, faltantes -> {
+            Map<K, V> encontrados = new HashMap<>();
+            Set<K> restantes = new LinkedHashSet<>(faltantes);
+
+            if (compartilhado.isHabilitado()) {
+                for (Iterator<K> it = restantes.iterator(); it.hasNext(); ) {
+                    K chave = it.next();
+                    V valor = (V) compartilhado.buscar(nome, chave);
+                    if (valor != null) {
+                        acertosCompartilhado.increment();
+                        encontrados.put(chave, valor);
+                        it.remove();
+                    } else {
+                        faltasCompartilhado.increment();
+                    }
+                }
+            }
+
+            if (!restantes.isEmpty()) {
+                carregar.apply(restantes).forEach((chave, valor) -> {
+                    compartilhado.gravar(nome, chave, valor);
+                    encontrados.put(chave, valor);
+                });
+            }
+            return encontrados;
+        });
+    }
+
+    /**
+     * @return true se a chave está no nível local (sem consultar o compartilhado nem o banco)
+     */
+    public boolean contemLocal(K chave) {
+        return local.getIfPresent(chave) != null;
+    }
+
+    public void invalidar(K chave) {
+        local.invalidate(chave);
+        compartilhado.remover(nome, chave);
+    }
+
+    /**
+     * Descarta a chave só do nível local (o compartilhado já foi
+     * invalidado por quem fez a alteração).
+     */
+    public void invalidarLocal(K chave) {
+        local.invalidate(chave);
+    }
+
+    /**
+     * Descarta só o nível local (o compartilhado já foi invalidado por
+     * quem fez a alteração).
+     */
+    public void invalidarLocal() {
+        local.invalidateAll();
+    }
+
+    public void invalidarTudo() {
+        local.invalidateAll();
+        compartilhado.limpar(nome);
+    }
+}
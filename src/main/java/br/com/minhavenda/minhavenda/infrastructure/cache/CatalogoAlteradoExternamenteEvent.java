@@ -0,0 +1,34 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Publicado pela {@link VersaoCatalogo} quando percebe que o catálogo foi
+ * alterado por outra instância (os eventos de domínio só chegam à
+ * instância que fez a alteração).
+ *
+ * Leva o que mudou entre a versão conhecida aqui e a nova, lido de
+ * catalogo_alteracoes: os caches locais descartam só essas entradas, como
+ * fariam com os eventos de domínio. Se o histórico não cobre o intervalo
+ * (instância muito atrasada, ou sem versão lida ainda), o evento é
+ * completo e os caches locais descartam tudo.
+ *
+ * @param versao versão lida do banco
+ * @param completo o que mudou é desconhecido: descartar tudo
+ * @param produtoIds produtos alterados (dados ou estoque)
+ * @param categoriaIds categorias afetadas (dos produtos alterados e as alteradas)
+ * @param categoriasAlteradas categorias que mudaram elas mesmas
+ */
+public record CatalogoAlteradoExternamenteEvent(
+        long versao,
+        boolean completo,
+        Set<UUID> produtoIds,
+        Set<Long> categoriaIds,
+        Set<Long> categoriasAlteradas
+) {
+
+    public static CatalogoAlteradoExternamenteEvent completo(long versao) {
+        return new CatalogoAlteradoExternamenteEvent(versao, true, Set.of(), Set.of(), Set.of());
+    }
+}
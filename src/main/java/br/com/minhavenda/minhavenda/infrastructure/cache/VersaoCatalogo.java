@@ -0,0 +1,331 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import br.com.minhavenda.minhavenda.domain.entity.CatalogoVersao;
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import br.com.minhavenda.minhavenda.domain.event.ProdutoAlteradoEvent;
+import br.com.minhavenda.minhavenda.infrastructure.tarefas.TarefasAposCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Versão do catálogo (produtos, estoque e categorias) para GETs
+ * condicionais (ETag / Last-Modified), compartilhada entre instâncias.
+ *
+ * A versão fica na linha única de catalogo_versao. Os eventos de domínio
+ * (o mesmo gatilho que invalida os caches do catálogo) agendam um
+ * incremento da linha para depois do commit, em {@link TarefasAposCommit}.
+ * Cada incremento grava em catalogo_alteracoes o que mudou (produtos e
+ * categorias), para as outras instâncias invalidarem só isso. O incremento
+ * roda fora da thread do request, que ainda segura a conexão da
+ * transação, e depois das invalidações dos caches. Incrementos que chegam enquanto um
+ * outro espera conexão são coalescidos nele, então um pico de checkouts
+ * não vira uma fila de UPDATEs na mesma linha. O ETag é só o número da
+ * versão, então qualquer instância atrás do balanceador responde 304
+ * para o mesmo estado do catálogo.
+ *
+ * A leitura passa por uma cópia local renovada no máximo a cada
+ * catalogo.versao.intervalo-leitura: é o atraso com que uma alteração
+ * feita em outra instância chega aqui. Ao perceber uma versão nova que
+ * não veio desta instância, publica {@link CatalogoAlteradoExternamenteEvent}
+ * com as alterações do intervalo, para os caches locais descartarem as
+ * entradas afetadas: na leitura, ou no próprio incremento, quando a versão
+ * nova pula números (outra instância incrementou depois da última leitura
+ * daqui). Alterações mais antigas que catalogo.versao.retencao-alteracoes
+ * são apagadas; uma instância atrasada além disso descarta tudo.
+ *
+ * Last-Modified é o instante do último incremento.
+ */
+@Slf4j
+@Component
+public class VersaoCatalogo {
+
+    /** Apaga alterações antigas a cada tantas versões */
+    private static final int LIMPEZA_A_CADA = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TarefasAposCommit tarefasAposCommit;
+    private final long intervaloLeituraNanos;
+    private final ReentrantLock lockLeitura = new ReentrantLock();
+    private final AtomicBoolean incrementoPendente = new AtomicBoolean();
+    private final Queue<Alteracao> alteracoesPendentes = new ConcurrentLinkedQueue<>();
+    private final Duration retencaoAlteracoes;
+
+    private volatile Versao atual;
+    private volatile long lidaEm;
+
+    public VersaoCatalogo(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            TarefasAposCommit tarefasAposCommit,
+            @Value("${catalogo.versao.intervalo-leitura:PT1S}") Duration intervaloLeitura,
+            @Value("${catalogo.versao.retencao-alteracoes:PT1H}") Duration retencaoAlteracoes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.tarefasAposCommit = tarefasAposCommit;
+        this.intervaloLeituraNanos = intervaloLeitura.toNanos();
+        this.retencaoAlteracoes = retencaoAlteracoes;
+    }
+
+    /**
+     * Versão atual, lida do banco se a cópia local passou do intervalo.
+     *
+     * Uma leitura por vez; as requisições que chegam durante a leitura
+     * usam a cópia local. ReentrantLock no lugar de synchronized, para
+     * não prender a thread virtual à portadora durante o I/O.
+     */
+    public Versao atual() {
+        Versao versao = atual;
+        if (versao != null && System.nanoTime() - lidaEm < intervaloLeituraNanos) {
+            return versao;
+        }
+
+        if (versao == null) {
+            lockLeitura.lock();
+        } else if (!lockLeitura.tryLock()) {
+            return versao;
+        }
+        try {
+            if (atual == null || System.nanoTime() - lidaEm >= intervaloLeituraNanos) {
+                Versao lida = transactionTemplate.execute(status -> ler());
+                Versao substituida = avancar(lida);
+                if (substituida != null) {
+                    publicarAlteracoesExternas(substituida.numero(), lida.numero());
+                }
+            }
+            return atual;
+        } finally {
+            lockLeitura.unlock();
+        }
+    }
+
+    @EventListener
+    public void aoAlterarProduto(ProdutoAlteradoEvent event) {
+        List<Alteracao> alteracoes = new ArrayList<>();
+        alteracoes.add(Alteracao.produto(event.produtoId()));
+        event.categoriaIds().forEach(categoriaId -> alteracoes.add(Alteracao.categoriaAfetada(categoriaId)));
+        agendarIncremento(alteracoes);
+    }
+
+    @EventListener
+    public void aoAlterarEstoque(EstoqueAlteradoEvent event) {
+        List<Alteracao> alteracoes = new ArrayList<>();
+        event.produtoIds().forEach(produtoId -> alteracoes.add(Alteracao.produto(produtoId)));
+        event.categoriaIds().forEach(categoriaId -> alteracoes.add(Alteracao.categoriaAfetada(categoriaId)));
+        agendarIncremento(alteracoes);
+    }
+
+    @EventListener
+    public void aoAlterarCategoria(CategoriaAlteradaEvent event) {
+        agendarIncremento(List.of(Alteracao.categoriaAlterada(event.categoriaId())));
+    }
+
+    /**
+     * Agenda o incremento para depois do commit (na hora, sem transação).
+     *
+     * Se já há um incremento esperando conexão, este commit é coberto por
+     * ele: o UPDATE ainda não começou, vai ver o estado commitado e grava
+     * também as alterações deste.
+     */
+    private void agendarIncremento(List<Alteracao> alteracoes) {
+        tarefasAposCommit.executar("catalogo.versao", () -> {
+            alteracoesPendentes.addAll(alteracoes);
+            if (incrementoPendente.getAndSet(true)) {
+                return;
+            }
+            incrementar();
+        });
+    }
+
+    private void incrementar() {
+        // Cópia local antes do UPDATE: se a versão nova pular números, outra
+        // instância alterou o catálogo depois da última leitura daqui
+        Versao anterior = atual;
+        List<Alteracao> alteracoes = new ArrayList<>();
+        Versao nova;
+        try {
+            nova = transactionTemplate.execute(status -> {
+                // Conexão obtida: commits a partir daqui agendam outro incremento
+                incrementoPendente.set(false);
+                for (Alteracao alteracao; (alteracao = alteracoesPendentes.poll()) != null; ) {
+                    alteracoes.add(alteracao);
+                }
+                if (alteracoes.isEmpty()) {
+                    // Já gravadas por um incremento que pegou a conexão antes
+                    return null;
+                }
+                return gravarIncremento(alteracoes);
+            });
+        } catch (RuntimeException e) {
+            incrementoPendente.set(false);
+            alteracoesPendentes.addAll(alteracoes);
+            throw e;
+        }
+        if (nova == null) {
+            return;
+        }
+        avancar(nova);
+        if (anterior == null) {
+            eventPublisher.publishEvent(CatalogoAlteradoExternamenteEvent.completo(nova.numero()));
+        } else if (nova.numero() > anterior.numero() + 1) {
+            publicarAlteracoesExternas(anterior.numero(), nova.numero() - 1);
+        }
+    }
+
+    private Versao gravarIncremento(List<Alteracao> alteracoes) {
+        LocalDateTime agora = LocalDateTime.ofInstant(
+                Instant.now().truncatedTo(ChronoUnit.SECONDS), ZoneOffset.UTC);
+        int linhas = jdbcTemplate.update(
+                "UPDATE catalogo_versao SET versao = versao + 1, atualizado_em = ? WHERE id = ?",
+                agora, CatalogoVersao.ID);
+        if (linhas == 0) {
+            jdbcTemplate.update(
+                    "INSERT INTO catalogo_versao (id, versao, atualizado_em) VALUES (?, 1, ?)",
+                    CatalogoVersao.ID, agora);
+        }
+        Versao nova = ler();
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO catalogo_alteracoes (versao, produto_id, categoria_id, categoria_alterada, registrado_em)
+                VALUES (?, ?, ?, ?, ?)
+                """, alteracoes, alteracoes.size(), (ps, alteracao) -> {
+            ps.setLong(1, nova.numero());
+            ps.setObject(2, alteracao.produtoId());
+            ps.setObject(3, alteracao.categoriaId());
+            ps.setBoolean(4, alteracao.categoriaAlterada());
+            ps.setObject(5, agora);
+        });
+        if (nova.numero() % LIMPEZA_A_CADA == 0) {
+            jdbcTemplate.update("DELETE FROM catalogo_alteracoes WHERE registrado_em < ?",
+                    agora.minus(retencaoAlteracoes));
+        }
+        return nova;
+    }
+
+    /**
+     * Publica o que mudou nas versões (desde, ate]. Se o histórico não
+     * cobre todas elas, publica o evento completo.
+     */
+    private void publicarAlteracoesExternas(long desde, long ate) {
+        Set<Long> versoes = new HashSet<>();
+        Set<UUID> produtoIds = new HashSet<>();
+        Set<Long> categoriaIds = new HashSet<>();
+        Set<Long> categoriasAlteradas = new HashSet<>();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query("""
+                SELECT versao, produto_id, categoria_id, categoria_alterada
+                FROM catalogo_alteracoes
+                WHERE versao > ? AND versao <= ?
+                """, rs -> {
+            versoes.add(rs.getLong("versao"));
+            UUID produtoId = rs.getObject("produto_id", UUID.class);
+            if (produtoId != null) {
+                produtoIds.add(produtoId);
+            }
+            long categoriaId = rs.getLong("categoria_id");
+            if (!rs.wasNull()) {
+                categoriaIds.add(categoriaId);
+                if (rs.getBoolean("categoria_alterada")) {
+                    categoriasAlteradas.add(categoriaId);
+                }
+            }
+        }, desde, ate));
+
+        log.debug("Catálogo alterado em outra instância (versões {} a {})", desde + 1, ate);
+        if (versoes.size() < ate - desde) {
+            eventPublisher.publishEvent(CatalogoAlteradoExternamenteEvent.completo(ate));
+            return;
+        }
+        eventPublisher.publishEvent(new CatalogoAlteradoExternamenteEvent(
+                ate, false, produtoIds, categoriaIds, categoriasAlteradas));
+    }
+
+    /**
+     * Troca a cópia local se a versão lida for mais nova (nunca regride).
+     *
+     * @return a versão substituída, ou null se não havia uma ou ela não mudou
+     */
+    private Versao avancar(Versao lida) {
+        lockLeitura.lock();
+        try {
+            Versao anterior = atual;
+            lidaEm = System.nanoTime();
+            if (anterior == null || lida.numero() > anterior.numero()) {
+                atual = lida;
+                return anterior;
+            }
+            return null;
+        } finally {
+            lockLeitura.unlock();
+        }
+    }
+
+    private Versao ler() {
+        List<Versao> versoes = jdbcTemplate.query(
+                "SELECT versao, atualizado_em FROM catalogo_versao WHERE id = ?",
+                (rs, rowNum) -> new Versao(
+                        rs.getLong("versao"),
+                        rs.getObject("atualizado_em", LocalDateTime.class).toInstant(ZoneOffset.UTC)),
+                CatalogoVersao.ID);
+        return versoes.isEmpty() ? new Versao(0, Instant.EPOCH) : versoes.get(0);
+    }
+
+    /**
+     * Uma linha de catalogo_alteracoes.
+     */
+    private record Alteracao(UUID produtoId, Long categoriaId, boolean categoriaAlterada) {
+
+        static Alteracao produto(UUID produtoId) {
+            return new Alteracao(produtoId, null, false);
+        }
+
+        static Alteracao categoriaAfetada(Long categoriaId) {
+            return new Alteracao(null, categoriaId, false);
+        }
+
+        static Alteracao categoriaAlterada(Long categoriaId) {
+            return new Alteracao(null, categoriaId, true);
+        }
+    }
+
+    /**
+     * @param numero contador da versão
+     * @param ultimaAlteracao instante do último incremento (precisão de segundos, como no header HTTP)
+     */
+    public record Versao(long numero, Instant ultimaAlteracao) {
+
+        /**
+         * @return ETag forte da versão, já entre aspas
+         */
+        public String etag() {
+            return "\"" + numero + "\"";
+        }
+    }
+}
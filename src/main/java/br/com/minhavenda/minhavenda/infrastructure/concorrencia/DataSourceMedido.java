@@ -0,0 +1,106 @@
+package br.com.minhavenda.minhavenda.infrastructure.concorrencia;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que mede o tempo de banco de cada operação admitida pelo
+ * {@link LimitadorConcorrenciaBanco}.
+ *
+ * Conexão pedida numa thread vinculada a uma permissão conta do pedido
+ * (incluindo a espera no pool) até o close(). Fora de operação admitida
+ * (jobs agendados, tarefas pós-commit, corpo de StreamingResponseBody),
+ * a conexão passa sem medição.
+ */
+public class DataSourceMedido extends DelegatingDataSource {
+
+    public DataSourceMedido(DataSource alvo) {
+        super(alvo);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return medir(super::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return medir(() -> super.getConnection(username, password));
+    }
+
+    private Connection medir(FonteConexao fonte) throws SQLException {
+        LimitadorConcorrenciaBanco.Permissao permissao = LimitadorConcorrenciaBanco.permissaoDaThread();
+        if (permissao == null) {
+            return fonte.obter();
+        }
+
+        permissao.conexaoSolicitada();
+        Connection conexao;
+        try {
+            conexao = fonte.obter();
+        } catch (SQLException | RuntimeException e) {
+            permissao.conexaoDevolvida();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionProxy.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class},
+                new DevolverAoFechar(conexao, permissao));
+    }
+
+    @FunctionalInterface
+    private interface FonteConexao {
+        Connection obter() throws SQLException;
+    }
+
+    private static final class DevolverAoFechar implements InvocationHandler {
+
+        private final Connection alvo;
+        private final LimitadorConcorrenciaBanco.Permissao permissao;
+        private final AtomicBoolean devolvida = new AtomicBoolean();
+
+        private DevolverAoFechar(Connection alvo, LimitadorConcorrenciaBanco.Permissao permissao) {
+            this.alvo = alvo;
+            this.permissao = permissao;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Conexão medida [" + alvo + "]";
+                case "getTargetConnection":
+                    return alvo;
+                case "close":
+                    if (devolvida.compareAndSet(false, true)) {
+                        try {
+                            alvo.close();
+                        } finally {
+                            permissao.conexaoDevolvida();
+                        }
+                    }
+                    return null;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(alvo, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package br.com.minhavenda.minhavenda.infrastructure.concorrencia;
+
+import br.com.minhavenda.minhavenda.config.GlobalExceptionHandler.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Aplica o {@link LimitadorConcorrenciaBanco} por request.
+ *
+ * Roda depois do Spring Security (request sem autenticação não ocupa
+ * vaga). A prioridade vem da rota:
+ * - banco.limitador.rotas-criticas: CRITICA (checkout, pagamento)
+ * - banco.limitador.rotas-catalogo, só GET: BAIXA
+ * - demais: NORMAL
+ * Rotas em banco.limitador.rotas-ignoradas (actuator, Swagger,
+ * exportações longas) passam direto.
+ *
+ * Recusado: 503 com Retry-After, sem chegar ao controller. Admitido: a
+ * vaga é liberada ao fim do request (ou da resposta assíncrona, para
+ * StreamingResponseBody); status 5xx conta como falha para o limite.
+ * O tempo de banco que alimenta o limite é medido só na thread do
+ * request: a parte assíncrona, no ritmo do cliente, fica de fora.
+ */
+@Component
+@ConditionalOnProperty(name = "banco.limitador.habilitado", havingValue = "true", matchIfMissing = true)
+public class FiltroLimiteBanco extends OncePerRequestFilter {
+
+    private final LimitadorConcorrenciaBanco limitador;
+    private final ObjectMapper objectMapper;
+    private final List<String> rotasCriticas;
+    private final List<String> rotasCatalogo;
+    private final List<String> rotasIgnoradas;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public FiltroLimiteBanco(
+            LimitadorConcorrenciaBanco limitador,
+            ObjectMapper objectMapper,
+            @Value("${banco.limitador.rotas-criticas:/checkout/**,/pedidos/*/pagar}") String[] rotasCriticas,
+            @Value("${banco.limitador.rotas-catalogo:/produtos/**,/categorias/**}") String[] rotasCatalogo,
+            @Value("${banco.limitador.rotas-ignoradas:/actuator/**,/swagger-ui/**,/v3/api-docs/**,/admin/exportacao/**}")
+            String[] rotasIgnoradas
+    ) {
+        this.limitador = limitador;
+        this.objectMapper = objectMapper;
+        this.rotasCriticas = List.of(rotasCriticas);
+        this.rotasCatalogo = List.of(rotasCatalogo);
+        this.rotasIgnoradas = List.of(rotasIgnoradas);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return HttpMethod.OPTIONS.matches(request.getMethod()) || corresponde(rotasIgnoradas, caminho(request));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Optional<LimitadorConcorrenciaBanco.Permissao> permissao = limitador.tentarAdquirir(prioridade(request));
+        if (permissao.isEmpty()) {
+            recusar(request, response);
+            return;
+        }
+
+        boolean falhou = true;
+        permissao.get().vincularAThread();
+        try {
+            filterChain.doFilter(request, response);
+            falhou = false;
+        } finally {
+            permissao.get().desvincularDaThread();
+            permissao.get().encerrarMedicao();
+            if (!falhou && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new LiberarAoConcluir(permissao.get(), response));
+            } else {
+                permissao.get().liberar(falhou || response.getStatus() >= 500);
+            }
+        }
+    }
+
+    Prioridade prioridade(HttpServletRequest request) {
+        String caminho = caminho(request);
+        if (corresponde(rotasCriticas, caminho)) {
+            return Prioridade.CRITICA;
+        }
+        if (HttpMethod.GET.matches(request.getMethod()) && corresponde(rotasCatalogo, caminho)) {
+            return Prioridade.BAIXA;
+        }
+        return Prioridade.NORMAL;
+    }
+
+    private void recusar(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long segundos = Math.max(1, (limitador.retryAfter().toMillis() + 999) / 1000);
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Serviço sobrecarregado. Tente novamente em instantes.",
+                LocalDateTime.now(),
+                request.getRequestURI()
+        ));
+    }
+
+    private String caminho(HttpServletRequest request) {
+        return urlPathHelper.getPathWithinApplication(request);
+    }
+
+    private boolean corresponde(List<String> padroes, String caminho) {
+        for (String padrao : padroes) {
+            if (pathMatcher.match(padrao, caminho)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record LiberarAoConcluir(
+            LimitadorConcorrenciaBanco.Permissao permissao,
+            HttpServletResponse response
+    ) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permissao.liberar(response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            permissao.liberar(true);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            permissao.liberar(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
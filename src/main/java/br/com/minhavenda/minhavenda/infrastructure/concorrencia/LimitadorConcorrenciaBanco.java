@@ -0,0 +1,268 @@
+package br.com.minhavenda.minhavenda.infrastructure.concorrencia;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Limite de concorrência adaptativo na frente do banco.
+ *
+ * Sem limite, um pico de requests enfileira threads no pool do Hikari
+ * até o connection-timeout e só então falha. Aqui o excesso é recusado
+ * na entrada, antes de qualquer consulta, e quem chamou responde 503.
+ *
+ * O limite segue um {@link LimiteAimd}: cresce enquanto o tempo de banco
+ * das operações fica dentro de banco.limitador.latencia-alvo e cai quando
+ * passa dela ou a operação falha (sinal de banco ou pool saturado). Tempo
+ * de banco é o tempo com conexão JDBC em uso na thread da operação,
+ * incluindo a espera no pool ({@link DataSourceMedido}); operação que não
+ * pegou conexão (cache) não alimenta o limite. Cada
+ * {@link Prioridade} só usa sua fração do limite; CRITICA ainda pode
+ * esperar até banco.limitador.espera-maxima por uma vaga, as demais são
+ * recusadas na hora.
+ *
+ * Métricas: banco.limitador.decisoes{prioridade, decisao} (admitida,
+ * enfileirada, rejeitada), banco.limitador.limite, banco.limitador.em_uso
+ * e banco.limitador.aguardando. Espera, conexões ativas e pendentes do
+ * pool saem nas métricas hikaricp.* do Actuator.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "banco.limitador.habilitado", havingValue = "true", matchIfMissing = true)
+public class LimitadorConcorrenciaBanco {
+
+    /** Permissão da operação em andamento na thread, para atribuir o uso de conexões */
+    private static final ThreadLocal<Permissao> PERMISSAO_DA_THREAD = new ThreadLocal<>();
+
+    private final LimiteAimd limite;
+    private final long esperaMaximaNanos;
+    private final Duration retryAfter;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition vagaLiberada = lock.newCondition();
+    private int emUso;
+    private int aguardando;
+
+    public LimitadorConcorrenciaBanco(
+            MeterRegistry meterRegistry,
+            @Value("${banco.limitador.inicial:10}") int inicial,
+            @Value("${banco.limitador.minimo:5}") int minimo,
+            @Value("${banco.limitador.maximo:100}") int maximo,
+            @Value("${banco.limitador.latencia-alvo:250ms}") Duration latenciaAlvo,
+            @Value("${banco.limitador.fator-reducao:0.9}") double fatorReducao,
+            @Value("${banco.limitador.espera-maxima:100ms}") Duration esperaMaxima,
+            @Value("${banco.limitador.retry-after:1s}") Duration retryAfter
+    ) {
+        this.limite = new LimiteAimd(inicial, minimo, maximo, latenciaAlvo.toNanos(), fatorReducao);
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+        this.retryAfter = retryAfter;
+        this.meterRegistry = meterRegistry;
+
+        Gauge.builder("banco.limitador.limite", this, LimitadorConcorrenciaBanco::limite)
+                .description("Concorrência máxima admitida no banco")
+                .register(meterRegistry);
+        Gauge.builder("banco.limitador.em_uso", this, LimitadorConcorrenciaBanco::emUso)
+                .description("Requests admitidos em andamento")
+                .register(meterRegistry);
+        Gauge.builder("banco.limitador.aguardando", this, l -> l.lerSobLock(() -> l.aguardando))
+                .description("Requests críticos esperando vaga")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return permissão a liberar ao fim da operação, ou vazio se recusado
+     */
+    public Optional<Permissao> tentarAdquirir(Prioridade prioridade) {
+        lock.lock();
+        try {
+            if (emUso < prioridade.capacidade(limite.limite())) {
+                return Optional.of(admitir(prioridade, "admitida"));
+            }
+            if (prioridade != Prioridade.CRITICA || esperaMaximaNanos <= 0) {
+                return rejeitar(prioridade);
+            }
+
+            aguardando++;
+            try {
+                long restante = esperaMaximaNanos;
+                while (emUso >= prioridade.capacidade(limite.limite())) {
+                    if (restante <= 0) {
+                        return rejeitar(prioridade);
+                    }
+                    restante = vagaLiberada.awaitNanos(restante);
+                }
+                return Optional.of(admitir(prioridade, "enfileirada"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return rejeitar(prioridade);
+            } finally {
+                aguardando--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Tempo sugerido ao cliente antes de tentar de novo (Retry-After).
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+
+    public int limite() {
+        return lerSobLock(limite::limite);
+    }
+
+    public int emUso() {
+        return lerSobLock(() -> emUso);
+    }
+
+    private Permissao admitir(Prioridade prioridade, String decisao) {
+        emUso++;
+        contar(prioridade, decisao);
+        return new Permissao(emUso);
+    }
+
+    private Optional<Permissao> rejeitar(Prioridade prioridade) {
+        contar(prioridade, "rejeitada");
+        log.debug("Request {} recusado: {} em uso, limite {}", prioridade, emUso, limite.limite());
+        return Optional.empty();
+    }
+
+    private void contar(Prioridade prioridade, String decisao) {
+        meterRegistry.counter("banco.limitador.decisoes",
+                        "prioridade", prioridade.name().toLowerCase(Locale.ROOT),
+                        "decisao", decisao)
+                .increment();
+    }
+
+    /**
+     * @return permissão vinculada à thread, ou null fora de uma operação admitida
+     */
+    static Permissao permissaoDaThread() {
+        return PERMISSAO_DA_THREAD.get();
+    }
+
+    private void liberar(Permissao permissao, boolean falhou) {
+        long tempoBanco = permissao.encerrarMedicao();
+        lock.lock();
+        try {
+            emUso--;
+            if (tempoBanco > 0) {
+                limite.registrar(tempoBanco, permissao.emUsoNaEntrada, falhou);
+            }
+            vagaLiberada.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int lerSobLock(IntSupplier leitura) {
+        lock.lock();
+        try {
+            return leitura.getAsInt();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Vaga admitida. Liberar uma única vez ao fim da operação; chamadas
+     * repetidas são ignoradas.
+     *
+     * Mede o tempo de banco enquanto vinculada a uma thread: do pedido da
+     * primeira conexão à devolução da última (conexões aninhadas contam
+     * uma vez). {@link #encerrarMedicao()} fecha a conta; o que acontece
+     * depois (resposta assíncrona ditada pelo cliente) fica de fora.
+     */
+    public final class Permissao {
+
+        private final int emUsoNaEntrada;
+        private final AtomicBoolean liberada = new AtomicBoolean();
+        private final Lock medicao = new ReentrantLock();
+        private int conexoesEmUso;
+        private long inicioUso;
+        private long tempoBanco;
+        private boolean medicaoEncerrada;
+
+        private Permissao(int emUsoNaEntrada) {
+            this.emUsoNaEntrada = emUsoNaEntrada;
+        }
+
+        /**
+         * Atribui a esta permissão as conexões pedidas pela thread corrente.
+         */
+        void vincularAThread() {
+            PERMISSAO_DA_THREAD.set(this);
+        }
+
+        void desvincularDaThread() {
+            PERMISSAO_DA_THREAD.remove();
+        }
+
+        void conexaoSolicitada() {
+            medicao.lock();
+            try {
+                if (!medicaoEncerrada && conexoesEmUso++ == 0) {
+                    inicioUso = System.nanoTime();
+                }
+            } finally {
+                medicao.unlock();
+            }
+        }
+
+        void conexaoDevolvida() {
+            medicao.lock();
+            try {
+                if (!medicaoEncerrada && conexoesEmUso > 0 && --conexoesEmUso == 0) {
+                    tempoBanco += System.nanoTime() - inicioUso;
+                }
+            } finally {
+                medicao.unlock();
+            }
+        }
+
+        /**
+         * Fecha a medição (conexão ainda aberta conta até agora).
+         *
+         * @return tempo de banco em nanos; 0 se nenhuma conexão foi usada
+         */
+        long encerrarMedicao() {
+            medicao.lock();
+            try {
+                if (!medicaoEncerrada) {
+                    medicaoEncerrada = true;
+                    if (conexoesEmUso > 0) {
+                        tempoBanco += System.nanoTime() - inicioUso;
+                    }
+                }
+                return tempoBanco;
+            } finally {
+                medicao.unlock();
+            }
+        }
+
+        /**
+         * @param falhou a operação falhou (conta como sinal de saturação)
+         */
+        public void liberar(boolean falhou) {
+            if (liberada.compareAndSet(false, true)) {
+                LimitadorConcorrenciaBanco.this.liberar(this, falhou);
+            }
+        }
+    }
+}
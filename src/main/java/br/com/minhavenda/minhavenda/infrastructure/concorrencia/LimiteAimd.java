@@ -0,0 +1,49 @@
+package br.com.minhavenda.minhavenda.infrastructure.concorrencia;
+
+/**
+ * Limite de concorrência AIMD (additive increase, multiplicative decrease).
+ *
+ * A cada operação concluída:
+ * - latência acima do alvo ou falha: limite × fatorReducao
+ * - senão, se o limite estava sendo usado (em uso ≥ metade): limite + 1
+ *
+ * O limite fica entre mínimo e máximo. Sem sincronização própria: quem
+ * usa (o {@link LimitadorConcorrenciaBanco}) já chama sob lock.
+ */
+public class LimiteAimd {
+
+    private final int minimo;
+    private final int maximo;
+    private final long latenciaAlvoNanos;
+    private final double fatorReducao;
+    private double limite;
+
+    public LimiteAimd(int inicial, int minimo, int maximo, long latenciaAlvoNanos, double fatorReducao) {
+        if (minimo < 1 || maximo < minimo) {
+            throw new IllegalArgumentException("Limites inválidos: mínimo " + minimo + ", máximo " + maximo);
+        }
+        if (fatorReducao <= 0 || fatorReducao >= 1) {
+            throw new IllegalArgumentException("Fator de redução deve estar entre 0 e 1");
+        }
+        this.minimo = minimo;
+        this.maximo = maximo;
+        this.latenciaAlvoNanos = latenciaAlvoNanos;
+        this.fatorReducao = fatorReducao;
+        this.limite = Math.max(minimo, Math.min(maximo, inicial));
+    }
+
+    /**
+     * @param emUso operações em andamento quando esta começou
+     */
+    public void registrar(long latenciaNanos, int emUso, boolean falhou) {
+        if (falhou || latenciaNanos > latenciaAlvoNanos) {
+            limite = Math.max(minimo, limite * fatorReducao);
+        } else if (emUso * 2 >= limite) {
+            limite = Math.min(maximo, limite + 1);
+        }
+    }
+
+    public int limite() {
+        return (int) limite;
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.minhavenda.minhavenda.infrastructure.concorrencia;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource da aplicação em um {@link DataSourceMedido}, para o
+ * limitador medir tempo de banco em vez da duração do request inteiro.
+ *
+ * O pool continua acessível por unwrap (métricas hikaricp.* do Actuator).
+ */
+@Component
+@ConditionalOnProperty(name = "banco.limitador.habilitado", havingValue = "true", matchIfMissing = true)
+public class MedicaoConexoesBanco implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof DataSourceMedido)) {
+            return new DataSourceMedido(dataSource);
+        }
+        return bean;
+    }
+}
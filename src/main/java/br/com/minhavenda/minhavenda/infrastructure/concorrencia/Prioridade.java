@@ -0,0 +1,37 @@
+package br.com.minhavenda.minhavenda.infrastructure.concorrencia;
+
+/**
+ * Prioridade de um request na disputa pelo banco.
+ *
+ * Cada prioridade só é admitida enquanto a concorrência em uso estiver
+ * abaixo da sua fração do limite: sob carga, o catálogo é descartado
+ * primeiro e sobra folga para checkout e pagamento.
+ */
+public enum Prioridade {
+
+    /** Checkout e pagamento: usa o limite inteiro e pode esperar por uma vaga */
+    CRITICA(1.0),
+
+    /** Carrinho, pedidos, perfil, autenticação, administração */
+    NORMAL(0.9),
+
+    /** Navegação no catálogo (GET de produtos e categorias) */
+    BAIXA(0.7);
+
+    private final double fracaoDoLimite;
+
+    Prioridade(double fracaoDoLimite) {
+        this.fracaoDoLimite = fracaoDoLimite;
+    }
+
+    /**
+     * Arredonda para baixo: com fração menor que 1, a capacidade fica
+     * abaixo do limite sempre que ele passa de 1, e a folga das
+     * prioridades maiores não some no piso.
+     *
+     * @return concorrência máxima admitida para esta prioridade (mínimo 1)
+     */
+    int capacidade(int limite) {
+        return Math.max(1, (int) Math.floor(limite * fracaoDoLimite));
+    }
+}
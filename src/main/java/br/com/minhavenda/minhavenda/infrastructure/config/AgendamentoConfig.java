@@ -0,0 +1,13 @@
+package br.com.minhavenda.minhavenda.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas (@Scheduled), como a remontagem periódica
+ * da trie de sugestões.
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
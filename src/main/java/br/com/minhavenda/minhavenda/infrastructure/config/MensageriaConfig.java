@@ -0,0 +1,21 @@
+package br.com.minhavenda.minhavenda.infrastructure.config;
+
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exchange dos eventos de domínio publicados pelo outbox
+ * (declarado no RabbitMQ pelo RabbitAdmin na primeira conexão).
+ */
+@Configuration
+@ConditionalOnProperty(name = "eventos.publicador", havingValue = "rabbit", matchIfMissing = true)
+public class MensageriaConfig {
+
+    @Bean
+    public TopicExchange exchangeEventos(@Value("${eventos.rabbit.exchange:minhavenda.eventos}") String exchange) {
+        return new TopicExchange(exchange, true, false);
+    }
+}
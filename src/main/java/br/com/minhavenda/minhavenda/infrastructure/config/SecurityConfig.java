@@ -2,6 +2,7 @@ package br.com.minhavenda.minhavenda.infrastructure.config;
 
 import br.com.minhavenda.minhavenda.infrastructure.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -40,14 +41,13 @@ public class SecurityConfig {
      * Configuração de CORS integrada ao Spring Security.
      */
     @Bean
-    public CorsConfigurationSource corsConfigurationSource() {
+    public CorsConfigurationSource corsConfigurationSource(
+            @Value("${cors.allowed-origins}") String[] allowedOrigins
+    ) {
         CorsConfiguration configuration = new CorsConfiguration();
 
-        // Origens permitidas
-        configuration.setAllowedOrigins(Arrays.asList(
-                System.getenv("CORS_ALLOWED_ORIGINS").split(",")
-
-        ));
+        // Origens permitidas (cors.allowed-origins, padrão CORS_ALLOWED_ORIGINS)
+        configuration.setAllowedOrigins(Arrays.asList(allowedOrigins));
 
         // Métodos permitidos
         configuration.setAllowedMethods(Arrays.asList(
@@ -59,7 +59,7 @@ public class SecurityConfig {
 
         // Headers expostos
         configuration.setExposedHeaders(Arrays.asList(
-                "Authorization", "Content-Disposition"
+                "Authorization", "Content-Disposition", "ETag", "Last-Modified", "X-Lista-Truncada", "Retry-After"
         ));
 
         // Permitir credenciais
@@ -75,10 +75,13 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(
+            HttpSecurity http,
+            CorsConfigurationSource corsConfigurationSource
+    ) throws Exception {
         http
                 
-                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
+                .cors(cors -> cors.configurationSource(corsConfigurationSource))
 
                 // CSRF desabilitado (API REST stateless)
                 .csrf(csrf -> csrf.disable())
@@ -0,0 +1,31 @@
+package br.com.minhavenda.minhavenda.infrastructure.eventos;
+
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.EventoDominioRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Outbox de eventos de domínio (tabela eventos_dominio).
+ *
+ * O evento é gravado na mesma transação da alteração de negócio: ou os
+ * dois são confirmados, ou nenhum. A publicação no broker fica com o
+ * {@link RelayEventos}, fora do request.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventos {
+
+    private final EventoDominioRepository eventoDominioRepository;
+
+    /**
+     * @throws org.springframework.transaction.IllegalTransactionStateException
+     *         se chamado fora de uma transação
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registrar(EventoDominio evento) {
+        eventoDominioRepository.save(evento);
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.minhavenda.minhavenda.infrastructure.eventos;
+
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Envio dos eventos do outbox para o broker.
+ *
+ * Chamado pelo {@link RelayEventos} com as linhas do lote ainda travadas:
+ * só deve retornar depois que o broker confirmar todas as mensagens, e
+ * deve lançar exceção se alguma não for confirmada (o lote continua
+ * pendente e é reenviado). Cada mensagem leva o ID do evento como
+ * message-id, para o consumidor descartar reentregas.
+ *
+ * Implementações (eventos.publicador):
+ * - rabbit: {@link PublicadorEventosRabbit} (padrão, publisher confirms)
+ * - memoria: {@link PublicadorEventosEmMemoria} (substituto do broker
+ *   para testes e desenvolvimento sem RabbitMQ)
+ */
+public interface PublicadorEventos {
+
+    /**
+     * @param eventos lote na ordem de gravação
+     * @throws RuntimeException se o broker não confirmar o lote inteiro
+     */
+    void publicar(List<EventoDominio> eventos);
+
+    /**
+     * Routing key do tipo do evento: PEDIDO_CRIADO → pedido.criado
+     */
+    static String routingKey(String tipo) {
+        return tipo.toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+}
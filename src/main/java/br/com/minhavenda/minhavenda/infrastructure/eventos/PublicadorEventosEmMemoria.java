@@ -0,0 +1,56 @@
+package br.com.minhavenda.minhavenda.infrastructure.eventos;
+
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Broker em memória.
+ *
+ * Substituto do RabbitMQ com a semântica que o relay espera: confirma o
+ * lote na hora e, como um consumidor idempotente, descarta mensagens com
+ * message-id já recebido. Útil em testes e para rodar sem broker.
+ */
+@Component
+@ConditionalOnProperty(name = "eventos.publicador", havingValue = "memoria")
+public class PublicadorEventosEmMemoria implements PublicadorEventos {
+
+    private final Set<UUID> recebidas = new HashSet<>();
+    private final List<Mensagem> fila = new ArrayList<>();
+    private long entregas;
+
+    @Override
+    public synchronized void publicar(List<EventoDominio> eventos) {
+        for (EventoDominio evento : eventos) {
+            entregas++;
+            if (recebidas.add(evento.getId())) {
+                fila.add(new Mensagem(
+                        evento.getId(), PublicadorEventos.routingKey(evento.getTipo()), evento.getPayload()));
+            }
+        }
+    }
+
+    /**
+     * @return mensagens distintas, na ordem de chegada
+     */
+    public synchronized List<Mensagem> mensagens() {
+        return List.copyOf(fila);
+    }
+
+    /**
+     * @return mensagens recebidas, contando reentregas
+     */
+    public synchronized long entregas() {
+        return entregas;
+    }
+
+    public record Mensagem(UUID id, String routingKey, Map<String, Object> payload) {
+    }
+}
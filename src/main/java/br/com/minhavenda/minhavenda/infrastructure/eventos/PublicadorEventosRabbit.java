@@ -0,0 +1,76 @@
+package br.com.minhavenda.minhavenda.infrastructure.eventos;
+
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Publica no RabbitMQ, no exchange topic eventos.rabbit.exchange, com
+ * routing key derivada do tipo (pedido.criado, estoque.atualizado...).
+ *
+ * O lote inteiro vai por um único canal com publisher confirms
+ * (spring.rabbitmq.publisher-confirm-type=simple): as mensagens são
+ * enviadas em sequência e o método espera todos os acks de uma vez. Nack
+ * ou timeout viram exceção e o lote volta para o outbox.
+ *
+ * Mensagens persistentes, com message-id = ID do evento e type = tipo.
+ */
+@Component
+@ConditionalOnProperty(name = "eventos.publicador", havingValue = "rabbit", matchIfMissing = true)
+public class PublicadorEventosRabbit implements PublicadorEventos {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final String exchange;
+    private final long timeoutConfirmacaoMillis;
+
+    public PublicadorEventosRabbit(
+            RabbitTemplate rabbitTemplate,
+            ObjectMapper objectMapper,
+            @Value("${eventos.rabbit.exchange:minhavenda.eventos}") String exchange,
+            @Value("${eventos.rabbit.timeout-confirmacao:5s}") Duration timeoutConfirmacao
+    ) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.exchange = exchange;
+        this.timeoutConfirmacaoMillis = timeoutConfirmacao.toMillis();
+    }
+
+    @Override
+    public void publicar(List<EventoDominio> eventos) {
+        rabbitTemplate.invoke(operacoes -> {
+            for (EventoDominio evento : eventos) {
+                operacoes.send(exchange, PublicadorEventos.routingKey(evento.getTipo()), mensagem(evento));
+            }
+            operacoes.waitForConfirmsOrDie(timeoutConfirmacaoMillis);
+            return null;
+        });
+    }
+
+    private Message mensagem(EventoDominio evento) {
+        try {
+            return MessageBuilder.withBody(objectMapper.writeValueAsBytes(evento.getPayload()))
+                    .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                    .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                    .setMessageId(evento.getId().toString())
+                    .setType(evento.getTipo())
+                    .setTimestamp(Date.from(evento.getDataPublicacao()))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
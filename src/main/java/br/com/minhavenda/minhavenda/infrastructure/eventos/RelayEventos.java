@@ -0,0 +1,213 @@
+package br.com.minhavenda.minhavenda.infrastructure.eventos;
+
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.EventoDominioRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relay do outbox: publica no broker os eventos pendentes de eventos_dominio.
+ *
+ * A cada eventos.relay.intervalo, drena a fila em lotes de
+ * eventos.relay.tamanho-lote. Cada lote é uma transação: trava as linhas
+ * (FOR UPDATE SKIP LOCKED, então várias instâncias dividem a fila sem se
+ * bloquear), publica com confirmação do broker e marca publicado_em.
+ *
+ * Entrega ao menos uma vez: se a instância cair entre a confirmação e o
+ * commit, o lote é reenviado. O consumidor descarta reentregas pelo
+ * message-id (ID do evento), o que torna o efeito exatamente uma vez.
+ *
+ * Se o broker recusar o lote, os eventos são reenviados um a um para
+ * isolar o que falha: os aceitos são marcados, e cada recusado registra
+ * a tentativa e o erro, mas só quando a falha é do evento: outro evento
+ * da mesma passada foi aceito, ou o erro não se resolve com nova
+ * tentativa (payload que não serializa). Um evento que chega a
+ * eventos.relay.tentativas-maximas é estacionado (estacionado_em) e sai
+ * da fila, para não travar os seguintes. Se nenhum evento passar (broker
+ * fora), nenhuma tentativa é contada: o relay só espera em backoff
+ * exponencial (até eventos.relay.espera-maxima) antes de tentar de novo,
+ * então uma queda do broker não estaciona eventos saudáveis.
+ */
+@Slf4j
+@Component
+public class RelayEventos {
+
+    private final EventoDominioRepository eventoDominioRepository;
+    private final PublicadorEventos publicadorEventos;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final Duration intervalo;
+    private final Duration esperaMaxima;
+    private final int tentativasMaximas;
+    private final Counter publicados;
+    private final Counter falhas;
+    private final Counter estacionados;
+
+    private int falhasSeguidas;
+    private Instant proximaTentativa = Instant.MIN;
+
+    public RelayEventos(
+            EventoDominioRepository eventoDominioRepository,
+            PublicadorEventos publicadorEventos,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${eventos.relay.tamanho-lote:100}") int tamanhoLote,
+            @Value("${eventos.relay.intervalo:PT1S}") Duration intervalo,
+            @Value("${eventos.relay.espera-maxima:1m}") Duration esperaMaxima,
+            @Value("${eventos.relay.tentativas-maximas:20}") int tentativasMaximas
+    ) {
+        this.eventoDominioRepository = eventoDominioRepository;
+        this.publicadorEventos = publicadorEventos;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.intervalo = intervalo;
+        this.esperaMaxima = esperaMaxima;
+        this.tentativasMaximas = tentativasMaximas;
+        this.publicados = Counter.builder("eventos.publicados").register(meterRegistry);
+        this.falhas = Counter.builder("eventos.falhas").register(meterRegistry);
+        this.estacionados = Counter.builder("eventos.estacionados").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${eventos.relay.intervalo:PT1S}")
+    public void agendado() {
+        if (Instant.now().isBefore(proximaTentativa)) {
+            return;
+        }
+        drenar();
+    }
+
+    /**
+     * Publica lotes até a fila esvaziar ou o broker falhar.
+     *
+     * @return quantidade de eventos publicados
+     */
+    public long drenar() {
+        long total = 0;
+        while (true) {
+            Integer publicadosNoLote = transactionTemplate.execute(status -> publicarLote());
+            if (publicadosNoLote == null || publicadosNoLote < 0) {
+                return total;
+            }
+            total += publicadosNoLote;
+            if (publicadosNoLote < tamanhoLote) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * @return eventos publicados, ou -1 se nenhum evento do lote passou
+     */
+    private int publicarLote() {
+        List<EventoDominio> lote = eventoDominioRepository.buscarPendentesParaPublicar(Limit.of(tamanhoLote));
+        if (lote.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            publicadorEventos.publicar(lote);
+            marcarPublicados(lote);
+            return lote.size();
+        } catch (RuntimeException e) {
+            if (lote.size() == 1) {
+                // Sozinho no lote, não dá para separar evento com problema de broker fora
+                if (naoRecuperavel(e)) {
+                    registrarFalha(lote.get(0), e);
+                } else {
+                    log.warn("Falha ao publicar evento {}: {}", lote.get(0).getId(), e.getMessage());
+                }
+                agendarNovaTentativa();
+                return -1;
+            }
+            log.warn("Falha ao publicar lote de {} eventos, reenviando um a um: {}", lote.size(), e.getMessage());
+        }
+
+        // Duas recusas seguidas indicam broker fora, não evento com problema:
+        // para antes de esperar o timeout de confirmação do lote inteiro.
+        // Retornar menos que o lote faz drenar() parar; os recusados voltam
+        // só no próximo ciclo.
+        int aceitos = 0;
+        int recusasSeguidas = 0;
+        List<Recusa> recusas = new ArrayList<>();
+        for (EventoDominio evento : lote) {
+            try {
+                publicadorEventos.publicar(List.of(evento));
+                marcarPublicados(List.of(evento));
+                aceitos++;
+                recusasSeguidas = 0;
+            } catch (RuntimeException e) {
+                recusas.add(new Recusa(evento, e));
+                if (++recusasSeguidas == 2) {
+                    break;
+                }
+            }
+        }
+        // Só conta tentativa quando a falha é isolada no evento
+        for (Recusa recusa : recusas) {
+            if (aceitos > 0 || naoRecuperavel(recusa.erro())) {
+                registrarFalha(recusa.evento(), recusa.erro());
+            }
+        }
+        if (aceitos == 0) {
+            agendarNovaTentativa();
+            return -1;
+        }
+        return aceitos;
+    }
+
+    private void marcarPublicados(List<EventoDominio> eventos) {
+        Instant agora = Instant.now();
+        eventos.forEach(evento -> evento.marcarPublicado(agora));
+        publicados.increment(eventos.size());
+        falhasSeguidas = 0;
+    }
+
+    private void registrarFalha(EventoDominio evento, RuntimeException e) {
+        evento.registrarFalha(e.getMessage());
+        falhas.increment();
+        if (evento.getTentativas() >= tentativasMaximas) {
+            evento.estacionar(Instant.now());
+            estacionados.increment();
+            log.error("Evento {} ({}) estacionado após {} tentativas: {}",
+                    evento.getId(), evento.getTipo(), evento.getTentativas(), e.getMessage());
+        } else {
+            log.warn("Falha ao publicar evento {} (tentativa {}): {}",
+                    evento.getId(), evento.getTentativas(), e.getMessage());
+        }
+    }
+
+    /**
+     * Erro do próprio evento, que se repete em qualquer tentativa
+     * (payload que não serializa), e não do broker.
+     */
+    private static boolean naoRecuperavel(Throwable e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof UncheckedIOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void agendarNovaTentativa() {
+        falhasSeguidas = Math.min(falhasSeguidas + 1, 20);
+        Duration espera = intervalo.multipliedBy(1L << Math.min(falhasSeguidas, 16));
+        proximaTentativa = Instant.now().plus(espera.compareTo(esperaMaxima) > 0 ? esperaMaxima : espera);
+    }
+
+    private record Recusa(EventoDominio evento, RuntimeException erro) {
+    }
+}
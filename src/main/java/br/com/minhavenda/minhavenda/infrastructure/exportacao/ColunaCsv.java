@@ -0,0 +1,16 @@
+package br.com.minhavenda.minhavenda.infrastructure.exportacao;
+
+import java.util.function.Function;
+
+/**
+ * Coluna de uma exportação CSV.
+ *
+ * @param cabecalho nome da coluna na primeira linha
+ * @param valor extrai o valor do registro (null = célula vazia)
+ */
+public record ColunaCsv<T>(String cabecalho, Function<T, ?> valor) {
+
+    public static <T> ColunaCsv<T> de(String cabecalho, Function<T, ?> valor) {
+        return new ColunaCsv<>(cabecalho, valor);
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.minhavenda.minhavenda.infrastructure.exportacao;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV (RFC 4180): separador vírgula, linhas CRLF, campos com vírgula, aspas
+ * ou quebra de linha entre aspas. Textos que começam com =, +, - ou @
+ * recebem um apóstrofo na frente, para não virarem fórmula na planilha.
+ */
+final class EscritorCsv<T> implements EscritorExportacao<T> {
+
+    private final List<ColunaCsv<T>> colunas;
+    private final BufferedWriter writer;
+
+    EscritorCsv(List<ColunaCsv<T>> colunas, OutputStream saida) throws IOException {
+        this.colunas = List.copyOf(colunas);
+        this.writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+
+        for (int i = 0; i < this.colunas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapar(this.colunas.get(i).cabecalho()));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void escrever(T registro) throws IOException {
+        for (int i = 0; i < colunas.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object valor = colunas.get(i).valor().apply(registro);
+            if (valor instanceof String texto) {
+                writer.write(escapar(neutralizarFormula(texto)));
+            } else if (valor != null) {
+                writer.write(escapar(valor.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finalizar() throws IOException {
+        writer.flush();
+    }
+
+    static String escapar(String valor) {
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0
+                && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+
+    private static String neutralizarFormula(String texto) {
+        if (!texto.isEmpty() && "=+-@".indexOf(texto.charAt(0)) >= 0) {
+            return "'" + texto;
+        }
+        return texto;
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.minhavenda.minhavenda.infrastructure.exportacao;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * Escreve registros de uma exportação direto no OutputStream da resposta.
+ *
+ * Os escritores têm um buffer fixo: quando enche, a escrita bloqueia até o
+ * cliente consumir (backpressure do próprio socket), então a leitura do
+ * banco anda no ritmo do download e a memória não cresce com o tamanho da
+ * exportação.
+ *
+ * @param <T> tipo do registro
+ */
+public interface EscritorExportacao<T> {
+
+    /** Tamanho do buffer de escrita, em caracteres */
+    int TAMANHO_BUFFER = 16 * 1024;
+
+    void escrever(T registro) throws IOException;
+
+    /**
+     * Envia o que restou no buffer. Não fecha o OutputStream.
+     */
+    void finalizar() throws IOException;
+
+    static <T> EscritorExportacao<T> ndjson(ObjectMapper objectMapper, OutputStream saida) throws IOException {
+        return new EscritorNdjson<>(objectMapper, saida);
+    }
+
+    static <T> EscritorExportacao<T> csv(List<ColunaCsv<T>> colunas, OutputStream saida) throws IOException {
+        return new EscritorCsv<>(colunas, saida);
+    }
+
+    static <T> EscritorExportacao<T> de(
+            FormatoExportacao formato,
+            ObjectMapper objectMapper,
+            List<ColunaCsv<T>> colunas,
+            OutputStream saida
+    ) throws IOException {
+        return switch (formato) {
+            case NDJSON -> ndjson(objectMapper, saida);
+            case CSV -> csv(colunas, saida);
+        };
+    }
+}
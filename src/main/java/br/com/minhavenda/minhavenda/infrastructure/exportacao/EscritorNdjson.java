@@ -0,0 +1,46 @@
+package br.com.minhavenda.minhavenda.infrastructure.exportacao;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Um objeto JSON por linha, serializado pelo ObjectMapper da aplicação
+ * (mesmo formato de datas e valores dos endpoints JSON).
+ */
+final class EscritorNdjson<T> implements EscritorExportacao<T> {
+
+    private final ObjectWriter objectWriter;
+    private final BufferedWriter writer;
+    private final JsonGenerator generator;
+
+    EscritorNdjson(ObjectMapper objectMapper, OutputStream saida) throws IOException {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        this.generator = objectMapper.getFactory()
+                .createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        // Sem o espaço padrão entre valores raiz: cada linha termina em '\n'
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void escrever(T registro) throws IOException {
+        objectWriter.writeValue(generator, registro);
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finalizar() throws IOException {
+        generator.flush();
+        writer.flush();
+    }
+}
@@ -0,0 +1,266 @@
+package br.com.minhavenda.minhavenda.infrastructure.notificacao;
+
+import br.com.minhavenda.minhavenda.domain.entity.Notificacao;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.NotificacaoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.tarefas.FabricaThreads;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Despachante da fila de notificações.
+ *
+ * A cada notificacoes.intervalo, em ciclos até a fila de prontas esvaziar:
+ * 1. Reserva um lote (FOR UPDATE SKIP LOCKED) e avança
+ *    proxima_tentativa_em pelo lease; a transação termina aqui, então
+ *    nenhuma linha fica travada durante o envio. Se a instância cair, o
+ *    lease expira e outra pega o lote (entrega ao menos uma vez; o ID da
+ *    notificação vai para o provedor como chave de idempotência).
+ * 2. Envia em paralelo nos notificacoes.workers, respeitando a taxa por
+ *    canal (token bucket); sem token, a notificação é adiada sem contar
+ *    tentativa. O lote espera no máximo notificacoes.timeout-envio (menor
+ *    que o lease, para outra instância não reservar o lote ainda em
+ *    envio); o envio que não terminar até lá conta como falha.
+ * 3. Registra os resultados em uma transação: enviada, ou falha com
+ *    backoff exponencial (com jitter) até notificacoes.tentativas-maximas.
+ *
+ * Só o canal EMAIL é despachado: o cadastro do usuário não tem telefone,
+ * então notificações SMS ficam na tabela sem serem reservadas até o
+ * canal ter destinatário.
+ *
+ * Métricas: notificacoes.enviadas, notificacoes.falhas, notificacoes.adiadas
+ * e notificacoes.envio (timer), por canal; notificacoes.pendentes
+ * (profundidade da fila, atualizada a cada ciclo).
+ */
+@Slf4j
+@Component
+public class DespachanteNotificacoes {
+
+    /** Canais com destinatário no cadastro do usuário */
+    private static final List<Notificacao.Tipo> CANAIS = List.of(Notificacao.Tipo.EMAIL);
+
+    /** Espera de uma notificação adiada pelo limite de taxa */
+    private static final Duration ESPERA_TAXA = Duration.ofSeconds(1);
+
+    private final NotificacaoRepository notificacaoRepository;
+    private final EnviadorNotificacao enviadorNotificacao;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final Map<Notificacao.Tipo, LimitadorTaxa> limitadores = new EnumMap<>(Notificacao.Tipo.class);
+    private final Map<String, Counter> contadores = new ConcurrentHashMap<>();
+    private final AtomicLong pendentes = new AtomicLong();
+
+    private final int tamanhoLote;
+    private final Duration lease;
+    private final Duration timeoutEnvio;
+    private final int tentativasMaximas;
+    private final Duration backoffInicial;
+    private final Duration backoffMaximo;
+
+    public DespachanteNotificacoes(
+            NotificacaoRepository notificacaoRepository,
+            EnviadorNotificacao enviadorNotificacao,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notificacoes.workers:4}") int workers,
+            @Value("${notificacoes.tamanho-lote:50}") int tamanhoLote,
+            @Value("${notificacoes.lease:1m}") Duration lease,
+            @Value("${notificacoes.timeout-envio:30s}") Duration timeoutEnvio,
+            @Value("${notificacoes.tentativas-maximas:5}") int tentativasMaximas,
+            @Value("${notificacoes.backoff-inicial:10s}") Duration backoffInicial,
+            @Value("${notificacoes.backoff-maximo:30m}") Duration backoffMaximo,
+            @Value("${notificacoes.taxa.email:20}") double taxaEmail,
+            @Value("${spring.threads.virtual.enabled:false}") boolean threadsVirtuais
+    ) {
+        if (timeoutEnvio.compareTo(lease) >= 0) {
+            throw new IllegalArgumentException(
+                    "notificacoes.timeout-envio (" + timeoutEnvio + ") deve ser menor que notificacoes.lease (" + lease + ")");
+        }
+        this.notificacaoRepository = notificacaoRepository;
+        this.enviadorNotificacao = enviadorNotificacao;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.workers = Executors.newFixedThreadPool(workers, FabricaThreads.criar("notificacao-", threadsVirtuais));
+        this.tamanhoLote = tamanhoLote;
+        this.lease = lease;
+        this.timeoutEnvio = timeoutEnvio;
+        this.tentativasMaximas = tentativasMaximas;
+        this.backoffInicial = backoffInicial;
+        this.backoffMaximo = backoffMaximo;
+        this.limitadores.put(Notificacao.Tipo.EMAIL, new LimitadorTaxa(taxaEmail));
+
+        Gauge.builder("notificacoes.pendentes", pendentes, AtomicLong::get)
+                .description("Notificações aguardando envio")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notificacoes.intervalo:PT1S}")
+    public void agendado() {
+        despachar();
+    }
+
+    /**
+     * Despacha lotes até não haver mais notificações prontas.
+     *
+     * @return quantidade de notificações enviadas
+     */
+    public int despachar() {
+        int enviadas = 0;
+        while (true) {
+            Resultado resultado = despacharLote();
+            enviadas += resultado.enviadas();
+            // Lote incompleto: fila vazia. Adiadas: limite de taxa esgotado até o próximo ciclo
+            if (resultado.reservadas() < tamanhoLote || resultado.adiadas() > 0) {
+                break;
+            }
+        }
+        pendentes.set(notificacaoRepository.countByTipoInAndEnviadoFalseAndFalhouFalse(CANAIS));
+        return enviadas;
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        workers.shutdown();
+    }
+
+    private Resultado despacharLote() {
+        Instant agora = Instant.now();
+        List<Long> ids = transactionTemplate.execute(status -> {
+            List<Notificacao> lote = notificacaoRepository.buscarProntasParaEnvio(CANAIS, agora, Limit.of(tamanhoLote));
+            lote.forEach(notificacao -> notificacao.agendar(agora.plus(lease)));
+            return lote.stream().map(Notificacao::getId).toList();
+        });
+        if (ids == null || ids.isEmpty()) {
+            return new Resultado(0, 0, 0);
+        }
+
+        List<MensagemNotificacao> mensagens = notificacaoRepository.buscarMensagens(ids);
+        Map<Long, CompletableFuture<Envio>> envios = new HashMap<>();
+        for (MensagemNotificacao mensagem : mensagens) {
+            // enviar() só completa com exceção pelo timeout: falhas do provedor já viram Envio
+            envios.put(mensagem.id(), enviar(mensagem)
+                    .orTimeout(timeoutEnvio.toMillis(), TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> expirado(mensagem)));
+        }
+        CompletableFuture.allOf(envios.values().toArray(CompletableFuture[]::new)).join();
+
+        Map<Envio.Status, Integer> contagem = new EnumMap<>(Envio.Status.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            Instant fim = Instant.now();
+            for (Notificacao notificacao : notificacaoRepository.findAllById(envios.keySet())) {
+                Envio envio = envios.get(notificacao.getId()).join();
+                contagem.merge(envio.status(), 1, Integer::sum);
+                switch (envio.status()) {
+                    case ENVIADA -> notificacao.marcarComoEnviada();
+                    case ADIADA -> notificacao.agendar(fim.plus(ESPERA_TAXA));
+                    case FALHA -> registrarFalha(notificacao, envio.erro(), fim);
+                }
+            }
+        });
+
+        return new Resultado(ids.size(),
+                contagem.getOrDefault(Envio.Status.ENVIADA, 0),
+                contagem.getOrDefault(Envio.Status.ADIADA, 0));
+    }
+
+    private CompletableFuture<Envio> enviar(MensagemNotificacao mensagem) {
+        String canal = mensagem.canal().name().toLowerCase(Locale.ROOT);
+        if (!limitadores.get(mensagem.canal()).tentarAdquirir()) {
+            contador("notificacoes.adiadas", canal).increment();
+            return CompletableFuture.completedFuture(Envio.ADIADA);
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            Timer.Sample amostra = Timer.start(meterRegistry);
+            try {
+                enviadorNotificacao.enviar(mensagem);
+                contador("notificacoes.enviadas", canal).increment();
+                return Envio.ENVIADA;
+            } catch (RuntimeException e) {
+                contador("notificacoes.falhas", canal).increment();
+                log.warn("Falha ao enviar notificação {} ({}): {}", mensagem.id(), canal, e.getMessage());
+                return Envio.falha(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+            } finally {
+                amostra.stop(meterRegistry.timer("notificacoes.envio", "canal", canal));
+            }
+        }, workers);
+    }
+
+    /**
+     * Resultado de um envio que passou de timeout-envio (provedor travado,
+     * ou worker ocupado por um). A thread do envio segue até o provedor
+     * responder; se ele entregar, a nova tentativa leva o mesmo ID de
+     * idempotência.
+     */
+    private Envio expirado(MensagemNotificacao mensagem) {
+        String canal = mensagem.canal().name().toLowerCase(Locale.ROOT);
+        contador("notificacoes.falhas", canal).increment();
+        log.warn("Envio da notificação {} ({}) não terminou em {}", mensagem.id(), canal, timeoutEnvio);
+        return Envio.falha("Timeout de envio (" + timeoutEnvio + ")");
+    }
+
+    private void registrarFalha(Notificacao notificacao, String erro, Instant agora) {
+        notificacao.registrarFalha(erro, agora.plus(backoff(notificacao.getTentativas() + 1)), tentativasMaximas);
+        if (Boolean.TRUE.equals(notificacao.getFalhou())) {
+            log.error("Notificação {} descartada após {} tentativas: {}",
+                    notificacao.getId(), notificacao.getTentativas(), erro);
+        }
+    }
+
+    /**
+     * backoff-inicial * 2^(tentativa - 1), até backoff-maximo, com jitter de até 20%
+     */
+    private Duration backoff(int tentativa) {
+        Duration espera = backoffInicial.multipliedBy(1L << Math.min(tentativa - 1, 20));
+        if (espera.compareTo(backoffMaximo) > 0) {
+            espera = backoffMaximo;
+        }
+        long jitter = (long) (espera.toMillis() * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return espera.plusMillis(jitter);
+    }
+
+    private Counter contador(String nome, String canal) {
+        return contadores.computeIfAbsent(nome + ":" + canal,
+                chave -> Counter.builder(nome).tag("canal", canal).register(meterRegistry));
+    }
+
+    private record Resultado(int reservadas, int enviadas, int adiadas) {
+    }
+
+    private record Envio(Status status, String erro) {
+
+        static final Envio ENVIADA = new Envio(Status.ENVIADA, null);
+        static final Envio ADIADA = new Envio(Status.ADIADA, null);
+
+        static Envio falha(String erro) {
+            return new Envio(Status.FALHA, erro);
+        }
+
+        enum Status { ENVIADA, ADIADA, FALHA }
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.minhavenda.minhavenda.infrastructure.notificacao;
+
+/**
+ * Envio de uma notificação pelo provedor do canal (e-mail).
+ *
+ * Chamado pelos workers do {@link DespachanteNotificacoes}, fora de
+ * transação. Deve lançar exceção se o provedor recusar ou não responder;
+ * a notificação volta para a fila com backoff.
+ *
+ * Implementações (notificacoes.enviador):
+ * - log: {@link EnviadorNotificacaoLog} (padrão, só registra no log)
+ */
+public interface EnviadorNotificacao {
+
+    void enviar(MensagemNotificacao mensagem);
+}
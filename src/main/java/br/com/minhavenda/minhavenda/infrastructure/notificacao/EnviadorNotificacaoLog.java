@@ -0,0 +1,21 @@
+package br.com.minhavenda.minhavenda.infrastructure.notificacao;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Enviador local: registra a notificação no log em vez de chamar um
+ * provedor. Para desenvolvimento e testes.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "notificacoes.enviador", havingValue = "log", matchIfMissing = true)
+public class EnviadorNotificacaoLog implements EnviadorNotificacao {
+
+    @Override
+    public void enviar(MensagemNotificacao mensagem) {
+        log.info("[{}] Notificação {} para {} <{}>: {}",
+                mensagem.canal(), mensagem.id(), mensagem.nome(), mensagem.email(), mensagem.texto());
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.minhavenda.minhavenda.infrastructure.notificacao;
+
+import br.com.minhavenda.minhavenda.domain.entity.Notificacao;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.NotificacaoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fila de notificações (tabela notificacoes).
+ *
+ * Enfileirar é só um INSERT na transação de negócio: nenhuma I/O de
+ * e-mail acontece no request. O envio fica com o
+ * {@link DespachanteNotificacoes}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FilaNotificacoes {
+
+    private final NotificacaoRepository notificacaoRepository;
+
+    /**
+     * @throws org.springframework.transaction.IllegalTransactionStateException
+     *         se chamado fora de uma transação
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enfileirar(Notificacao notificacao) {
+        notificacaoRepository.save(notificacao);
+    }
+}
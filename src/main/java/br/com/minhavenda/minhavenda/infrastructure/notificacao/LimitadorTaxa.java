@@ -0,0 +1,36 @@
+package br.com.minhavenda.minhavenda.infrastructure.notificacao;
+
+/**
+ * Token bucket: até {@code porSegundo} permissões por segundo, com rajada
+ * de no máximo {@code porSegundo} (um segundo de crédito acumulado).
+ *
+ * Não bloqueia: sem token disponível, {@link #tentarAdquirir()} retorna
+ * false e quem chamou decide adiar.
+ */
+public class LimitadorTaxa {
+
+    private final double porSegundo;
+    private double tokens;
+    private long ultimaRecarga;
+
+    public LimitadorTaxa(double porSegundo) {
+        if (porSegundo <= 0) {
+            throw new IllegalArgumentException("Taxa deve ser maior que zero");
+        }
+        this.porSegundo = porSegundo;
+        this.tokens = porSegundo;
+        this.ultimaRecarga = System.nanoTime();
+    }
+
+    public synchronized boolean tentarAdquirir() {
+        long agora = System.nanoTime();
+        tokens = Math.min(porSegundo, tokens + (agora - ultimaRecarga) * porSegundo / 1_000_000_000d);
+        ultimaRecarga = agora;
+
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+}
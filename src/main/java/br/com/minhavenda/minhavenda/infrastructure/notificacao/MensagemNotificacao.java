@@ -0,0 +1,21 @@
+package br.com.minhavenda.minhavenda.infrastructure.notificacao;
+
+import br.com.minhavenda.minhavenda.domain.entity.Notificacao;
+
+/**
+ * O que o {@link EnviadorNotificacao} precisa para enviar uma notificação.
+ *
+ * @param id ID da notificação (chave de idempotência para o provedor)
+ * @param canal canal de envio (hoje só EMAIL; o cadastro não tem telefone)
+ * @param nome nome do destinatário
+ * @param email e-mail do destinatário
+ * @param texto corpo da mensagem
+ */
+public record MensagemNotificacao(
+        Long id,
+        Notificacao.Tipo canal,
+        String nome,
+        String email,
+        String texto
+) {
+}
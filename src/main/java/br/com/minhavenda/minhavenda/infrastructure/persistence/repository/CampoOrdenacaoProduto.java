@@ -0,0 +1,67 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.domain.exception.BusinessException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * Campos aceitos na listagem de produtos por cursor.
+ *
+ * Cada campo sabe extrair seu valor de um {@link ProdutoDTO} (para montar
+ * o próximo cursor) e converter o valor do cursor de volta para o tipo da
+ * coluna. O ID do produto é sempre usado como desempate.
+ */
+public enum CampoOrdenacaoProduto {
+
+    NOME("nome", dto -> dto.getNome(), valor -> valor),
+    PRECO("preco", dto -> dto.getPreco().getValor().toPlainString(), BigDecimal::new),
+    DATA_CADASTRO("dataCadastro", dto -> dto.getDataCadastro().toString(), Instant::parse),
+    ESTOQUE("estoque", dto -> String.valueOf(dto.getQuantidadeEstoque()), Integer::valueOf);
+
+    private final String parametro;
+    private final Function<ProdutoDTO, String> extrator;
+    private final Function<String, Comparable<?>> conversor;
+
+    CampoOrdenacaoProduto(
+            String parametro,
+            Function<ProdutoDTO, String> extrator,
+            Function<String, Comparable<?>> conversor
+    ) {
+        this.parametro = parametro;
+        this.extrator = extrator;
+        this.conversor = conversor;
+    }
+
+    /**
+     * Nome do campo como aparece no parâmetro sort (ex: "preco").
+     */
+    public String getParametro() {
+        return parametro;
+    }
+
+    String extrair(ProdutoDTO produto) {
+        return extrator.apply(produto);
+    }
+
+    Comparable<?> converter(String valor) {
+        try {
+            return conversor.apply(valor);
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor inválido", e);
+        }
+    }
+
+    /**
+     * Busca o campo pelo nome do parâmetro, usando NOME se não for reconhecido.
+     */
+    public static CampoOrdenacaoProduto doParametro(String parametro) {
+        return Arrays.stream(values())
+                .filter(campo -> campo.parametro.equals(parametro))
+                .findFirst()
+                .orElse(NOME);
+    }
+}
@@ -4,6 +4,8 @@ import br.com.minhavenda.minhavenda.domain.entity.Carrinho;
 import br.com.minhavenda.minhavenda.domain.entity.Usuario;
 import br.com.minhavenda.minhavenda.domain.enums.StatusCarrinho;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -23,4 +25,29 @@ public interface CarrinhoRepository extends JpaRepository<Carrinho, UUID> {
      * @return carrinho se encontrado
      */
     Optional<Carrinho> findByUsuarioAndStatus(Usuario usuario, StatusCarrinho status);
-}
\ No newline at end of file
+
+    /**
+     * Busca o carrinho do usuário para o checkout, já com itens,
+     * produtos e estoques carregados em uma única query.
+     *
+     * Evita o N+1 ao percorrer carrinho.getItens() e item.getProduto()
+     * (e o estoque, que é um @OneToOne inverso e seria carregado
+     * com um SELECT por produto).
+     *
+     * @param usuarioId ID do usuário
+     * @param status status do carrinho
+     * @return carrinho com o grafo do checkout carregado
+     */
+    @Query("""
+        SELECT c FROM Carrinho c
+        LEFT JOIN FETCH c.itens i
+        LEFT JOIN FETCH i.produto p
+        LEFT JOIN FETCH p.estoque
+        WHERE c.usuario.id = :usuarioId
+        AND c.status = :status
+        """)
+    Optional<Carrinho> buscarParaCheckout(
+            @Param("usuarioId") UUID usuarioId,
+            @Param("status") StatusCarrinho status
+    );
+}
@@ -3,6 +3,7 @@ package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
 import br.com.minhavenda.minhavenda.domain.entity.Categoria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,6 +26,11 @@ public interface CategoriaRepository extends JpaRepository<Categoria, Long> {
      */
     Page<Categoria> findByAtivoTrue(Pageable pageable);
 
+    /**
+     * Busca categorias (ativas e inativas) em fatia, sem COUNT.
+     */
+    Slice<Categoria> findAllBy(Pageable pageable);
+
     /**
      * Busca categoria por nome (ignora case).
      */
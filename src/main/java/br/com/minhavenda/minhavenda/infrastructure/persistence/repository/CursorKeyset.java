@@ -0,0 +1,77 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import br.com.minhavenda.minhavenda.domain.exception.BusinessException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posição de uma listagem por keyset: último valor da coluna de ordenação
+ * e último ID (desempate) já entregues ao cliente.
+ *
+ * Serializado como Base64 URL-safe para o cliente tratar como opaco.
+ * Campo e direção fazem parte do cursor, então um cursor não pode ser
+ * reaproveitado com outra ordenação.
+ *
+ * @param campo campo de ordenação
+ * @param direcao direção da ordenação
+ * @param id ID do último item entregue
+ * @param valor valor do campo de ordenação no último item
+ */
+public record CursorKeyset(
+        String campo,
+        Sort.Direction direcao,
+        UUID id,
+        String valor
+) {
+
+    private static final String SEPARADOR = "|";
+
+    /**
+     * Codifica o cursor em texto opaco.
+     */
+    public String codificar() {
+        String conteudo = campo + SEPARADOR + direcao + SEPARADOR + id + SEPARADOR + valor;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(conteudo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um cursor recebido do cliente.
+     *
+     * @param cursor texto opaco gerado por {@link #codificar()}
+     * @return cursor decodificado
+     * @throws BusinessException se o cursor for inválido
+     */
+    public static CursorKeyset decodificar(String cursor) {
+        try {
+            String conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // O valor fica por último pois pode conter o separador (ex: nome)
+            String[] partes = conteudo.split("\\" + SEPARADOR, 4);
+            if (partes.length != 4) {
+                throw new BusinessException("Cursor inválido");
+            }
+            return new CursorKeyset(
+                    partes[0],
+                    Sort.Direction.valueOf(partes[1]),
+                    UUID.fromString(partes[2]),
+                    partes[3]
+            );
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor inválido", e);
+        }
+    }
+
+    /**
+     * Valida que o cursor foi gerado para a mesma ordenação.
+     *
+     * @throws BusinessException se campo ou direção forem diferentes
+     */
+    public void validarOrdenacao(String campoEsperado, Sort.Direction direcaoEsperada) {
+        if (!campo.equals(campoEsperado) || direcao != direcaoEsperada) {
+            throw new BusinessException("Cursor não corresponde à ordenação solicitada");
+        }
+    }
+}
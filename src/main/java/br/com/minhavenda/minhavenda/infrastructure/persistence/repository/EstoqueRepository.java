@@ -0,0 +1,67 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import br.com.minhavenda.minhavenda.domain.entity.Estoque;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Repository para operações com Estoque.
+ *
+ * Reservas em lote (batch JDBC) ficam em {@link EstoqueRepositoryImpl}.
+ */
+@Repository
+public interface EstoqueRepository extends JpaRepository<Estoque, Long>, EstoqueRepositoryCustom {
+
+    /**
+     * Reserva estoque de forma atômica, sem carregar a entidade.
+     *
+     * O decremento só acontece se houver quantidade suficiente, então
+     * checkouts concorrentes nunca deixam o estoque negativo (sem oversell).
+     * O próprio banco serializa as atualizações na linha. A versão é
+     * incrementada para invalidar cópias otimistas da entidade.
+     *
+     * @param produtoId ID do produto
+     * @param quantidade quantidade a reservar
+     * @param agora data da atualização
+     * @return 1 se reservado, 0 se estoque insuficiente (ou inexistente)
+     */
+    @Modifying
+    @Query("""
+        UPDATE Estoque e
+        SET e.quantidade = e.quantidade - :quantidade,
+            e.atualizadoEm = :agora,
+            e.versao = e.versao + 1
+        WHERE e.produto.id = :produtoId
+        AND e.quantidade >= :quantidade
+        """)
+    int reservar(
+            @Param("produtoId") UUID produtoId,
+            @Param("quantidade") int quantidade,
+            @Param("agora") Instant agora
+    );
+
+    /**
+     * Estoques com o produto (JOIN FETCH) para exportação em streaming.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT e FROM Estoque e
+        JOIN FETCH e.produto p
+        ORDER BY p.nome, p.id
+        """)
+    Stream<Estoque> streamComProduto();
+}
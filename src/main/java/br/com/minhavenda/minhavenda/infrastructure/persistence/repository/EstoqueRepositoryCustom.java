@@ -0,0 +1,22 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import java.util.List;
+
+/**
+ * Operações de estoque implementadas fora do Spring Data (JDBC).
+ */
+public interface EstoqueRepositoryCustom {
+
+    /**
+     * Reserva o estoque de vários produtos em um único batch JDBC.
+     *
+     * Cada reserva é o mesmo UPDATE condicional de
+     * {@link EstoqueRepository#reservar}; o batch é enviado em um
+     * único round-trip, na transação corrente.
+     *
+     * @param reservas reservas a aplicar (na ordem desejada de lock)
+     * @return linhas afetadas por reserva, na mesma ordem (1 = reservado,
+     *         0 = insuficiente; outro valor, como SUCCESS_NO_INFO, não confirma a reserva)
+     */
+    int[] reservarEmLote(List<ReservaEstoque> reservas);
+}
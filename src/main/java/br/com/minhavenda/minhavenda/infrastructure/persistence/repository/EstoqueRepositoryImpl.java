@@ -0,0 +1,41 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementação JDBC de {@link EstoqueRepositoryCustom}.
+ *
+ * O JdbcTemplate usa a mesma conexão da transação JPA corrente,
+ * então as reservas são desfeitas junto com o restante do checkout.
+ */
+@RequiredArgsConstructor
+public class EstoqueRepositoryImpl implements EstoqueRepositoryCustom {
+
+    private static final String SQL_RESERVAR = """
+            UPDATE estoques
+            SET quantidade = quantidade - ?,
+                atualizado_em = ?,
+                versao = versao + 1
+            WHERE produto_id = ?
+            AND quantidade >= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int[] reservarEmLote(List<ReservaEstoque> reservas) {
+        Timestamp agora = Timestamp.from(Instant.now());
+
+        return jdbcTemplate.batchUpdate(SQL_RESERVAR, reservas, reservas.size(), (ps, reserva) -> {
+            ps.setInt(1, reserva.quantidade());
+            ps.setTimestamp(2, agora);
+            ps.setObject(3, reserva.produtoId());
+            ps.setInt(4, reserva.quantidade());
+        })[0];
+    }
+}
@@ -0,0 +1,40 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EventoDominioRepository extends JpaRepository<EventoDominio, UUID> {
+
+    /**
+     * Próximo lote de eventos pendentes do outbox, do mais antigo para o
+     * mais recente, travado para o relay (FOR UPDATE SKIP LOCKED).
+     * Linhas já travadas por outra instância são puladas em vez de
+     * esperadas: relays concorrentes pegam lotes disjuntos. Eventos
+     * estacionados ficam de fora.
+     * Deve ser chamado dentro de uma transação.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "" + LockOptions.SKIP_LOCKED))
+    @Query("""
+        SELECT e FROM EventoDominio e
+        WHERE e.publicadoEm IS NULL AND e.estacionadoEm IS NULL
+        ORDER BY e.dataPublicacao, e.id
+        """)
+    List<EventoDominio> buscarPendentesParaPublicar(Limit limit);
+
+    long countByPublicadoEmIsNull();
+
+    long countByEstacionadoEmIsNotNull();
+}
@@ -0,0 +1,54 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import br.com.minhavenda.minhavenda.domain.entity.Notificacao;
+import br.com.minhavenda.minhavenda.infrastructure.notificacao.MensagemNotificacao;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.LockOptions;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NotificacaoRepository extends JpaRepository<Notificacao, Long> {
+
+    /**
+     * Próximo lote de notificações prontas para envio nos canais, travado para o
+     * despachante (FOR UPDATE SKIP LOCKED): instâncias concorrentes pegam
+     * lotes disjuntos. Deve ser chamado dentro de uma transação.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "" + LockOptions.SKIP_LOCKED))
+    @Query("""
+        SELECT n FROM Notificacao n
+        WHERE n.enviado = false AND n.falhou = false AND n.proximaTentativaEm <= :agora
+          AND n.tipo IN :canais
+        ORDER BY n.proximaTentativaEm, n.id
+        """)
+    List<Notificacao> buscarProntasParaEnvio(
+            @Param("canais") Collection<Notificacao.Tipo> canais, @Param("agora") Instant agora, Limit limit);
+
+    /**
+     * Dados de envio (destinatário e texto) das notificações, sem travar linhas.
+     */
+    @Query("""
+        SELECT new br.com.minhavenda.minhavenda.infrastructure.notificacao.MensagemNotificacao(
+            n.id, n.tipo, u.nome, u.email, n.mensagem)
+        FROM Notificacao n JOIN n.usuario u
+        WHERE n.id IN :ids
+        """)
+    List<MensagemNotificacao> buscarMensagens(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Profundidade da fila nos canais: pendentes, incluindo as reservadas e as em espera.
+     */
+    long countByTipoInAndEnviadoFalseAndFalhouFalse(Collection<Notificacao.Tipo> canais);
+}
@@ -1,21 +1,81 @@
 package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
 
+import br.com.minhavenda.minhavenda.domain.entity.ItemPedido;
 import br.com.minhavenda.minhavenda.domain.entity.Pedido;
 import br.com.minhavenda.minhavenda.domain.entity.Usuario;
 import br.com.minhavenda.minhavenda.domain.enums.StatusPedido;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface PedidoRepository extends JpaRepository<Pedido, UUID> {
 
     List<Pedido> findByUsuarioOrderByDataCriacaoDesc(Usuario usuario);
 
+    /**
+     * Primeira fatia do histórico de pedidos (keyset).
+     * Ordenado por data de criação e ID (desempate), mais recente primeiro.
+     */
+    @Query("""
+        SELECT p FROM Pedido p
+        WHERE p.usuario = :usuario
+        ORDER BY p.dataCriacao DESC, p.id DESC
+        """)
+    List<Pedido> buscarHistorico(@Param("usuario") Usuario usuario, Limit limit);
+
+    /**
+     * Próxima fatia do histórico de pedidos (keyset), após o último pedido entregue.
+     * Usa o índice (usuario_id, data_criacao, id) em vez de OFFSET.
+     */
+    @Query("""
+        SELECT p FROM Pedido p
+        WHERE p.usuario = :usuario
+        AND (p.dataCriacao < :dataCriacao
+        OR (p.dataCriacao = :dataCriacao AND p.id < :id))
+        ORDER BY p.dataCriacao DESC, p.id DESC
+        """)
+    List<Pedido> buscarHistoricoApos(
+            @Param("usuario") Usuario usuario,
+            @Param("dataCriacao") LocalDateTime dataCriacao,
+            @Param("id") UUID id,
+            Limit limit
+    );
+
+    long countByUsuario(Usuario usuario);
+
     Optional<Pedido> findByIdAndUsuario(UUID id, Usuario usuario);
 
     List<Pedido> findByStatus(StatusPedido status);
+
+    /**
+     * Itens de pedidos com o pedido (JOIN FETCH), agrupados por pedido, para
+     * exportação em streaming: o ResultSet é lido em lotes do fetch size, sem
+     * carregar a tabela inteira. Deve ser consumido dentro de uma transação
+     * e fechado ao final.
+     *
+     * @param status filtra pelo status do pedido (null = todos)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+        SELECT i FROM ItemPedido i
+        JOIN FETCH i.pedido p
+        WHERE :status IS NULL OR p.status = :status
+        ORDER BY p.dataCriacao, p.id, i.id
+        """)
+    Stream<ItemPedido> streamItensComPedido(@Param("status") StatusPedido status);
 }
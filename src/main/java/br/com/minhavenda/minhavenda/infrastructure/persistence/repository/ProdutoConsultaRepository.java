@@ -0,0 +1,276 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import br.com.minhavenda.minhavenda.application.dto.PaginaCursor;
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.domain.entity.Categoria;
+import br.com.minhavenda.minhavenda.domain.entity.Estoque;
+import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Consultas de leitura do catálogo que produzem {@link ProdutoDTO} direto do SQL.
+ *
+ * Usa expressão de construtor (Criteria {@code construct}) em vez de carregar
+ * entidades Produto: nada entra no contexto de persistência, não há snapshot
+ * para dirty checking nem proxies de categoria/estoque. Categoria e estoque
+ * entram por LEFT JOIN na mesma query.
+ *
+ * Os filtros continuam vindo de {@link Specification} (ProdutoSpecification)
+ * e a ordenação do {@link Sort} do Pageable, então os endpoints mantêm o
+ * mesmo contrato de paginação e ordenação.
+ *
+ * Para navegação profunda há também a listagem por cursor (keyset):
+ * em vez de OFFSET, filtra pelos valores do último item entregue
+ * (coluna de ordenação + ID), então o custo por fatia não cresce com a
+ * profundidade e o COUNT(*) só roda quando solicitado.
+ */
+@Repository
+public class ProdutoConsultaRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Lista produtos como DTO, paginados.
+     * A contagem só é executada quando não dá para deduzir o total da página.
+     *
+     * @param spec filtros (null = sem filtro)
+     * @param pageable paginação e ordenação
+     * @return página de DTOs
+     */
+    public Page<ProdutoDTO> listar(Specification<Produto> spec, Pageable pageable) {
+        TypedQuery<ProdutoDTO> query = criarQuery(spec, pageable.getSort());
+
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> contar(spec));
+    }
+
+    /**
+     * Lista produtos como DTO, sem paginação.
+     *
+     * @param spec filtros (null = sem filtro)
+     * @param sort ordenação
+     * @return lista de DTOs
+     */
+    public List<ProdutoDTO> listar(Specification<Produto> spec, Sort sort) {
+        return criarQuery(spec, sort).getResultList();
+    }
+
+    /**
+     * Lista produtos como DTO, sem paginação, até um número máximo de linhas.
+     *
+     * @param spec filtros (null = sem filtro)
+     * @param sort ordenação
+     * @param maximo quantidade máxima de linhas lidas
+     * @return lista de DTOs
+     */
+    public List<ProdutoDTO> listar(Specification<Produto> spec, Sort sort, int maximo) {
+        return criarQuery(spec, sort)
+                .setMaxResults(maximo)
+                .getResultList();
+    }
+
+    /**
+     * Produtos como DTO em streaming, lidos do ResultSet em lotes do fetch
+     * size (exportação). Deve ser consumido dentro de uma transação e
+     * fechado ao final.
+     *
+     * @param spec filtros (null = sem filtro)
+     * @param sort ordenação
+     * @param fetchSize linhas buscadas por ida ao banco
+     * @return stream de DTOs
+     */
+    public Stream<ProdutoDTO> stream(Specification<Produto> spec, Sort sort, int fetchSize) {
+        return criarQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+    }
+
+    /**
+     * Lista produtos como DTO por cursor (keyset), com desempate pelo ID.
+     *
+     * @param spec filtros (null = sem filtro)
+     * @param campo campo de ordenação
+     * @param direcao direção da ordenação
+     * @param after cursor da fatia anterior (null = primeira fatia)
+     * @param tamanho quantidade de itens na fatia
+     * @param incluirTotal se deve executar a contagem total
+     * @return fatia de DTOs com o próximo cursor
+     */
+    public PaginaCursor<ProdutoDTO> listarPorCursor(
+            Specification<Produto> spec,
+            CampoOrdenacaoProduto campo,
+            Sort.Direction direcao,
+            String after,
+            int tamanho,
+            boolean incluirTotal
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProdutoDTO> query = cb.createQuery(ProdutoDTO.class);
+        Root<Produto> produto = query.from(Produto.class);
+        Join<Produto, Categoria> categoria = produto.join("categoria", JoinType.LEFT);
+        Join<Produto, Estoque> estoque = produto.join("estoque", JoinType.LEFT);
+
+        query.select(projecao(cb, produto, categoria, estoque));
+
+        Expression<?> coluna = colunaOrdenacao(cb, produto, estoque, campo);
+        Path<UUID> id = produto.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filtro = spec != null ? spec.toPredicate(produto, query, cb) : null;
+        if (filtro != null) {
+            predicates.add(filtro);
+        }
+        if (after != null && !after.isBlank()) {
+            CursorKeyset cursor = CursorKeyset.decodificar(after);
+            cursor.validarOrdenacao(campo.getParametro(), direcao);
+            predicates.add(aposCursor(cb, coluna, campo.converter(cursor.valor()), id, cursor.id(), direcao));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        query.orderBy(direcao.isAscending()
+                ? List.of(cb.asc(coluna), cb.asc(id))
+                : List.of(cb.desc(coluna), cb.desc(id)));
+
+        // Busca um item a mais só para saber se existe próxima fatia
+        List<ProdutoDTO> resultado = entityManager.createQuery(query)
+                .setMaxResults(tamanho + 1)
+                .getResultList();
+
+        boolean temProximo = resultado.size() > tamanho;
+        List<ProdutoDTO> conteudo = temProximo ? resultado.subList(0, tamanho) : resultado;
+
+        String proximoCursor = null;
+        if (temProximo) {
+            ProdutoDTO ultimo = conteudo.get(conteudo.size() - 1);
+            proximoCursor = new CursorKeyset(campo.getParametro(), direcao, ultimo.getId(), campo.extrair(ultimo))
+                    .codificar();
+        }
+
+        Long total = incluirTotal ? contar(spec) : null;
+        return new PaginaCursor<>(conteudo, proximoCursor, temProximo, total);
+    }
+
+    private TypedQuery<ProdutoDTO> criarQuery(Specification<Produto> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProdutoDTO> query = cb.createQuery(ProdutoDTO.class);
+        Root<Produto> produto = query.from(Produto.class);
+        Join<Produto, Categoria> categoria = produto.join("categoria", JoinType.LEFT);
+        Join<Produto, Estoque> estoque = produto.join("estoque", JoinType.LEFT);
+
+        query.select(projecao(cb, produto, categoria, estoque));
+
+        Predicate predicate = spec != null ? spec.toPredicate(produto, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, produto, cb));
+        }
+
+        return entityManager.createQuery(query);
+    }
+
+    private CompoundSelection<ProdutoDTO> projecao(
+            CriteriaBuilder cb,
+            Root<Produto> produto,
+            Join<Produto, Categoria> categoria,
+            Join<Produto, Estoque> estoque
+    ) {
+        // Mesma ordem de campos do construtor de ProdutoDTO
+        return cb.construct(
+                ProdutoDTO.class,
+                produto.get("id"),
+                produto.get("nome"),
+                produto.get("descricao"),
+                produto.get("preco"),
+                produto.get("ativo"),
+                produto.get("dataCadastro"),
+                categoria.get("id"),
+                categoria.get("nome"),
+                cb.coalesce(estoque.<Integer>get("quantidade"), 0)
+        );
+    }
+
+    private Expression<?> colunaOrdenacao(
+            CriteriaBuilder cb,
+            Root<Produto> produto,
+            Join<Produto, Estoque> estoque,
+            CampoOrdenacaoProduto campo
+    ) {
+        return switch (campo) {
+            case NOME -> produto.get("nome");
+            case PRECO -> produto.get("preco").get("valor");
+            case DATA_CADASTRO -> produto.get("dataCadastro");
+            case ESTOQUE -> cb.coalesce(estoque.<Integer>get("quantidade"), 0);
+        };
+    }
+
+    /**
+     * (coluna, id) > (valor, ultimoId) na direção da ordenação.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private Predicate aposCursor(
+            CriteriaBuilder cb,
+            Expression coluna,
+            Comparable valor,
+            Path<UUID> id,
+            UUID ultimoId,
+            Sort.Direction direcao
+    ) {
+        if (direcao.isAscending()) {
+            return cb.or(
+                    cb.greaterThan(coluna, valor),
+                    cb.and(cb.equal(coluna, valor), cb.greaterThan(id, ultimoId))
+            );
+        }
+        return cb.or(
+                cb.lessThan(coluna, valor),
+                cb.and(cb.equal(coluna, valor), cb.lessThan(id, ultimoId))
+        );
+    }
+
+    private long contar(Specification<Produto> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Produto> produto = query.from(Produto.class);
+
+        query.select(cb.count(produto));
+
+        Predicate predicate = spec != null ? spec.toPredicate(produto, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
@@ -3,6 +3,8 @@ package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
 import br.com.minhavenda.minhavenda.domain.entity.Produto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -18,19 +20,46 @@ import java.util.UUID;
  * Repository para operações com Produto.
  *
  * Estende JpaSpecificationExecutor para suportar queries dinâmicas e seguras.
+ *
+ * As consultas de listagem carregam categoria e estoque junto com a
+ * página (@EntityGraph), evitando N+1 no ProdutoMapper. O estoque é um
+ * @OneToOne inverso e, sem isso, seria buscado com um SELECT por produto.
+ * A contagem das páginas continua sendo uma query separada, sem joins.
  */
 @Repository
 public interface ProdutoRepository extends JpaRepository<Produto, UUID>, JpaSpecificationExecutor<Produto> {
 
+    /**
+     * Lista todos os produtos (ativos e inativos) com categoria e estoque.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
+    List<Produto> findAll();
+
+    /**
+     * Lista todos os produtos (ativos e inativos) paginados, com categoria e estoque.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
+    Page<Produto> findAll(Pageable pageable);
+
+    /**
+     * Busca produtos por Specification (filtros dinâmicos), com categoria e estoque.
+     */
+    @Override
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
+    Page<Produto> findAll(Specification<Produto> spec, Pageable pageable);
 
     /**
      * Busca apenas produtos ativos.
      */
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
     List<Produto> findByAtivoTrue();
 
     /**
      * Busca produtos ativos com paginação.
      */
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
     Page<Produto> findByAtivoTrue(Pageable pageable);
 
     /**
@@ -43,6 +72,7 @@ public interface ProdutoRepository extends JpaRepository<Produto, UUID>, JpaSpec
      *
      * Usa @Query com parâmetros nomeados para segurança.
      */
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
     @Query("""
         SELECT p FROM Produto p
         WHERE p.ativo = true
@@ -54,6 +84,7 @@ public interface ProdutoRepository extends JpaRepository<Produto, UUID>, JpaSpec
     /**
      * Busca produtos por categoria (apenas ativos).
      */
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
     @Query("""
         SELECT p FROM Produto p
         WHERE p.ativo = true
@@ -64,10 +95,11 @@ public interface ProdutoRepository extends JpaRepository<Produto, UUID>, JpaSpec
     /**
      * Busca produtos por faixa de preço (apenas ativos).
      */
+    @EntityGraph(attributePaths = {"categoria", "estoque"})
     @Query("""
         SELECT p FROM Produto p
         WHERE p.ativo = true
-        AND p.preco BETWEEN :precoMin AND :precoMax
+        AND p.preco.valor BETWEEN :precoMin AND :precoMax
         """)
     Page<Produto> buscarPorFaixaPreco(
             @Param("precoMin") BigDecimal precoMin,
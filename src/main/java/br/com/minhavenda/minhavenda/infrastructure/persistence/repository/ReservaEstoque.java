@@ -0,0 +1,12 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import java.util.UUID;
+
+/**
+ * Quantidade a reservar no estoque de um produto.
+ *
+ * @param produtoId ID do produto
+ * @param quantidade quantidade a reservar
+ */
+public record ReservaEstoque(UUID produtoId, int quantidade) {
+}
@@ -6,7 +6,9 @@ import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Specification para construir queries seguras de busca de produtos.
@@ -54,14 +56,14 @@ public class ProdutoSpecification {
             // Filtro: Preço mínimo
             if (filtro.getPrecoMin() != null) {
                 predicates.add(
-                        criteriaBuilder.greaterThanOrEqualTo(root.get("preco"), filtro.getPrecoMin())
+                        criteriaBuilder.greaterThanOrEqualTo(root.get("preco").get("valor"), filtro.getPrecoMin())
                 );
             }
 
             // Filtro: Preço máximo
             if (filtro.getPrecoMax() != null) {
                 predicates.add(
-                        criteriaBuilder.lessThanOrEqualTo(root.get("preco"), filtro.getPrecoMax())
+                        criteriaBuilder.lessThanOrEqualTo(root.get("preco").get("valor"), filtro.getPrecoMax())
                 );
             }
 
@@ -131,13 +133,13 @@ public class ProdutoSpecification {
 
             if (precoMin != null) {
                 predicates.add(
-                        criteriaBuilder.greaterThanOrEqualTo(root.get("preco"), precoMin)
+                        criteriaBuilder.greaterThanOrEqualTo(root.get("preco").get("valor"), precoMin)
                 );
             }
 
             if (precoMax != null) {
                 predicates.add(
-                        criteriaBuilder.lessThanOrEqualTo(root.get("preco"), precoMax)
+                        criteriaBuilder.lessThanOrEqualTo(root.get("preco").get("valor"), precoMax)
                 );
             }
 
@@ -148,4 +150,11 @@ public class ProdutoSpecification {
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
         };
     }
-}
\ No newline at end of file
+
+    /**
+     * Specification para buscar produtos por IDs (hidratação de resultados do índice de busca).
+     */
+    public static Specification<Produto> porIds(Collection<UUID> ids) {
+        return (root, query, criteriaBuilder) -> root.get("id").in(ids);
+    }
+}
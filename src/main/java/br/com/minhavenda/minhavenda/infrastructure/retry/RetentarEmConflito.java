@@ -0,0 +1,34 @@
+package br.com.minhavenda.minhavenda.infrastructure.retry;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Reexecuta o método quando a transação falha por conflito de
+ * versão (optimistic locking).
+ *
+ * Deve ser usado em métodos @Transactional chamados fora de uma
+ * transação (ex: a partir dos controllers): a nova tentativa abre uma
+ * transação nova e relê o estado atualizado do banco.
+ *
+ * @see RetentarEmConflitoAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetentarEmConflito {
+
+    /**
+     * Número máximo de execuções (incluindo a primeira).
+     */
+    int maxTentativas() default 3;
+
+    /**
+     * Backoff base em milissegundos. A espera antes da tentativa N é
+     * aleatória entre 0 e backoffMs * 2^(N-1) (full jitter).
+     */
+    long backoffMs() default 20;
+}
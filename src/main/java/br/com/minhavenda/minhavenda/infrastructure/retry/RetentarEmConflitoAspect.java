@@ -0,0 +1,86 @@
+package br.com.minhavenda.minhavenda.infrastructure.retry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Aspecto que implementa {@link RetentarEmConflito}.
+ *
+ * Executa antes (por fora) do interceptor de transação, então cada
+ * tentativa roda em uma transação nova. Se o método for chamado dentro
+ * de uma transação já ativa, não há retry: o conflito é propagado para
+ * quem controla a transação.
+ *
+ * Métricas:
+ * - conflitos.otimistas{operacao}: conflitos detectados
+ * - conflitos.retentativas{operacao}: novas tentativas executadas
+ * - conflitos.esgotados{operacao}: falhas após a última tentativa
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class RetentarEmConflitoAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@annotation(retentar)")
+    public Object retentar(ProceedingJoinPoint joinPoint, RetentarEmConflito retentar) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String operacao = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        int maxTentativas = Math.max(1, retentar.maxTentativas());
+
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return joinPoint.proceed();
+            } catch (RuntimeException e) {
+                if (!isConflito(e)) {
+                    throw e;
+                }
+
+                meterRegistry.counter("conflitos.otimistas", "operacao", operacao).increment();
+
+                if (tentativa >= maxTentativas) {
+                    meterRegistry.counter("conflitos.esgotados", "operacao", operacao).increment();
+                    log.warn("Conflito de versão em {} após {} tentativas", operacao, tentativa);
+                    throw e;
+                }
+
+                long espera = ThreadLocalRandom.current()
+                        .nextLong(retentar.backoffMs() * (1L << (tentativa - 1)) + 1);
+                log.debug("Conflito de versão em {} (tentativa {}), nova tentativa em {}ms",
+                        operacao, tentativa, espera);
+
+                meterRegistry.counter("conflitos.retentativas", "operacao", operacao).increment();
+                Thread.sleep(espera);
+            }
+        }
+    }
+
+    private boolean isConflito(Throwable e) {
+        for (Throwable causa = e; causa != null; causa = causa.getCause()) {
+            if (causa instanceof OptimisticLockingFailureException
+                    || causa instanceof OptimisticLockException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
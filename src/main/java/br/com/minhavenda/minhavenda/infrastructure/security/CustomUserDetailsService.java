@@ -1,7 +1,5 @@
 package br.com.minhavenda.minhavenda.infrastructure.security;
 
-import br.com.minhavenda.minhavenda.domain.entity.Usuario;
-import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -18,7 +16,7 @@ import java.util.Collections;
  * Implementa UserDetailsService do Spring Security.
  * 
  * Responsabilidades:
- * - Carregar usuário do banco pelo email
+ * - Carregar usuário pelo email (via {@link UsuarioPrincipalCache})
  * - Converter entidade Usuario para UserDetails (formato do Spring Security)
  * - Definir authorities (roles/permissions)
  */
@@ -26,7 +24,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
-    private final UsuarioRepository usuarioRepository;
+    private final UsuarioPrincipalCache usuarioPrincipalCache;
 
     /**
      * Carrega usuário pelo email (username).
@@ -40,14 +38,14 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         
-        // 1. Busca usuário no banco pelo email
-        Usuario usuario = usuarioRepository.findByEmail(email)
+        // 1. Busca usuário pelo email (cache, com fallback para o banco)
+        UsuarioAutenticado usuario = usuarioPrincipalCache.buscar(email)
                 .orElseThrow(() -> new UsernameNotFoundException(
                         "Usuário não encontrado com email: " + email
                 ));
 
         // 2. Verifica se usuário está ativo
-        if (!usuario.getAtivo()) {
+        if (!usuario.ativo()) {
             throw new UsernameNotFoundException("Usuário inativo: " + email);
         }
 
@@ -55,22 +53,22 @@ public class CustomUserDetailsService implements UserDetailsService {
         // UserDetails é a interface que o Spring Security entende
         return User.builder()
                 // Username = email
-                .username(usuario.getEmail())
+                .username(usuario.email())
                 
                 // Senha hasheada (BCrypt)
-                .password(usuario.getSenha())
+                .password(usuario.senha())
                 
                 // Authorities (roles/permissions)
                 // Formato: "ROLE_USER", "ROLE_ADMIN", etc
                 .authorities(Collections.singleton(
-                        new SimpleGrantedAuthority("ROLE_" + usuario.getTipo().name())
+                        new SimpleGrantedAuthority("ROLE_" + usuario.tipo().name())
                 ))
                 
                 // Flags de conta
                 .accountExpired(false)
                 .accountLocked(false)
                 .credentialsExpired(false)
-                .disabled(!usuario.getAtivo())
+                .disabled(!usuario.ativo())
                 
                 .build();
     }
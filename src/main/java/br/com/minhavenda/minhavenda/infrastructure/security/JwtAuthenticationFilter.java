@@ -5,9 +5,12 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
 
 /**
  * Filtro de autenticação JWT.
@@ -28,10 +32,15 @@ import java.io.IOException;
  * Fluxo:
  * 1. Request chega
  * 2. Extrai token do header "Authorization: Bearer <token>"
- * 3. Valida token e extrai email
- * 4. Carrega usuário do banco
+ * 3. Verifica o token uma única vez e extrai email
+ * 4. Carrega usuário (cache de principal)
  * 5. Autentica usuário no contexto
  * 6. Passa request adiante
+ *
+ * Modo stateless (security.jwt.stateless=true):
+ * - Tokens com claims tipo/uid/ver autenticam direto pelas claims
+ * - Nenhuma consulta ao banco; apenas a versão do token é conferida
+ * - Tokens antigos (sem essas claims) seguem o fluxo normal
  */
 @Component
 @RequiredArgsConstructor
@@ -40,6 +49,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
 
+    @Value("${security.jwt.stateless:false}")
+    private boolean stateless;
+
     /**
      * Executa a cada request (antes de chegar no controller).
      * 
@@ -57,7 +69,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Extrai o header Authorization
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String userEmail;
+        final TokenVerificado token;
 
         // 2. Verifica se o header existe e começa com "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -69,17 +81,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 3. Extrai o token (remove "Bearer " do início)
         jwt = authHeader.substring(7);
         
-        // 4. Extrai o email (subject) do token
-        userEmail = jwtService.extractUsername(jwt);
+        // 4. Verifica o token (assinatura + expiração) uma única vez
+        token = jwtService.verificar(jwt);
 
-        // 5. Se tem email E usuário ainda não está autenticado no contexto
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        // 5. Se usuário ainda não está autenticado no contexto
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
             
-            // 6. Carrega detalhes do usuário do banco de dados
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            // 6. Monta o usuário pelas claims (stateless) ou carrega pelo email (subject)
+            UserDetails userDetails = stateless && token.possuiClaimsDeAutorizacao()
+                    ? usuarioDasClaims(token)
+                    : this.userDetailsService.loadUserByUsername(token.subject());
 
-            // 7. Valida se o token é válido para este usuário
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            // 7. Valida se o token é válido para este usuário (sem novo parse)
+            if (userDetails != null && jwtService.isTokenValid(token, userDetails)) {
                 
                 // 8. Cria objeto de autenticação
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -102,4 +116,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 11. Passa a request adiante na cadeia de filtros
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Monta o principal a partir das claims do token, sem acessar o banco.
+     *
+     * @param token token verificado com claims de autorização
+     * @return UserDetails, ou null se o token foi revogado
+     */
+    private UserDetails usuarioDasClaims(TokenVerificado token) {
+        if (!jwtService.isVersaoAtual(token)) {
+            return null;
+        }
+
+        return User.builder()
+                .username(token.subject())
+                .password("")
+                .authorities(Collections.singleton(
+                        new SimpleGrantedAuthority("ROLE_" + token.tipo().name())
+                ))
+                .build();
+    }
 }
@@ -1,15 +1,30 @@
 package br.com.minhavenda.minhavenda.infrastructure.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -27,10 +42,31 @@ import java.util.function.Function;
  * - Header: tipo do token e algoritmo
  * - Payload: dados do usuário (claims)
  * - Signature: assinatura para validar integridade
+ *
+ * Performance:
+ * - Chave HMAC e JwtParser são construídos uma única vez na inicialização
+ * - Cada token é verificado uma vez e exposto como {@link TokenVerificado}
+ * - Tokens verificados ficam em um cache curto (nunca além do "exp"),
+ *   então tokens quentes não passam de novo por parse + HMAC
+ * - O cache é indexado pelo SHA-256 do token, nunca pelo token em si,
+ *   para não manter credenciais completas no heap
+ *
+ * Tokens stateless (security.jwt.stateless=true):
+ * - Carregam tipo, ID do usuário e versão do token
+ * - O filtro autoriza direto pelas claims, sem consultar o banco
+ * - A versão é conferida no {@link VersaoTokenStore} (revogação)
  */
 @Service
+@RequiredArgsConstructor
 public class JwtService {
 
+    public static final String CLAIM_TIPO = "tipo";
+    public static final String CLAIM_USUARIO_ID = "uid";
+    public static final String CLAIM_VERSAO = "ver";
+
+    private final MeterRegistry meterRegistry;
+    private final VersaoTokenStore versaoTokenStore;
+
     /**
      * Chave secreta para assinar o token.
      * DEVE estar em variável de ambiente (.env) em produção!
@@ -47,6 +83,70 @@ public class JwtService {
     @Value("${security.jwt.expiration}")
     private long jwtExpiration;
 
+    /**
+     * Tempo máximo que um token verificado fica em cache.
+     * O limite efetivo é o menor entre este valor e a expiração do token.
+     */
+    @Value("${security.jwt.cache.ttl:30s}")
+    private Duration cacheTtl;
+
+    /**
+     * Quantidade máxima de tokens verificados em cache (0 desabilita).
+     */
+    @Value("${security.jwt.cache.tamanho-maximo:10000}")
+    private long cacheTamanhoMaximo;
+
+    private SecretKey signInKey;
+    private JwtParser jwtParser;
+    private Cache<String, TokenVerificado> tokensVerificados;
+
+    /**
+     * Constrói chave, parser e cache uma única vez.
+     */
+    @PostConstruct
+    void inicializar() {
+        this.signInKey = criarChave();
+        this.jwtParser = Jwts
+                .parser()
+                // Define a chave para validar a assinatura
+                .verifyWith(signInKey)
+                .build();
+        this.tokensVerificados = Caffeine.newBuilder()
+                .maximumSize(cacheTamanhoMaximo)
+                .expireAfter(new ExpiracaoDoToken(cacheTtl))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokensVerificados, "jwt.tokens.verificados");
+    }
+
+    /**
+     * Verifica assinatura e expiração do token, retornando suas claims.
+     *
+     * Consulta primeiro o cache de tokens já verificados; em caso de miss,
+     * faz o parse completo (uma única verificação HMAC).
+     *
+     * @param token JWT token
+     * @return token verificado
+     * @throws JwtException se o token for inválido, expirado ou malformado
+     */
+    public TokenVerificado verificar(String token) {
+        String chave = chaveCache(token);
+        TokenVerificado verificado = tokensVerificados.getIfPresent(chave);
+
+        if (verificado == null) {
+            verificado = parse(token);
+            if (cacheTamanhoMaximo > 0) {
+                tokensVerificados.put(chave, verificado);
+            }
+        } else if (verificado.isExpirado(Instant.now())) {
+            tokensVerificados.invalidate(chave);
+            throw new JwtException("Token expirado");
+        }
+
+        return verificado;
+    }
+
     /**
      * Extrai o email (subject) do token JWT.
      *
@@ -54,7 +154,7 @@ public class JwtService {
      * @return email do usuário
      */
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verificar(token).subject();
     }
 
     /**
@@ -65,8 +165,7 @@ public class JwtService {
      * @return valor da claim
      */
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+        return claimsResolver.apply(verificar(token).claims());
     }
 
     /**
@@ -79,6 +178,29 @@ public class JwtService {
         return generateToken(new HashMap<>(), userDetails);
     }
 
+    /**
+     * Gera token JWT com as claims de autorização (tipo, ID e versão),
+     * permitindo autenticar requests sem consultar o banco.
+     *
+     * @param usuario dados do usuário
+     * @return token JWT
+     */
+    public String generateToken(UsuarioAutenticado usuario) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(CLAIM_TIPO, usuario.tipo().name());
+        claims.put(CLAIM_USUARIO_ID, usuario.id().toString());
+        claims.put(CLAIM_VERSAO, versaoTokenStore.versaoAtual(usuario.id()));
+
+        return Jwts
+                .builder()
+                .setClaims(claims)
+                .setSubject(usuario.email())
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
+                .signWith(signInKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
     /**
      * Gera token JWT com claims customizadas.
      *
@@ -107,7 +229,7 @@ public class JwtService {
                 .setExpiration(new Date(System.currentTimeMillis() + jwtExpiration))
 
                 // Assina o token com a chave secreta
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
 
                 // Gera a string do token
                 .compact();
@@ -125,46 +247,67 @@ public class JwtService {
      * @return true se válido, false caso contrário
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+        return isTokenValid(verificar(token), userDetails);
     }
 
     /**
-     * Verifica se o token está expirado.
+     * Valida um token já verificado para o usuário, sem novo parse.
      *
-     * @param token JWT token
-     * @return true se expirado, false caso contrário
+     * @param token token verificado
+     * @param userDetails dados do usuário
+     * @return true se válido, false caso contrário
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(TokenVerificado token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername())
+                && !token.isExpirado(Instant.now());
     }
 
     /**
-     * Extrai a data de expiração do token.
+     * Verifica se a versão do token ainda é a versão atual do usuário.
+     * Tokens emitidos antes de uma revogação retornam false.
      *
-     * @param token JWT token
-     * @return data de expiração
+     * @param token token verificado com claims de autorização
+     * @return true se a versão confere
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isVersaoAtual(TokenVerificado token) {
+        return token.versao() == versaoTokenStore.versaoAtual(token.usuarioId());
     }
 
     /**
-     * Extrai todas as claims do token.
+     * Faz o parse completo do token (assinatura + expiração).
      *
      * @param token JWT token
-     * @return todas as claims
+     * @return token verificado
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                // Define a chave para validar a assinatura
-                .setSigningKey(getSignInKey())
-                .build()
+    private TokenVerificado parse(String token) {
+        Claims claims = jwtParser
                 // Faz o parse do token
-                .parseClaimsJws(token)
+                .parseSignedClaims(token)
                 // Extrai o body (claims)
-                .getBody();
+                .getPayload();
+
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new JwtException("Token sem subject ou data de expiração");
+        }
+
+        return TokenVerificado.de(claims);
+    }
+
+    /**
+     * Chave do cache de tokens verificados: SHA-256 do token em Base64.
+     *
+     * @param token JWT token
+     * @return digest do token
+     */
+    private static String chaveCache(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 é obrigatório em toda JVM
+            throw new IllegalStateException(e);
+        }
     }
 
     /**
@@ -172,11 +315,36 @@ public class JwtService {
      *
      * @return chave de assinatura
      */
-    private Key getSignInKey() {
+    private SecretKey criarChave() {
         // Decodifica a chave de Base64 para bytes
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
 
         // Cria uma chave HMAC
         return Keys.hmacShaKeyFor(keyBytes);
     }
-}
\ No newline at end of file
+
+    /**
+     * Expiração por entrada do cache: o menor entre o TTL configurado
+     * e o tempo restante até o "exp" do token.
+     */
+    private record ExpiracaoDoToken(Duration ttlMaximo) implements Expiry<String, TokenVerificado> {
+
+        @Override
+        public long expireAfterCreate(String chave, TokenVerificado verificado, long currentTime) {
+            long restante = Duration.between(Instant.now(), verificado.expiracao()).toNanos();
+            return Math.max(0, Math.min(restante, ttlMaximo.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String chave, TokenVerificado verificado,
+                                      long currentTime, long currentDuration) {
+            return expireAfterCreate(chave, verificado, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String chave, TokenVerificado verificado,
+                                    long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
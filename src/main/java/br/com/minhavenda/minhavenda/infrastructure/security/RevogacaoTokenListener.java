@@ -0,0 +1,28 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import br.com.minhavenda.minhavenda.domain.event.UsuarioAlteradoEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Revoga os tokens de um usuário quando ele é alterado
+ * (ativação, desativação, senha ou tipo), após o commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevogacaoTokenListener {
+
+    private final VersaoTokenStore versaoTokenStore;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarUsuario(UsuarioAlteradoEvent event) {
+        if (event.usuarioId() == null) {
+            return;
+        }
+        log.debug("Revogando tokens do usuário: {}", event.usuarioId());
+        versaoTokenStore.incrementar(event.usuarioId());
+    }
+}
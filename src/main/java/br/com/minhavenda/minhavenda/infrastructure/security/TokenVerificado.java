@@ -0,0 +1,59 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Token JWT já verificado (assinatura e expiração).
+ *
+ * Produzido uma única vez por request pelo {@link JwtService} e
+ * reaproveitado pelo restante da cadeia de filtros, evitando novo
+ * parse e nova verificação HMAC do mesmo token.
+ *
+ * @param subject email do usuário (claim "sub")
+ * @param expiracao data de expiração (claim "exp")
+ * @param claims todas as claims do token
+ */
+public record TokenVerificado(
+        String subject,
+        Instant expiracao,
+        Claims claims
+) {
+
+    public static TokenVerificado de(Claims claims) {
+        return new TokenVerificado(
+                claims.getSubject(),
+                claims.getExpiration().toInstant(),
+                claims
+        );
+    }
+
+    public boolean isExpirado(Instant agora) {
+        return !expiracao.isAfter(agora);
+    }
+
+    /**
+     * Indica se o token carrega as claims necessárias para autorizar
+     * sem consultar o banco (tipo, ID do usuário e versão).
+     */
+    public boolean possuiClaimsDeAutorizacao() {
+        return claims.get(JwtService.CLAIM_TIPO) != null
+                && claims.get(JwtService.CLAIM_USUARIO_ID) != null
+                && claims.get(JwtService.CLAIM_VERSAO) != null;
+    }
+
+    public UUID usuarioId() {
+        return UUID.fromString(claims.get(JwtService.CLAIM_USUARIO_ID, String.class));
+    }
+
+    public TipoUsuario tipo() {
+        return TipoUsuario.valueOf(claims.get(JwtService.CLAIM_TIPO, String.class));
+    }
+
+    public long versao() {
+        return claims.get(JwtService.CLAIM_VERSAO, Number.class).longValue();
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import br.com.minhavenda.minhavenda.domain.entity.Usuario;
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+
+import java.util.UUID;
+
+/**
+ * Snapshot imutável dos dados de um usuário usados na autenticação.
+ *
+ * Guardado no {@link UsuarioPrincipalCache} no lugar da entidade,
+ * para que possa ser compartilhado entre threads e requests sem
+ * depender de um persistence context aberto.
+ *
+ * @param id ID do usuário
+ * @param email email (username)
+ * @param senha hash BCrypt da senha
+ * @param tipo tipo do usuário (ADMIN/CLIENTE)
+ * @param ativo se o usuário está ativo
+ */
+public record UsuarioAutenticado(
+        UUID id,
+        String email,
+        String senha,
+        TipoUsuario tipo,
+        boolean ativo
+) {
+
+    public static UsuarioAutenticado de(Usuario usuario) {
+        return new UsuarioAutenticado(
+                usuario.getId(),
+                usuario.getEmail(),
+                usuario.getSenha(),
+                usuario.getTipo(),
+                usuario.isAtivo()
+        );
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import br.com.minhavenda.minhavenda.domain.event.UsuarioAlteradoEvent;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache de principais autenticados, chaveado pelo email (subject do JWT).
+ *
+ * Compartilhado entre o {@link JwtAuthenticationFilter} (via
+ * {@link CustomUserDetailsService}) e os services da aplicação, evitando
+ * executar UsuarioRepository.findByEmail várias vezes por request.
+ *
+ * Características:
+ * - Limitado por tamanho e com expiração (TTL) após escrita
+ * - Usuários inexistentes não são cacheados
+ * - Invalidado após o commit quando um usuário é alterado
+ *   (ativação, desativação, senha ou tipo)
+ * - Métricas de hit/miss/eviction publicadas no Micrometer
+ *   (cache.gets{cache="usuarios.principal"})
+ */
+@Slf4j
+@Component
+public class UsuarioPrincipalCache {
+
+    private static final String NOME_CACHE = "usuarios.principal";
+
+    private final UsuarioRepository usuarioRepository;
+    private final LoadingCache<String, UsuarioAutenticado> cache;
+
+    public UsuarioPrincipalCache(
+            UsuarioRepository usuarioRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.ttl:5m}") Duration ttl,
+            @Value("${security.principal-cache.tamanho-maximo:10000}") long tamanhoMaximo
+    ) {
+        this.usuarioRepository = usuarioRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::carregar);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, NOME_CACHE);
+    }
+
+    /**
+     * Busca o usuário pelo email, consultando o banco apenas em caso de miss.
+     *
+     * @param email email do usuário
+     * @return snapshot do usuário, vazio se não existir
+     */
+    public Optional<UsuarioAutenticado> buscar(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.get(email));
+    }
+
+    /**
+     * Remove um usuário do cache.
+     *
+     * @param email email do usuário
+     */
+    public void invalidar(String email) {
+        if (email != null) {
+            cache.invalidate(email);
+        }
+    }
+
+    /**
+     * Remove todos os usuários do cache.
+     */
+    public void invalidarTodos() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Invalida o usuário após o commit da transação que o alterou.
+     * Sem transação ativa, invalida imediatamente.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarUsuario(UsuarioAlteradoEvent event) {
+        log.debug("Invalidando principal em cache: {}", event.email());
+        invalidar(event.email());
+    }
+
+    private UsuarioAutenticado carregar(String email) {
+        return usuarioRepository.findByEmail(email)
+                .map(UsuarioAutenticado::de)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import java.util.UUID;
+
+/**
+ * Armazena a versão atual dos tokens de cada usuário.
+ *
+ * Tokens stateless carregam a claim "ver"; um token só é aceito se a
+ * versão nele for igual à versão atual do usuário. Incrementar a versão
+ * revoga todos os tokens emitidos anteriormente para aquele usuário.
+ *
+ * Implementações (security.jwt.versao-store):
+ * - memoria: {@link VersaoTokenStoreEmMemoria} (padrão, instância única)
+ * - banco: {@link VersaoTokenStoreBanco} (coluna usuarios.versao_token)
+ */
+public interface VersaoTokenStore {
+
+    /**
+     * @param usuarioId ID do usuário
+     * @return versão atual dos tokens do usuário
+     */
+    long versaoAtual(UUID usuarioId);
+
+    /**
+     * Revoga os tokens emitidos até agora para o usuário.
+     *
+     * @param usuarioId ID do usuário
+     */
+    void incrementar(UUID usuarioId);
+}
@@ -0,0 +1,74 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Versões de token persistidas na coluna usuarios.versao_token.
+ *
+ * Compartilhado entre instâncias e sobrevive a restarts. As leituras
+ * passam por um cache local curto, então a revogação feita por outra
+ * instância leva no máximo security.jwt.versao-store.cache-ttl para
+ * ser percebida.
+ *
+ * O incremento roda sempre em transação própria: é chamado depois do
+ * commit da alteração do usuário, quando a conexão da transação
+ * original ainda está vinculada à thread mas não será mais commitada.
+ */
+@Component
+@ConditionalOnProperty(name = "security.jwt.versao-store", havingValue = "banco")
+public class VersaoTokenStoreBanco implements VersaoTokenStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LoadingCache<UUID, Long> versoes;
+
+    public VersaoTokenStoreBanco(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${security.jwt.versao-store.cache-ttl:10s}") Duration cacheTtl
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.versoes = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(cacheTtl)
+                .build(this::carregar);
+    }
+
+    @Override
+    public long versaoAtual(UUID usuarioId) {
+        return versoes.get(usuarioId);
+    }
+
+    @Override
+    public void incrementar(UUID usuarioId) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE usuarios SET versao_token = versao_token + 1 WHERE id = ?",
+                usuarioId
+        ));
+        // Só depois do commit, para o cache não recarregar a versão antiga
+        versoes.invalidate(usuarioId);
+    }
+
+    private Long carregar(UUID usuarioId) {
+        List<Long> resultado = jdbcTemplate.queryForList(
+                "SELECT versao_token FROM usuarios WHERE id = ?",
+                Long.class,
+                usuarioId
+        );
+        return resultado.isEmpty() ? 0L : resultado.get(0);
+    }
+}
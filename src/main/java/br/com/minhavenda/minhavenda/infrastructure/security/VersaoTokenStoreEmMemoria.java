@@ -0,0 +1,33 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Versões de token mantidas em memória.
+ *
+ * Adequado para uma única instância: as versões não são compartilhadas
+ * entre instâncias e voltam a zero no restart (tokens revogados antes do
+ * restart voltam a valer até expirarem). Em produção com várias
+ * instâncias, use security.jwt.versao-store=banco.
+ */
+@Component
+@ConditionalOnProperty(name = "security.jwt.versao-store", havingValue = "memoria", matchIfMissing = true)
+public class VersaoTokenStoreEmMemoria implements VersaoTokenStore {
+
+    private final Map<UUID, Long> versoes = new ConcurrentHashMap<>();
+
+    @Override
+    public long versaoAtual(UUID usuarioId) {
+        return versoes.getOrDefault(usuarioId, 0L);
+    }
+
+    @Override
+    public void incrementar(UUID usuarioId) {
+        versoes.merge(usuarioId, 1L, Long::sum);
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.minhavenda.minhavenda.infrastructure.tarefas;
+
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * ThreadFactory dos executores próprios da aplicação (pós-commit,
+ * despachante de notificações).
+ *
+ * Com spring.threads.virtual.enabled=true (perfil "virtual", Java 21+),
+ * os executores passam a criar threads virtuais, como o Tomcat, o
+ * executor de @Async e o agendador do Spring. O tamanho do executor
+ * continua limitando a concorrência; só a thread é mais barata.
+ */
+public final class FabricaThreads {
+
+    private FabricaThreads() {
+    }
+
+    /**
+     * @param virtuais threads virtuais (exige Java 21+) ou de plataforma
+     */
+    public static ThreadFactory criar(String prefixo, boolean virtuais) {
+        if (virtuais) {
+            return new VirtualThreadTaskExecutor(prefixo).getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory(prefixo);
+    }
+}
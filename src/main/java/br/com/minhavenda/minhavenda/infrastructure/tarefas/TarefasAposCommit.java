@@ -0,0 +1,143 @@
+package br.com.minhavenda.minhavenda.infrastructure.tarefas;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trabalho secundário executado depois do commit, fora da thread do request.
+ *
+ * A tarefa é registrada na transação corrente e só é submetida em
+ * afterCommit: se a transação for desfeita (ou refeita por
+ * {@code @RetentarEmConflito}), nada roda. Sem transação ativa, é
+ * submetida na hora.
+ *
+ * Executor limitado (pos-commit.threads, fila de pos-commit.fila). Com a
+ * fila cheia, a tarefa roda na própria thread que a submeteu
+ * (CallerRunsPolicy): o request fica mais lento em vez de a fila crescer
+ * sem limite. Falhas são retentadas até pos-commit.tentativas vezes, com
+ * backoff exponencial a partir de pos-commit.backoff.
+ *
+ * Só para trabalho que pode se perder num crash (métricas, logs,
+ * aquecimento de cache). O que precisa ser garantido vai na transação
+ * (outbox, fila de notificações).
+ *
+ * Métricas: pos_commit.executadas, pos_commit.falhas, pos_commit.retentativas
+ * e pos_commit.fila (tarefas aguardando), por tarefa quando aplicável.
+ */
+@Slf4j
+@Component
+public class TarefasAposCommit {
+
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final int tentativas;
+    private final long backoffMillis;
+
+    public TarefasAposCommit(
+            MeterRegistry meterRegistry,
+            @Value("${pos-commit.threads:2}") int threads,
+            @Value("${pos-commit.fila:1000}") int fila,
+            @Value("${pos-commit.tentativas:3}") int tentativas,
+            @Value("${pos-commit.backoff:100ms}") Duration backoff,
+            @Value("${spring.threads.virtual.enabled:false}") boolean threadsVirtuais
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.tentativas = Math.max(1, tentativas);
+        this.backoffMillis = backoff.toMillis();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                FabricaThreads.criar("pos-commit-", threadsVirtuais),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Gauge.builder("pos_commit.fila", executor, e -> e.getQueue().size())
+                .description("Tarefas pós-commit aguardando execução")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param nome identifica a tarefa em logs e métricas
+     */
+    public void executar(String nome, Runnable tarefa) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submeter(nome, tarefa);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submeter(nome, tarefa);
+            }
+        });
+    }
+
+    /**
+     * Espera as tarefas já submetidas terminarem (encerramento e testes).
+     *
+     * @return false se o tempo acabou antes
+     */
+    public boolean aguardar(Duration tempo) throws InterruptedException {
+        long limite = System.nanoTime() + tempo.toNanos();
+        while (executor.getActiveCount() > 0 || !executor.getQueue().isEmpty()) {
+            if (System.nanoTime() > limite) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Tarefas pós-commit descartadas no encerramento: {}", executor.shutdownNow().size());
+        }
+    }
+
+    private void submeter(String nome, Runnable tarefa) {
+        executor.execute(() -> executarComRetry(nome, tarefa));
+    }
+
+    private void executarComRetry(String nome, Runnable tarefa) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                tarefa.run();
+                meterRegistry.counter("pos_commit.executadas", "tarefa", nome).increment();
+                return;
+            } catch (RuntimeException e) {
+                if (tentativa >= tentativas) {
+                    meterRegistry.counter("pos_commit.falhas", "tarefa", nome).increment();
+                    log.error("Tarefa pós-commit '{}' falhou após {} tentativas", nome, tentativa, e);
+                    return;
+                }
+                meterRegistry.counter("pos_commit.retentativas", "tarefa", nome).increment();
+                log.warn("Tarefa pós-commit '{}' falhou (tentativa {}): {}", nome, tentativa, e.getMessage());
+                if (!esperar(backoffMillis << (tentativa - 1))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean esperar(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
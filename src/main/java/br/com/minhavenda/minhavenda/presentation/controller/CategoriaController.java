@@ -7,9 +7,11 @@ import br.com.minhavenda.minhavenda.application.usecase.categoria.BuscarCategori
 import br.com.minhavenda.minhavenda.application.usecase.categoria.CriarCategoriaUseCase;
 import br.com.minhavenda.minhavenda.application.usecase.categoria.ExcluirCategoriaUseCase;
 import br.com.minhavenda.minhavenda.application.usecase.categoria.ListarCategoriasUseCase;
+import br.com.minhavenda.minhavenda.infrastructure.cache.VersaoCatalogo;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -17,6 +19,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 import java.util.List;
@@ -32,12 +36,13 @@ public class CategoriaController {
     private final CriarCategoriaUseCase criarCategoriaUseCase;
     private final AtualizarCategoriaUseCase atualizarCategoriaUseCase;
     private final ExcluirCategoriaUseCase excluirCategoriaUseCase;
+    private final VersaoCatalogo versaoCatalogo;
+    private final RespostaLimitada respostaLimitada;
 
     @GetMapping
     @Operation(summary = "Listar categorias ativas")
-    public ResponseEntity<List<CategoriaDTO>> listarCategorias() {
-        List<CategoriaDTO> categorias = listarCategoriasUseCase.executar();
-        return ResponseEntity.ok(categorias);
+    public ResponseEntity<List<CategoriaDTO>> listarCategorias(WebRequest request) {
+        return RespostaCondicional.responder(versaoCatalogo, request, listarCategoriasUseCase::executar);
     }
 
     @GetMapping("/paginado")
@@ -67,10 +72,15 @@ public class CategoriaController {
     }
 
     @GetMapping("/todas")
-    @Operation(summary = "Listar todas categorias")
-    public ResponseEntity<List<CategoriaDTO>> listarTodas() {
-        List<CategoriaDTO> categorias = listarCategoriasUseCase.listarTodas();
-        return ResponseEntity.ok(categorias);
+    @Operation(
+            summary = "Listar todas categorias",
+            description = "Até 'limite' categorias por nome (teto do servidor: catalogo.listagem.maximo-itens). " +
+                    "X-Lista-Truncada: true indica que há mais; use /categorias/todas/paginado."
+    )
+    public ResponseEntity<StreamingResponseBody> listarTodas(
+            @RequestParam(required = false) @Min(1) Integer limite
+    ) {
+        return respostaLimitada.responder(listarCategoriasUseCase.listarTodas(limite));
     }
 
     @GetMapping("/todas/paginado")
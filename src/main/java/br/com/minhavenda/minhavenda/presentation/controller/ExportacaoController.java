@@ -0,0 +1,88 @@
+package br.com.minhavenda.minhavenda.presentation.controller;
+
+import br.com.minhavenda.minhavenda.application.usecase.exportacao.ExportarDadosUseCase;
+import br.com.minhavenda.minhavenda.domain.enums.StatusPedido;
+import br.com.minhavenda.minhavenda.infrastructure.exportacao.FormatoExportacao;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exportações administrativas em streaming.
+ *
+ * Endpoints Admin:
+ * - GET /admin/exportacao/produtos - Todos os produtos
+ * - GET /admin/exportacao/pedidos - Pedidos com itens (filtro opcional por status)
+ * - GET /admin/exportacao/estoque - Estoque de todos os produtos
+ *
+ * Parâmetro formato: NDJSON (padrão, um objeto JSON por linha) ou CSV.
+ *
+ * O corpo é escrito por um {@link StreamingResponseBody}, fora da thread
+ * do request, direto no OutputStream da resposta: nada é montado em
+ * memória e o download começa antes de a consulta terminar. O tempo
+ * máximo segue spring.mvc.async.request-timeout.
+ */
+@RestController
+@RequestMapping("/admin/exportacao")
+@RequiredArgsConstructor
+@Tag(name = "Exportação", description = "Exportações administrativas (NDJSON/CSV)")
+@SecurityRequirement(name = "bearer-auth")
+public class ExportacaoController {
+
+    private final ExportarDadosUseCase exportarDadosUseCase;
+
+    @GetMapping("/produtos")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Exportar produtos (ADMIN)")
+    public ResponseEntity<StreamingResponseBody> exportarProdutos(
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato
+    ) {
+        return anexo("produtos", formato, saida -> exportarDadosUseCase.exportarProdutos(formato, saida));
+    }
+
+    @GetMapping("/pedidos")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Exportar pedidos com itens (ADMIN)",
+            description = "NDJSON: um pedido com itens por linha. CSV: uma linha por item."
+    )
+    public ResponseEntity<StreamingResponseBody> exportarPedidos(
+            @RequestParam(required = false) StatusPedido status,
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato
+    ) {
+        return anexo("pedidos", formato, saida -> exportarDadosUseCase.exportarPedidos(status, formato, saida));
+    }
+
+    @GetMapping("/estoque")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Exportar estoque (ADMIN)")
+    public ResponseEntity<StreamingResponseBody> exportarEstoque(
+            @RequestParam(defaultValue = "NDJSON") FormatoExportacao formato
+    ) {
+        return anexo("estoque", formato, saida -> exportarDadosUseCase.exportarEstoque(formato, saida));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> anexo(
+            String nome,
+            FormatoExportacao formato,
+            StreamingResponseBody corpo
+    ) {
+        return ResponseEntity.ok()
+                .contentType(formato.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(nome + "." + formato.getExtensao())
+                        .build()
+                        .toString())
+                .body(corpo);
+    }
+}
@@ -1,5 +1,6 @@
 package br.com.minhavenda.minhavenda.presentation.controller;
 
+import br.com.minhavenda.minhavenda.application.dto.PaginaCursor;
 import br.com.minhavenda.minhavenda.application.dto.pedido.CheckoutRequest;
 import br.com.minhavenda.minhavenda.application.dto.pedido.PedidoDTO;
 import br.com.minhavenda.minhavenda.application.dto.pedido.PedidoDetalhadoDTO;
@@ -26,6 +27,7 @@ import java.util.UUID;
  * Endpoints do Cliente:
  * - POST /checkout/finalizar - Finalizar checkout
  * - GET /meus-pedidos - Listar meus pedidos
+ * - GET /meus-pedidos/cursor - Listar meus pedidos por cursor
  * - GET /pedidos/{id} - Buscar pedido específico
  * - POST /pedidos/{id}/pagar - Pagar pedido (simulação)
  * - POST /pedidos/{id}/cancelar - Cancelar pedido
@@ -136,6 +138,42 @@ public class PedidoController {
         return ResponseEntity.ok(pedidos);
     }
 
+    /**
+     * Lista os pedidos do usuário logado por cursor (keyset).
+     * Ordenados por data (mais recente primeiro).
+     *
+     * GET /api/meus-pedidos/cursor?size=20
+     * GET /api/meus-pedidos/cursor?size=20&after={proximoCursor}
+     *
+     * Response (200):
+     * {
+     *   "conteudo": [ { "id": "uuid-1", "status": "PAGO", ... } ],
+     *   "proximoCursor": "ZGF0YUNyaWFjYW98REVTQ3...",
+     *   "temProximo": true
+     * }
+     *
+     * @param userDetails usuário logado
+     * @param after cursor da fatia anterior
+     * @param size quantidade de pedidos na fatia
+     * @param total se deve incluir o total de pedidos
+     * @return fatia de pedidos
+     */
+    @GetMapping("/meus-pedidos/cursor")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(
+            summary = "Listar meus pedidos por cursor",
+            description = "Retorna os pedidos do usuário logado em fatias, usando o cursor 'after'"
+    )
+    public ResponseEntity<PaginaCursor<PedidoDTO>> listarMeusPedidosPorCursor(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean total
+    ) {
+        String email = userDetails.getUsername();
+        return ResponseEntity.ok(pedidoService.listarMeusPedidosPorCursor(email, after, size, total));
+    }
+
     /**
      * Busca pedido específico do usuário.
      * Inclui lista de itens.
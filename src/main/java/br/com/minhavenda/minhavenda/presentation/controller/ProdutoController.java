@@ -1,14 +1,21 @@
 package br.com.minhavenda.minhavenda.presentation.controller;
 
+import br.com.minhavenda.minhavenda.application.dto.PaginaCursor;
 import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
 import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.application.dto.produto.SugestaoDTO;
 import br.com.minhavenda.minhavenda.application.usecase.produto.BuscarProdutoPorIdUseCase;
 import br.com.minhavenda.minhavenda.application.usecase.produto.CriarProdutoUseCase;
 import br.com.minhavenda.minhavenda.application.usecase.produto.ListarProdutosUseCase;
+import br.com.minhavenda.minhavenda.application.usecase.produto.SugerirProdutosUseCase;
+import br.com.minhavenda.minhavenda.infrastructure.busca.MotorBusca;
+import br.com.minhavenda.minhavenda.infrastructure.cache.VersaoCatalogo;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CampoOrdenacaoProduto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +27,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -30,6 +39,13 @@ import java.util.UUID;
  *
  * Formato de ordenação: sort=campo:direção
  * Exemplos: sort=preco:asc, sort=preco:desc, sort=nome:asc
+ * Nas buscas por termo também: sort=relevancia:desc
+ *
+ * GET /produtos, /produtos/paginado e /produtos/{id} respondem com ETag e
+ * Last-Modified da {@link VersaoCatalogo}; com If-None-Match atual, 304.
+ *
+ * GET /produtos e /produtos/todos não são paginados, mas têm teto de itens
+ * e são escritos em streaming ({@link RespostaLimitada}).
  */
 @RestController
 @RequestMapping("/produtos")
@@ -41,12 +57,23 @@ public class ProdutoController {
     private final ListarProdutosUseCase listarProdutosUseCase;
     private final BuscarProdutoPorIdUseCase buscarProdutoPorIdUseCase;
     private final CriarProdutoUseCase criarProdutoUseCase;
+    private final SugerirProdutosUseCase sugerirProdutosUseCase;
+    private final VersaoCatalogo versaoCatalogo;
+    private final RespostaLimitada respostaLimitada;
 
     @GetMapping
-    @Operation(summary = "Listar produtos ativos")
-    public ResponseEntity<List<ProdutoDTO>> listarProdutos() {
-        log.info("GET /produtos");
-        return ResponseEntity.ok(listarProdutosUseCase.executar());
+    @Operation(
+            summary = "Listar produtos ativos",
+            description = "Até 'limite' produtos por nome (teto do servidor: catalogo.listagem.maximo-itens). " +
+                    "X-Lista-Truncada: true indica que há mais; use /produtos/paginado ou /produtos/cursor."
+    )
+    public ResponseEntity<StreamingResponseBody> listarProdutos(
+            @RequestParam(required = false) @Min(1) Integer limite,
+            WebRequest request
+    ) {
+        log.info("GET /produtos - limite={}", limite);
+        return RespostaCondicional.responderCom(versaoCatalogo, request,
+                () -> listarProdutosUseCase.listarAtivos(limite), respostaLimitada::responder);
     }
 
     @GetMapping("/paginado")
@@ -58,36 +85,103 @@ public class ProdutoController {
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) int size,
             @Parameter(description = "Ordenação: campo:direção (ex: preco:asc)")
-            @RequestParam(defaultValue = "nome:asc") String sort
+            @RequestParam(defaultValue = "nome:asc") String sort,
+            WebRequest request
     ) {
         log.info("GET /produtos/paginado - page={}, size={}, sort={}", page, size, sort);
         Pageable pageable = createPageable(page, size, sort);
-        return ResponseEntity.ok(listarProdutosUseCase.executar(pageable));
+        return RespostaCondicional.responder(versaoCatalogo, request,
+                () -> listarProdutosUseCase.executar(pageable));
+    }
+
+    /**
+     * Lista produtos ativos por cursor (keyset pagination).
+     *
+     * EXEMPLOS:
+     *
+     * 1. Primeira fatia ordenada por preço:
+     *    GET /produtos/cursor?size=20&sort=preco:asc
+     *
+     * 2. Próxima fatia (cursor retornado em proximoCursor):
+     *    GET /produtos/cursor?size=20&sort=preco:asc&after=bm9tZXxBU0N8...
+     *
+     * 3. Com total de elementos (executa COUNT):
+     *    GET /produtos/cursor?sort=nome:asc&total=true
+     *
+     * NOTA: o cursor só vale para a mesma ordenação em que foi gerado.
+     */
+    @GetMapping("/cursor")
+    @Operation(
+            summary = "Listar produtos por cursor",
+            description = "Ordenação: nome, preco, dataCadastro ou estoque (ex: preco:desc). " +
+                    "Envie proximoCursor em 'after' para a próxima fatia."
+    )
+    public ResponseEntity<PaginaCursor<ProdutoDTO>> listarProdutosPorCursor(
+            @Parameter(description = "Cursor opaco retornado na fatia anterior")
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @Parameter(description = "Ordenação: campo:direção (ex: preco:asc)")
+            @RequestParam(defaultValue = "nome:asc") String sort,
+            @Parameter(description = "Incluir total de elementos (executa COUNT)")
+            @RequestParam(defaultValue = "false") boolean total
+    ) {
+        log.info("GET /produtos/cursor - size={}, sort={}, after={}", size, sort, after != null);
+
+        String[] parts = sort.split(":");
+        CampoOrdenacaoProduto campo = CampoOrdenacaoProduto.doParametro(parts[0].trim());
+        Sort.Direction direcao = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim())
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+
+        return ResponseEntity.ok(listarProdutosUseCase.listarPorCursor(campo, direcao, after, size, total));
+    }
+
+    /**
+     * Autocomplete de nomes de produtos e categorias.
+     *
+     * EXEMPLO:
+     *    GET /produtos/sugestoes?prefixo=note&limite=5
+     *
+     * Casa o início do nome ou de qualquer palavra do nome ("dell" sugere
+     * "Notebook Dell Inspiron"), ignorando acentos e maiúsculas. Limite
+     * acima de catalogo.sugestoes.maximo (o top-k guardado na trie) é
+     * reduzido a ele.
+     */
+    @GetMapping("/sugestoes")
+    @Operation(
+            summary = "Sugestões de autocomplete",
+            description = "Nomes de produtos e categorias que começam com o prefixo, dos mais vendidos para os menos"
+    )
+    public ResponseEntity<List<SugestaoDTO>> sugerir(
+            @RequestParam String prefixo,
+            @RequestParam(defaultValue = "10") @Min(1) int limite
+    ) {
+        return ResponseEntity.ok(sugerirProdutosUseCase.executar(prefixo, limite));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Buscar produto por ID")
-    public ResponseEntity<ProdutoDTO> buscarPorId(@PathVariable UUID id) {
+    public ResponseEntity<ProdutoDTO> buscarPorId(@PathVariable UUID id, WebRequest request) {
         log.info("GET /produtos/{}", id);
-        return buscarProdutoPorIdUseCase.executar(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+        return RespostaCondicional.responder(versaoCatalogo, request,
+                () -> buscarProdutoPorIdUseCase.existe(id),
+                () -> buscarProdutoPorIdUseCase.executar(id).orElse(null));
     }
 
     @GetMapping("/busca")
     @Operation(
             summary = "Buscar produtos por termo",
-            description = "Ordenação: sort=preco:asc ou sort=preco:desc "
+            description = "Ordenação: sort=relevancia:desc (padrão), sort=preco:asc ou sort=preco:desc "
     )
     public ResponseEntity<Page<ProdutoDTO>> buscarPorTermo(
             @RequestParam String q,
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) int size,
             @Parameter(description = "Ordenação: campo:direção")
-            @RequestParam(defaultValue = "nome:asc") String sort
+            @RequestParam(defaultValue = "relevancia:desc") String sort
     ) {
         log.info("GET /produtos/busca?q={}&sort={}", q, sort);
-        Pageable pageable = createPageable(page, size, sort);
+        Pageable pageable = createPageable(page, size, sort, true);
         return ResponseEntity.ok(listarProdutosUseCase.buscarPorTermo(q, pageable));
     }
 
@@ -114,6 +208,12 @@ public class ProdutoController {
      * 6. Busca completa:
      *    GET /produtos/buscar?termo=notebook&categoriaId=1&precoMin=2000&precoMax=4000&sort=preco:desc
      *
+     * 7. Buscar notebooks por relevância (com termo):
+     *    GET /produtos/buscar?termo=notebook&sort=relevancia:desc
+     *
+     * 8. Com facetas (contagem por categoria, faixas de preço e estoque):
+     *    GET /produtos/buscar?termo=notebook&facetas=true
+     *
      * NOTA: URL encoded: sort=preco%3Adesc (onde %3A = :)
      */
     @GetMapping("/buscar")
@@ -144,11 +244,15 @@ public class ProdutoController {
             @RequestParam(defaultValue = "nome:asc") String sort,
 
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) int size
+            @RequestParam(defaultValue = "20") @Min(1) int size,
+
+            @Parameter(description = "Incluir facetas (categorias, faixas de preço e estoque)")
+            @RequestParam(defaultValue = "false") boolean facetas
     ) {
         log.info("GET /produtos/buscar - termo={}, categoriaId={}, sort={}", termo, categoriaId, sort);
 
-        Pageable pageable = createPageable(page, size, sort);
+        boolean comTermo = termo != null && !termo.trim().isEmpty();
+        Pageable pageable = createPageable(page, size, sort, comTermo);
 
         FiltroProdutoRequest filtro = FiltroProdutoRequest.builder()
                 .termo(termo)
@@ -158,7 +262,7 @@ public class ProdutoController {
                 .ativo(ativo)
                 .build();
 
-        Page<ProdutoDTO> produtos = listarProdutosUseCase.buscarComFiltros(filtro, pageable);
+        Page<ProdutoDTO> produtos = listarProdutosUseCase.buscarComFiltros(filtro, pageable, facetas);
         log.info("Encontrados {} produtos", produtos.getTotalElements());
 
         return ResponseEntity.ok(produtos);
@@ -166,9 +270,14 @@ public class ProdutoController {
 
     @GetMapping("/todos")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Listar todos produtos (ADMIN)")
-    public ResponseEntity<List<ProdutoDTO>> listarTodos() {
-        return ResponseEntity.ok(listarProdutosUseCase.listarTodos());
+    @Operation(
+            summary = "Listar todos produtos (ADMIN)",
+            description = "Até 'limite' produtos, ativos e inativos. Catálogo inteiro: /admin/exportacao/produtos."
+    )
+    public ResponseEntity<StreamingResponseBody> listarTodos(
+            @RequestParam(required = false) @Min(1) Integer limite
+    ) {
+        return respostaLimitada.responder(listarProdutosUseCase.listarTodos(limite));
     }
 
     @GetMapping("/todos/paginado")
@@ -233,11 +342,22 @@ public class ProdutoController {
      * @return Pageable configurado
      */
     private Pageable createPageable(int page, int size, String sortParam) {
+        return createPageable(page, size, sortParam, false);
+    }
+
+    /**
+     * Cria Pageable do formato 'campo:direção'.
+     *
+     * @param permitirRelevancia aceita sort=relevancia (apenas buscas por termo)
+     */
+    private Pageable createPageable(int page, int size, String sortParam, boolean permitirRelevancia) {
         String[] parts = sortParam.split(":");
         String field = parts.length > 0 ? parts[0].trim() : "nome";
         String direction = parts.length > 1 ? parts[1].trim() : "asc";
 
-        String validatedField = validateSortField(field);
+        String validatedField = permitirRelevancia && MotorBusca.ORDENACAO_RELEVANCIA.equals(field)
+                ? field
+                : validateSortField(field);
 
         // Mapear "preco" para "preco.valor" (Money Value Object)
         if ("preco".equals(validatedField)) {
@@ -0,0 +1,104 @@
+package br.com.minhavenda.minhavenda.presentation.controller;
+
+import br.com.minhavenda.minhavenda.infrastructure.cache.VersaoCatalogo;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * GET condicional dos endpoints de leitura do catálogo.
+ *
+ * Compara If-None-Match / If-Modified-Since com a {@link VersaoCatalogo}
+ * antes de carregar o corpo: se o cliente já tem a versão atual, 304 sem
+ * nenhuma consulta do corpo. Recursos por ID passam antes por uma
+ * verificação barata de existência, para que um recurso removido responda
+ * 404 e não 304. Caso contrário, carrega o corpo e responde 200 com ETag
+ * e Last-Modified (ou 404, se ele não existir).
+ *
+ * Cache-Control: no-cache (o navegador guarda, mas revalida sempre), no
+ * lugar do no-store padrão do Spring Security, que impediria o cliente de
+ * reenviar o ETag.
+ */
+final class RespostaCondicional {
+
+    private RespostaCondicional() {
+    }
+
+    /**
+     * Coleções: sempre existem, o 304 não consulta nada.
+     *
+     * @param corpo carrega o corpo
+     */
+    static <T> ResponseEntity<T> responder(VersaoCatalogo versaoCatalogo, WebRequest request, Supplier<T> corpo) {
+        return responderCom(versaoCatalogo, request, () -> true, corpo, ResponseEntity.BodyBuilder::body);
+    }
+
+    /**
+     * Recurso por ID.
+     *
+     * @param existe verificação barata de existência (cache ou existsById),
+     *               feita só quando o request traz pré-condição
+     * @param corpo carrega o recurso; null responde 404
+     */
+    static <T> ResponseEntity<T> responder(
+            VersaoCatalogo versaoCatalogo,
+            WebRequest request,
+            BooleanSupplier existe,
+            Supplier<T> corpo
+    ) {
+        return responderCom(versaoCatalogo, request, existe, corpo, ResponseEntity.BodyBuilder::body);
+    }
+
+    /**
+     * @param corpo carrega a coleção
+     * @param resposta monta a resposta 200 a partir do builder já com
+     *                 Cache-Control (para quem precisa de headers extras)
+     */
+    static <T, R> ResponseEntity<R> responderCom(
+            VersaoCatalogo versaoCatalogo,
+            WebRequest request,
+            Supplier<T> corpo,
+            BiFunction<ResponseEntity.BodyBuilder, T, ResponseEntity<R>> resposta
+    ) {
+        return responderCom(versaoCatalogo, request, () -> true, corpo, resposta);
+    }
+
+    private static <T, R> ResponseEntity<R> responderCom(
+            VersaoCatalogo versaoCatalogo,
+            WebRequest request,
+            BooleanSupplier existe,
+            Supplier<T> corpo,
+            BiFunction<ResponseEntity.BodyBuilder, T, ResponseEntity<R>> resposta
+    ) {
+        // A versão é lida antes do corpo: se mudar durante a carga, o ETag
+        // enviado fica mais antigo que o corpo e a próxima requisição recebe 200
+        VersaoCatalogo.Versao versao = versaoCatalogo.atual();
+
+        if (temPrecondicao(request) && !existe.getAsBoolean()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        if (request.checkNotModified(versao.etag(), versao.ultimaAlteracao().toEpochMilli())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        T body = corpo.get();
+        if (body == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return resposta.apply(ResponseEntity.ok().cacheControl(CacheControl.noCache()), body);
+    }
+
+    private static boolean temPrecondicao(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+}
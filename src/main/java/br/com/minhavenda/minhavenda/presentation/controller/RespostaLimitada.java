@@ -0,0 +1,107 @@
+package br.com.minhavenda.minhavenda.presentation.controller;
+
+import br.com.minhavenda.minhavenda.application.dto.ListaLimitada;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Resposta das listagens sem paginação (GET /produtos, /produtos/todos,
+ * /categorias/todas).
+ *
+ * A lista já vem limitada em itens pelo use case e é escrita como um array
+ * JSON, item a item, direto no OutputStream da resposta (chunked), fora da
+ * thread do request e sem conexão de banco presa. O header
+ * {@value #HEADER_TRUNCADA} indica se havia mais itens que o limite.
+ *
+ * Guarda de tamanho: ao passar de catalogo.listagem.maximo-bytes, os itens
+ * restantes são descartados e o array é fechado (o JSON continua válido).
+ * Protege contra itens muito maiores que o esperado; com os limites padrão
+ * não deve disparar.
+ */
+@Slf4j
+@Component
+class RespostaLimitada {
+
+    static final String HEADER_TRUNCADA = "X-Lista-Truncada";
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+    private final long maximoBytes;
+
+    RespostaLimitada(
+            ObjectMapper objectMapper,
+            @Value("${catalogo.listagem.maximo-bytes:4MB}") DataSize maximoBytes
+    ) {
+        this.objectMapper = objectMapper;
+        // Sem flush por item: o generator esvazia o buffer quando enche
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.maximoBytes = maximoBytes.toBytes();
+    }
+
+    /**
+     * @param ok builder da resposta 200 (ex.: o de {@link RespostaCondicional})
+     */
+    ResponseEntity<StreamingResponseBody> responder(ResponseEntity.BodyBuilder ok, ListaLimitada<?> lista) {
+        return ok.contentType(MediaType.APPLICATION_JSON)
+                .header(HEADER_TRUNCADA, String.valueOf(lista.truncada()))
+                .body(saida -> escrever(lista, saida));
+    }
+
+    ResponseEntity<StreamingResponseBody> responder(ListaLimitada<?> lista) {
+        return responder(ResponseEntity.ok(), lista);
+    }
+
+    void escrever(ListaLimitada<?> lista, OutputStream saida) throws IOException {
+        ContadorBytes contador = new ContadorBytes(saida);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(contador)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            int escritos = 0;
+            for (Object item : lista.itens()) {
+                if (contador.total + generator.getOutputBuffered() >= maximoBytes) {
+                    log.warn("Listagem cortada pela guarda de tamanho ({} bytes): {} de {} itens",
+                            maximoBytes, escritos, lista.itens().size());
+                    break;
+                }
+                writer.writeValue(generator, item);
+                escritos++;
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /** Conta os bytes já repassados ao OutputStream da resposta */
+    private static final class ContadorBytes extends FilterOutputStream {
+
+        private long total;
+
+        ContadorBytes(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            total++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            total += len;
+        }
+    }
+}
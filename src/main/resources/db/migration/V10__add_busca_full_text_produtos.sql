@@ -0,0 +1,26 @@
+-- ========================================
+-- V10 - BUSCA FULL-TEXT DE PRODUTOS
+-- tsvector gerado (nome + descrição), dicionário português sem acentos
+-- e índice GIN. Usado com catalogo.busca.modo=fulltext.
+-- PostgreSQL
+-- ========================================
+
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- Português com remoção de acentos antes do stemming
+-- ("eletrônico", "eletronico" e "eletrônicos" viram o mesmo lexema)
+CREATE TEXT SEARCH CONFIGURATION portugues_unaccent (COPY = portuguese);
+ALTER TEXT SEARCH CONFIGURATION portugues_unaccent
+    ALTER MAPPING FOR hword, hword_part, word
+    WITH unaccent, portuguese_stem;
+
+-- Nome pesa mais que a descrição no ts_rank
+ALTER TABLE produtos ADD COLUMN busca_tsv TSVECTOR
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portugues_unaccent', COALESCE(nome, '')), 'A') ||
+        setweight(to_tsvector('portugues_unaccent', COALESCE(descricao, '')), 'B')
+    ) STORED;
+
+CREATE INDEX idx_produto_busca_tsv ON produtos USING GIN (busca_tsv);
+
+COMMENT ON COLUMN produtos.busca_tsv IS 'Vetor de busca full-text (nome peso A, descrição peso B), mantido pelo banco';
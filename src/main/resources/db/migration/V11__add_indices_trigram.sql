@@ -0,0 +1,20 @@
+-- ========================================
+-- V11 - ÍNDICES TRIGRAMA (pg_trgm)
+-- Aceleram LOWER(...) LIKE '%termo%' (busca padrão) e a busca
+-- tolerante a erros de digitação (catalogo.busca.modo=trigram).
+-- PostgreSQL
+-- ========================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- ========================================
+-- ÍNDICES: produtos
+-- Mesma expressão gerada pelas queries (LOWER(coluna))
+-- ========================================
+CREATE INDEX idx_produto_nome_trgm ON produtos USING GIN (LOWER(nome) gin_trgm_ops);
+CREATE INDEX idx_produto_descricao_trgm ON produtos USING GIN (LOWER(descricao) gin_trgm_ops);
+
+-- ========================================
+-- ÍNDICES: categorias
+-- ========================================
+CREATE INDEX idx_categoria_nome_trgm ON categorias USING GIN (LOWER(nome) gin_trgm_ops);
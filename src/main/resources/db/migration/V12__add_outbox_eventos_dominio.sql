@@ -0,0 +1,19 @@
+-- ========================================
+-- V12 - OUTBOX DE EVENTOS DE DOMÍNIO
+-- Eventos gravados na transação de negócio e publicados no RabbitMQ
+-- pelo relay (RelayEventos)
+-- PostgreSQL
+-- ========================================
+
+ALTER TABLE eventos_dominio ADD COLUMN publicado_em TIMESTAMP;
+ALTER TABLE eventos_dominio ADD COLUMN tentativas INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE eventos_dominio ADD COLUMN ultimo_erro VARCHAR(500);
+
+-- Eventos anteriores ao outbox não são reenviados
+UPDATE eventos_dominio SET publicado_em = data_publicacao;
+
+-- Fila de pendentes, na ordem em que o relay lê (FOR UPDATE SKIP LOCKED)
+CREATE INDEX idx_evento_pendente ON eventos_dominio(data_publicacao, id) WHERE publicado_em IS NULL;
+
+COMMENT ON COLUMN eventos_dominio.data_publicacao IS 'Momento em que o evento foi gravado (na transação de negócio)';
+COMMENT ON COLUMN eventos_dominio.publicado_em IS 'Momento da confirmação do broker (NULL = pendente)';
@@ -0,0 +1,18 @@
+-- ========================================
+-- V13 - FILA DE ENVIO DE NOTIFICAÇÕES
+-- Reserva (lease), novas tentativas com backoff e falha definitiva
+-- PostgreSQL
+-- ========================================
+
+ALTER TABLE notificacoes ADD COLUMN criado_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL;
+ALTER TABLE notificacoes ADD COLUMN proxima_tentativa_em TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL;
+ALTER TABLE notificacoes ADD COLUMN tentativas INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE notificacoes ADD COLUMN ultimo_erro VARCHAR(500);
+ALTER TABLE notificacoes ADD COLUMN falhou BOOLEAN DEFAULT FALSE NOT NULL;
+
+-- Pendentes na ordem em que o despachante lê (FOR UPDATE SKIP LOCKED)
+CREATE INDEX idx_notificacao_pendente ON notificacoes(proxima_tentativa_em, id)
+    WHERE enviado = FALSE AND falhou = FALSE;
+
+COMMENT ON COLUMN notificacoes.proxima_tentativa_em IS 'Quando a notificação pode ser (re)enviada; avança ao ser reservada por um worker';
+COMMENT ON COLUMN notificacoes.falhou IS 'Esgotou as tentativas e não será mais enviada';
@@ -0,0 +1,17 @@
+-- ========================================
+-- V14 - VERSÃO DO CATÁLOGO
+-- Versão compartilhada entre instâncias para ETag / Last-Modified
+-- dos GETs do catálogo (VersaoCatalogo)
+-- PostgreSQL
+-- ========================================
+
+CREATE TABLE catalogo_versao (
+    id SMALLINT PRIMARY KEY,
+    versao BIGINT NOT NULL,
+    atualizado_em TIMESTAMP NOT NULL
+);
+
+INSERT INTO catalogo_versao (id, versao, atualizado_em) VALUES (1, 0, CURRENT_TIMESTAMP AT TIME ZONE 'UTC');
+
+COMMENT ON COLUMN catalogo_versao.versao IS 'Incrementada após o commit de alterações em produtos, estoques ou categorias';
+COMMENT ON COLUMN catalogo_versao.atualizado_em IS 'Momento (UTC) do último incremento; vira o Last-Modified';
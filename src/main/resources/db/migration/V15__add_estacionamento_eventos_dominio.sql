@@ -0,0 +1,17 @@
+-- ========================================
+-- V15 - EVENTOS ESTACIONADOS NO OUTBOX
+-- Eventos que falham em eventos.relay.tentativas-maximas tentativas
+-- saem da fila do relay (RelayEventos) e ficam para análise
+-- PostgreSQL
+-- ========================================
+
+ALTER TABLE eventos_dominio ADD COLUMN estacionado_em TIMESTAMP;
+
+-- A fila de pendentes deixa de fora os estacionados
+DROP INDEX idx_evento_pendente;
+CREATE INDEX idx_evento_pendente ON eventos_dominio(data_publicacao, id)
+    WHERE publicado_em IS NULL AND estacionado_em IS NULL;
+
+CREATE INDEX idx_evento_estacionado ON eventos_dominio(estacionado_em) WHERE estacionado_em IS NOT NULL;
+
+COMMENT ON COLUMN eventos_dominio.estacionado_em IS 'Momento em que o relay desistiu do evento (NULL = na fila). Para reenviar: estacionado_em = NULL, tentativas = 0';
@@ -0,0 +1,22 @@
+-- ========================================
+-- V16 - ALTERAÇÕES DO CATÁLOGO POR VERSÃO
+-- O que cada incremento de catalogo_versao alterou, para as outras
+-- instâncias invalidarem só as entradas afetadas (VersaoCatalogo)
+-- PostgreSQL
+-- ========================================
+
+CREATE TABLE catalogo_alteracoes (
+    id BIGSERIAL PRIMARY KEY,
+    versao BIGINT NOT NULL,
+    produto_id UUID,
+    categoria_id BIGINT,
+    categoria_alterada BOOLEAN NOT NULL DEFAULT FALSE,
+    registrado_em TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_catalogo_alteracoes_versao ON catalogo_alteracoes(versao);
+CREATE INDEX idx_catalogo_alteracoes_registro ON catalogo_alteracoes(registrado_em);
+
+COMMENT ON COLUMN catalogo_alteracoes.produto_id IS 'Produto alterado (dados ou estoque)';
+COMMENT ON COLUMN catalogo_alteracoes.categoria_id IS 'Categoria afetada: a de um produto alterado, ou a própria categoria alterada';
+COMMENT ON COLUMN catalogo_alteracoes.categoria_alterada IS 'A categoria em si mudou (nome, ativação): produtos carregam o nome dela';
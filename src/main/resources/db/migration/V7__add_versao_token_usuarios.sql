@@ -0,0 +1,8 @@
+-- ========================================
+-- V7 - VERSÃO DO TOKEN DOS USUÁRIOS
+-- Usada para revogar tokens JWT stateless
+-- ========================================
+
+ALTER TABLE usuarios ADD COLUMN versao_token BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN usuarios.versao_token IS 'Versão atual dos tokens JWT do usuário (incrementada ao desativar, trocar senha ou tipo)';
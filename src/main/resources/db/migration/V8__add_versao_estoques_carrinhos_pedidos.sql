@@ -0,0 +1,12 @@
+-- ========================================
+-- V8 - CONTROLE DE CONCORRÊNCIA OTIMISTA
+-- Coluna de versão (@Version) em estoques, carrinhos e pedidos
+-- ========================================
+
+ALTER TABLE estoques ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE carrinhos ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE pedidos ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN estoques.versao IS 'Versão para optimistic locking (incrementada a cada atualização)';
+COMMENT ON COLUMN carrinhos.versao IS 'Versão para optimistic locking (incrementada a cada atualização)';
+COMMENT ON COLUMN pedidos.versao IS 'Versão para optimistic locking (incrementada a cada atualização)';
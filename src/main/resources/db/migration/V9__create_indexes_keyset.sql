@@ -0,0 +1,22 @@
+-- ========================================
+-- V9 - ÍNDICES PARA PAGINAÇÃO POR CURSOR (KEYSET)
+-- Coluna de ordenação + id (desempate), na mesma ordem do ORDER BY
+-- PostgreSQL
+-- ========================================
+
+-- ========================================
+-- ÍNDICES: produtos (apenas ativos, usados pelo catálogo)
+-- ========================================
+CREATE INDEX idx_produto_ativo_nome_id ON produtos(nome, id) WHERE ativo = TRUE;
+CREATE INDEX idx_produto_ativo_preco_id ON produtos(preco, id) WHERE ativo = TRUE;
+CREATE INDEX idx_produto_ativo_data_cadastro_id ON produtos(data_cadastro, id) WHERE ativo = TRUE;
+
+-- ========================================
+-- ÍNDICES: estoques (ordenação do catálogo por estoque)
+-- ========================================
+CREATE INDEX idx_estoque_quantidade_produto ON estoques(quantidade, produto_id);
+
+-- ========================================
+-- ÍNDICES: pedidos (histórico do cliente)
+-- ========================================
+CREATE INDEX idx_pedido_usuario_data_id ON pedidos(usuario_id, data_criacao DESC, id DESC);
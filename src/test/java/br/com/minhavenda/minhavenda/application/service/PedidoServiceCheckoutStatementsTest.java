@@ -0,0 +1,188 @@
+package br.com.minhavenda.minhavenda.application.service;
+
+import br.com.minhavenda.minhavenda.application.dto.pedido.CheckoutRequest;
+import br.com.minhavenda.minhavenda.application.mapper.PedidoMapper;
+import br.com.minhavenda.minhavenda.domain.entity.Carrinho;
+import br.com.minhavenda.minhavenda.domain.entity.ItemCarrinho;
+import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.domain.entity.Usuario;
+import br.com.minhavenda.minhavenda.domain.enums.StatusCarrinho;
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import br.com.minhavenda.minhavenda.infrastructure.eventos.OutboxEventos;
+import br.com.minhavenda.minhavenda.infrastructure.notificacao.FilaNotificacoes;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CarrinhoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioPrincipalCache;
+import br.com.minhavenda.minhavenda.infrastructure.tarefas.TarefasAposCommit;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Garante que o checkout não faz N+1: a quantidade de statements não
+ * depende do tamanho do carrinho (Hibernate Statistics).
+ *
+ * Os INSERTs de itens_pedido vão em batch (hibernate.jdbc.batch_size)
+ * e as reservas de estoque em um batch JDBC fora do Hibernate.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+        PedidoService.class, PedidoMapper.class, OutboxEventos.class, FilaNotificacoes.class,
+        TarefasAposCommit.class, UsuarioPrincipalCache.class, SimpleMeterRegistry.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PedidoServiceCheckoutStatementsTest {
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CarrinhoRepository carrinhoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TarefasAposCommit tarefasAposCommit;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void checkoutNaoCarregaAssociacoesSobDemanda() {
+        String email = prepararCarrinho(20);
+
+        statistics.clear();
+        pedidoService.finalizarCheckout(email, checkoutRequest());
+
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    @Test
+    void statementsDoCheckoutNaoCrescemComOTamanhoDoCarrinho() {
+        long statementsUmItem = statementsDoCheckout(1);
+        long statementsVinteItens = statementsDoCheckout(20);
+
+        assertThat(statementsVinteItens).isEqualTo(statementsUmItem);
+    }
+
+    @Test
+    void metricasDoCheckoutSoRodamDepoisDoCommit() throws Exception {
+        double antes = meterRegistry.counter("pedidos.criados").count();
+
+        pedidoService.finalizarCheckout(prepararCarrinho(2), checkoutRequest());
+        assertThat(tarefasAposCommit.aguardar(Duration.ofSeconds(5))).isTrue();
+        assertThat(meterRegistry.counter("pedidos.criados").count()).isEqualTo(antes + 1);
+
+        // Checkout completo (tarefa já registrada na transação), mas a transação
+        // externa falha antes do commit: tudo é desfeito e a tarefa não roda
+        String email = prepararCarrinho(1);
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            pedidoService.finalizarCheckout(email, checkoutRequest());
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).isNotEmpty();
+            throw new IllegalStateException("falha depois do checkout");
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("falha depois do checkout");
+        assertThat(tarefasAposCommit.aguardar(Duration.ofSeconds(5))).isTrue();
+        assertThat(meterRegistry.counter("pedidos.criados").count()).isEqualTo(antes + 1);
+        assertThat(usuarioRepository.findByEmail(email).flatMap(usuario ->
+                carrinhoRepository.findByUsuarioAndStatus(usuario, StatusCarrinho.ATIVO))).isPresent();
+    }
+
+    private long statementsDoCheckout(int itens) {
+        String email = prepararCarrinho(itens);
+
+        statistics.clear();
+        pedidoService.finalizarCheckout(email, checkoutRequest());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private String prepararCarrinho(int itens) {
+        String email = "cliente-" + UUID.randomUUID() + "@minhavenda.com.br";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Usuario usuario = usuarioRepository.save(Usuario.builder()
+                    .nome("Cliente")
+                    .email(email)
+                    .senha("hash")
+                    .tipo(TipoUsuario.CLIENTE)
+                    .build());
+
+            Carrinho carrinho = Carrinho.builder()
+                    .usuario(usuario)
+                    .status(StatusCarrinho.ATIVO)
+                    .build();
+
+            for (int i = 0; i < itens; i++) {
+                Produto produto = Produto.builder()
+                        .nome("Produto " + i)
+                        .preco(Money.of(new BigDecimal("10.00")))
+                        .build();
+                produto.adicionarEstoque(100);
+                produtoRepository.save(produto);
+
+                carrinho.adicionarItem(ItemCarrinho.builder()
+                        .produto(produto)
+                        .quantidade(1)
+                        .precoUnitario(new BigDecimal("10.00"))
+                        .build());
+            }
+
+            carrinhoRepository.save(carrinho);
+        });
+
+        return email;
+    }
+
+    private CheckoutRequest checkoutRequest() {
+        return CheckoutRequest.builder()
+                .enderecoEntrega("Rua das Flores, 123")
+                .build();
+    }
+}
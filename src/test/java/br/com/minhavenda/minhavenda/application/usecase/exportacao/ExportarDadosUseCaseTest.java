@@ -0,0 +1,178 @@
+package br.com.minhavenda.minhavenda.application.usecase.exportacao;
+
+import br.com.minhavenda.minhavenda.application.dto.pedido.CheckoutRequest;
+import br.com.minhavenda.minhavenda.application.mapper.PedidoMapper;
+import br.com.minhavenda.minhavenda.application.service.PedidoService;
+import br.com.minhavenda.minhavenda.domain.entity.Carrinho;
+import br.com.minhavenda.minhavenda.domain.entity.ItemCarrinho;
+import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.domain.entity.Usuario;
+import br.com.minhavenda.minhavenda.domain.enums.StatusCarrinho;
+import br.com.minhavenda.minhavenda.domain.enums.StatusPedido;
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import br.com.minhavenda.minhavenda.infrastructure.eventos.OutboxEventos;
+import br.com.minhavenda.minhavenda.infrastructure.exportacao.FormatoExportacao;
+import br.com.minhavenda.minhavenda.infrastructure.notificacao.FilaNotificacoes;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CarrinhoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoConsultaRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioPrincipalCache;
+import br.com.minhavenda.minhavenda.infrastructure.tarefas.TarefasAposCommit;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exportações em streaming: formato das linhas e nenhuma carga sob demanda
+ * (pedidos e itens vêm de uma única query).
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({
+        ExportarDadosUseCase.class, ProdutoConsultaRepository.class, PedidoService.class, PedidoMapper.class,
+        OutboxEventos.class, FilaNotificacoes.class, TarefasAposCommit.class, UsuarioPrincipalCache.class,
+        SimpleMeterRegistry.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ExportarDadosUseCaseTest {
+
+    @Autowired
+    private ExportarDadosUseCase exportarDadosUseCase;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CarrinhoRepository carrinhoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void pedidosEmNdjsonTemUmPedidoComItensPorLinha() throws Exception {
+        pedidoService.finalizarCheckout(prepararCarrinho("Mouse", "Teclado"), checkout());
+        pedidoService.finalizarCheckout(prepararCarrinho("Monitor"), checkout());
+
+        statistics.clear();
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        long total = exportarDadosUseCase.exportarPedidos(StatusPedido.CRIADO, FormatoExportacao.NDJSON, saida);
+
+        List<String> linhas = saida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(total).isEqualTo(linhas.size());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+
+        JsonNode ultimo = objectMapper.readTree(linhas.get(linhas.size() - 2));
+        assertThat(ultimo.get("itens")).hasSize(2);
+        assertThat(ultimo.get("quantidadeItens").asInt()).isEqualTo(2);
+        assertThat(objectMapper.readTree(linhas.get(linhas.size() - 1)).get("itens")).hasSize(1);
+    }
+
+    @Test
+    void produtosEmCsvEscapamCamposETemCabecalho() throws Exception {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                produtoRepository.save(Produto.builder()
+                        .nome("Cabo \"USB-C\", 2m")
+                        .preco(Money.of(new BigDecimal("19.90")))
+                        .build()));
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        exportarDadosUseCase.exportarProdutos(FormatoExportacao.CSV, saida);
+
+        List<String> linhas = saida.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(linhas.get(0)).startsWith("id,nome,descricao,preco,");
+        assertThat(linhas).anySatisfy(linha -> assertThat(linha).contains(",\"Cabo \"\"USB-C\"\", 2m\",,19.90,"));
+    }
+
+    private String prepararCarrinho(String... produtos) {
+        String email = "cliente-" + UUID.randomUUID() + "@minhavenda.com.br";
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Usuario usuario = usuarioRepository.save(Usuario.builder()
+                    .nome("Cliente")
+                    .email(email)
+                    .senha("hash")
+                    .tipo(TipoUsuario.CLIENTE)
+                    .build());
+
+            Carrinho carrinho = Carrinho.builder()
+                    .usuario(usuario)
+                    .status(StatusCarrinho.ATIVO)
+                    .build();
+
+            for (String nome : produtos) {
+                Produto produto = Produto.builder()
+                        .nome(nome)
+                        .preco(Money.of(new BigDecimal("10.00")))
+                        .build();
+                produto.adicionarEstoque(100);
+                produtoRepository.save(produto);
+
+                carrinho.adicionarItem(ItemCarrinho.builder()
+                        .produto(produto)
+                        .quantidade(1)
+                        .precoUnitario(new BigDecimal("10.00"))
+                        .build());
+            }
+
+            carrinhoRepository.save(carrinho);
+        });
+
+        return email;
+    }
+
+    private CheckoutRequest checkout() {
+        return CheckoutRequest.builder()
+                .enderecoEntrega("Rua Teste, 123, Centro, São Paulo")
+                .build();
+    }
+}
@@ -0,0 +1,314 @@
+package br.com.minhavenda.minhavenda.application.usecase.produto;
+
+import br.com.minhavenda.minhavenda.application.dto.ListaLimitada;
+import br.com.minhavenda.minhavenda.application.dto.PaginaCursor;
+import br.com.minhavenda.minhavenda.application.dto.PaginaFacetada;
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.domain.entity.Categoria;
+import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import br.com.minhavenda.minhavenda.infrastructure.busca.ContadorFacetas;
+import br.com.minhavenda.minhavenda.infrastructure.busca.MotorBuscaIndiceInvertido;
+import br.com.minhavenda.minhavenda.infrastructure.busca.MotorBuscaLike;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheCatalogo;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheConsultasProduto;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CacheCompartilhadoDesligado;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CampoOrdenacaoProduto;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CategoriaRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.EstoqueRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoConsultaRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Regressão de N+1 nas listagens de produtos: cada página deve custar
+ * exatamente uma query de conteúdo (com categoria e estoque) e uma de
+ * contagem, independente do tamanho da página. As listagens são
+ * projeções em DTO, então nenhuma entidade deve ser carregada.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "catalogo.listagem.maximo-itens=25",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({
+        ListarProdutosUseCase.class, ProdutoConsultaRepository.class, MotorBuscaLike.class, ContadorFacetas.class,
+        CacheCatalogo.class, CacheConsultasProduto.class, CacheCompartilhadoDesligado.class, SimpleMeterRegistry.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ListarProdutosUseCaseQueryCountTest {
+
+    private static final int PRODUTOS = 30;
+    private static final int MAXIMO_ITENS = 25;
+    private static final Pageable PAGINA = PageRequest.of(0, 20, Sort.by("nome"));
+
+    @Autowired
+    private ListarProdutosUseCase listarProdutosUseCase;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+
+    @Autowired
+    private EstoqueRepository estoqueRepository;
+
+    @Autowired
+    private ProdutoConsultaRepository produtoConsultaRepository;
+
+    @Autowired
+    private ContadorFacetas contadorFacetas;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private Statistics statistics;
+    private Long categoriaId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        categoriaId = new TransactionTemplate(transactionManager).execute(status -> {
+            estoqueRepository.deleteAllInBatch();
+            produtoRepository.deleteAllInBatch();
+            categoriaRepository.deleteAllInBatch();
+
+            Categoria categoria = categoriaRepository.save(Categoria.builder()
+                    .nome("Eletrônicos")
+                    .build());
+
+            for (int i = 0; i < PRODUTOS; i++) {
+                Produto produto = Produto.builder()
+                        .nome("Notebook " + i)
+                        .descricao("Notebook para testes")
+                        .preco(Money.of(new BigDecimal("100.00").add(BigDecimal.valueOf(i))))
+                        .categoria(categoria)
+                        .build();
+                produto.adicionarEstoque(10);
+                produtoRepository.save(produto);
+            }
+            return categoria.getId();
+        });
+
+        // Os dados foram recriados fora dos use cases: invalida os caches
+        // do contexto, que é compartilhado entre testes
+        eventPublisher.publishEvent(new CategoriaAlteradaEvent(categoriaId));
+    }
+
+    @Test
+    void listagemPaginadaFazUmaQueryDeConteudoEUmaDeContagem() {
+        assertDuasQueries(() -> listarProdutosUseCase.executar(PAGINA));
+    }
+
+    @Test
+    void buscaPorTermoFazUmaQueryDeConteudoEUmaDeContagem() {
+        assertDuasQueries(() -> listarProdutosUseCase.buscarPorTermo("notebook", PAGINA));
+        // No motor LIKE, relevância cai para ordenação por nome
+        assertDuasQueries(() -> listarProdutosUseCase.buscarPorTermo("notebook",
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "relevancia"))));
+    }
+
+    @Test
+    void buscaComFiltrosFazUmaQueryDeConteudoEUmaDeContagem() {
+        FiltroProdutoRequest filtro = FiltroProdutoRequest.builder()
+                .categoriaId(categoriaId)
+                .precoMin(new BigDecimal("100.00"))
+                .precoMax(new BigDecimal("1000.00"))
+                .ativo(true)
+                .build();
+
+        assertDuasQueries(() -> listarProdutosUseCase.buscarComFiltros(filtro, PAGINA));
+    }
+
+    @Test
+    void listagemAdminFazUmaQueryDeConteudoEUmaDeContagem() {
+        assertDuasQueries(() -> listarProdutosUseCase.listarTodos(PAGINA));
+    }
+
+    @Test
+    void projecaoRespeitaOrdenacaoPorPrecoECategoria() {
+        Pageable porPreco = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "preco.valor"));
+        Pageable porCategoria = PageRequest.of(0, 5, Sort.by("categoria.nome"));
+
+        Page<ProdutoDTO> maisCaros = listarProdutosUseCase.executar(porPreco);
+
+        assertThat(maisCaros.getContent().get(0).getPreco().getValor()).isEqualByComparingTo("129.00");
+        assertThat(maisCaros.getTotalElements()).isEqualTo(PRODUTOS);
+        assertThat(listarProdutosUseCase.executar(porCategoria).getContent()).hasSize(5);
+    }
+
+    @Test
+    void listagemPorCursorPercorreTodosOsProdutosComUmaQueryPorFatia() {
+        List<ProdutoDTO> percorridos = new ArrayList<>();
+        String cursor = null;
+        int fatias = 0;
+
+        do {
+            statistics.clear();
+            PaginaCursor<ProdutoDTO> fatia = listarProdutosUseCase.listarPorCursor(
+                    CampoOrdenacaoProduto.PRECO, Sort.Direction.DESC, cursor, 7, false);
+
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(fatia.totalElementos()).isNull();
+
+            percorridos.addAll(fatia.conteudo());
+            cursor = fatia.proximoCursor();
+            fatias++;
+        } while (cursor != null);
+
+        assertThat(fatias).isEqualTo(5);
+        assertThat(percorridos).extracting(ProdutoDTO::getId).doesNotHaveDuplicates().hasSize(PRODUTOS);
+        assertThat(percorridos.get(0).getPreco().getValor()).isEqualByComparingTo("129.00");
+        assertThat(percorridos.get(PRODUTOS - 1).getPreco().getValor()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void listagemPorCursorSoContaQuandoSolicitado() {
+        PaginaCursor<ProdutoDTO> fatia = listarProdutosUseCase.listarPorCursor(
+                CampoOrdenacaoProduto.NOME, Sort.Direction.ASC, null, 10, true);
+
+        assertThat(fatia.totalElementos()).isEqualTo(PRODUTOS);
+        assertThat(fatia.temProximo()).isTrue();
+    }
+
+    @Test
+    void listagemLimitadaVemDoCacheAteAlteracaoDeEstoque() {
+        statistics.clear();
+        ListaLimitada<ProdutoDTO> primeira = listarProdutosUseCase.listarAtivos(null);
+        ListaLimitada<ProdutoDTO> segunda = listarProdutosUseCase.listarAtivos(5);
+
+        assertThat(primeira.itens()).hasSize(MAXIMO_ITENS);
+        assertThat(primeira.truncada()).isTrue();
+        assertThat(segunda.itens()).hasSize(5).isEqualTo(primeira.itens().subList(0, 5));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // Sem transação ativa, o listener roda na hora (fallbackExecution)
+        eventPublisher.publishEvent(new EstoqueAlteradoEvent(List.of(primeira.itens().get(0).getId()), Set.of(categoriaId)));
+
+        assertThat(listarProdutosUseCase.listarAtivos(PRODUTOS + 1).itens()).hasSize(MAXIMO_ITENS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void buscaRepetidaVemDoCacheDeConsultasAteAlteracaoNaCategoria() {
+        FiltroProdutoRequest filtro = FiltroProdutoRequest.builder()
+                .categoriaId(categoriaId)
+                .ativo(true)
+                .build();
+
+        Page<ProdutoDTO> primeira = listarProdutosUseCase.buscarComFiltros(filtro, PAGINA);
+
+        // IDs do cache de consultas; produtos hidratados em uma query e depois do cache
+        statistics.clear();
+        Page<ProdutoDTO> segunda = listarProdutosUseCase.buscarComFiltros(filtro, PAGINA);
+        listarProdutosUseCase.buscarComFiltros(filtro, PAGINA);
+
+        assertThat(segunda.getContent()).extracting(ProdutoDTO::getId)
+                .containsExactlyElementsOf(primeira.getContent().stream().map(ProdutoDTO::getId).toList());
+        assertThat(segunda.getTotalElements()).isEqualTo(PRODUTOS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        eventPublisher.publishEvent(new EstoqueAlteradoEvent(
+                List.of(primeira.getContent().get(0).getId()), Set.of(categoriaId)));
+
+        assertDuasQueries(() -> listarProdutosUseCase.buscarComFiltros(filtro, PAGINA));
+    }
+
+    @Test
+    void buscaComFacetasContaCategoriasFaixasDePrecoEEstoque() {
+        FiltroProdutoRequest filtro = FiltroProdutoRequest.builder()
+                .termo("notebook")
+                .precoMax(new BigDecimal("109.00"))
+                .ativo(true)
+                .build();
+
+        Page<ProdutoDTO> pagina = listarProdutosUseCase.buscarComFiltros(filtro, PAGINA, true);
+
+        assertThat(pagina).isInstanceOf(PaginaFacetada.class);
+        FacetasProdutoDTO facetas = ((PaginaFacetada<ProdutoDTO>) pagina).getFacetas();
+        assertThat(facetas.categorias())
+                .containsExactly(new FacetasProdutoDTO.CategoriaFaceta(categoriaId, "Eletrônicos", 10));
+        assertThat(facetas.faixasPreco())
+                .filteredOn(faixa -> faixa.quantidade() > 0)
+                .containsExactly(new FacetasProdutoDTO.FaixaPrecoFaceta(
+                        new BigDecimal("100"), new BigDecimal("250"), 10));
+        assertThat(facetas.emEstoque()).isEqualTo(10);
+        assertThat(facetas.semEstoque()).isZero();
+        assertThat(pagina.getTotalElements()).isEqualTo(10);
+    }
+
+    @Test
+    void facetasDoIndiceContamOsMesmosProdutosDaBusca() {
+        MotorBuscaIndiceInvertido motor = new MotorBuscaIndiceInvertido(
+                produtoConsultaRepository, contadorFacetas, new SimpleMeterRegistry());
+        motor.reconstruir();
+        // Índice casa tokens de nome e categoria por prefixo ("Notebook 1" e
+        // "Notebook 10".."Notebook 19"); um LIKE no nome não encontraria nada
+        FiltroProdutoRequest filtro = FiltroProdutoRequest.builder()
+                .termo("eletronicos 1")
+                .ativo(true)
+                .build();
+
+        Page<ProdutoDTO> pagina = motor.buscar(filtro, PAGINA);
+        FacetasProdutoDTO facetas = motor.contarFacetas(filtro, PAGINA.getSort());
+
+        assertThat(pagina.getTotalElements()).isEqualTo(11);
+        assertThat(facetas.categorias())
+                .containsExactly(new FacetasProdutoDTO.CategoriaFaceta(categoriaId, "Eletrônicos", 11));
+        assertThat(facetas.emEstoque()).isEqualTo(11);
+    }
+
+    private void assertDuasQueries(Supplier<Page<ProdutoDTO>> listagem) {
+        statistics.clear();
+
+        Page<ProdutoDTO> pagina = listagem.get();
+
+        assertThat(pagina.getContent()).hasSize(20);
+        assertThat(pagina.getContent()).allSatisfy(produto -> {
+            assertThat(produto.getCategoriaNome()).isEqualTo("Eletrônicos");
+            assertThat(produto.getQuantidadeEstoque()).isEqualTo(10);
+            assertThat(produto.getPreco().getValor()).isGreaterThanOrEqualTo(new BigDecimal("100.00"));
+        });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
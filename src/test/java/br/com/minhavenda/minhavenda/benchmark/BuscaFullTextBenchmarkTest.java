@@ -0,0 +1,176 @@
+package br.com.minhavenda.minhavenda.benchmark;
+
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.infrastructure.busca.ContadorFacetas;
+import br.com.minhavenda.minhavenda.infrastructure.busca.MotorBuscaFullText;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Latência p50/p99 da busca por termo em um catálogo gerado de 1M de
+ * produtos: LOWER(...) LIKE '%termo%' (varredura sequencial) contra
+ * tsvector + GIN + ts_rank ({@link MotorBuscaFullText}).
+ *
+ * Precisa de um Postgres real (com a extensão unaccent disponível). O
+ * catálogo é gerado em um schema próprio (benchmark_busca), removido ao
+ * final, então pode apontar para o banco de desenvolvimento.
+ *
+ * Fora da execução padrão (tag "benchmark"). Executar:
+ * BENCHMARK_DATASOURCE_URL=jdbc:postgresql://localhost:5432/minhavenda \
+ * BENCHMARK_DATASOURCE_USERNAME=... BENCHMARK_DATASOURCE_PASSWORD=... \
+ * mvn test -Dtest=BuscaFullTextBenchmarkTest -Dsurefire.excludedGroups= \
+ *   [-Dbenchmark.busca.produtos=1000000]
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DATASOURCE_URL", matches = ".+")
+class BuscaFullTextBenchmarkTest {
+
+    private static final String SCHEMA = "benchmark_busca";
+    private static final int AQUECIMENTO = 5;
+    private static final int MEDICOES = 30;
+    private static final Pageable PAGINA = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "relevancia"));
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private MotorBuscaFullText motorFullText;
+
+    @BeforeAll
+    void gerarCatalogo() {
+        dataSource = new SingleConnectionDataSource(
+                System.getenv("BENCHMARK_DATASOURCE_URL"),
+                System.getenv("BENCHMARK_DATASOURCE_USERNAME"),
+                System.getenv("BENCHMARK_DATASOURCE_PASSWORD"),
+                true
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        NamedParameterJdbcTemplate namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        motorFullText = new MotorBuscaFullText(namedParameterJdbcTemplate,
+                new ContadorFacetas(namedParameterJdbcTemplate, new BigDecimal[0]));
+
+        int produtos = Integer.getInteger("benchmark.busca.produtos", 1_000_000);
+        long inicio = System.nanoTime();
+
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS unaccent");
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA + ", public");
+
+        // Mesma estrutura das migrations V1 e V10, apenas com as colunas usadas na busca
+        jdbcTemplate.execute("""
+                CREATE TEXT SEARCH CONFIGURATION portugues_unaccent (COPY = portuguese);
+                ALTER TEXT SEARCH CONFIGURATION portugues_unaccent
+                    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, portuguese_stem;
+                CREATE TABLE categorias (id BIGINT PRIMARY KEY, nome VARCHAR(100) NOT NULL);
+                CREATE TABLE produtos (
+                    id UUID PRIMARY KEY,
+                    nome VARCHAR(150) NOT NULL,
+                    descricao TEXT,
+                    preco DECIMAL(10,2) NOT NULL,
+                    moeda VARCHAR(3) NOT NULL,
+                    categoria_id BIGINT,
+                    ativo BOOLEAN NOT NULL,
+                    data_cadastro TIMESTAMP NOT NULL,
+                    busca_tsv TSVECTOR GENERATED ALWAYS AS (
+                        setweight(to_tsvector('portugues_unaccent', COALESCE(nome, '')), 'A') ||
+                        setweight(to_tsvector('portugues_unaccent', COALESCE(descricao, '')), 'B')
+                    ) STORED
+                );
+                CREATE TABLE estoques (produto_id UUID PRIMARY KEY, quantidade INTEGER NOT NULL);
+                """);
+
+        jdbcTemplate.update("""
+                INSERT INTO produtos (id, nome, descricao, preco, moeda, categoria_id, ativo, data_cadastro)
+                SELECT gen_random_uuid(),
+                       (ARRAY['Notebook','Mouse','Teclado','Monitor','Cadeira','Fone','Câmera','Impressora','Roteador','Tablet'])[1 + i % 10]
+                           || ' ' || (ARRAY['Gamer','Sem Fio','Profissional','Ergonômico','Compacto','Ultra','Básico','Premium'])[1 + (i / 10) % 8]
+                           || ' ' || i,
+                       'Produto ' || i || ' com '
+                           || (ARRAY['bateria de longa duração','tela antirreflexo','conexão bluetooth','garantia estendida','acabamento em alumínio'])[1 + i % 5],
+                       10 + i % 5000, 'BRL', NULL, TRUE, now()
+                FROM generate_series(1, ?) AS i
+                """, produtos);
+        jdbcTemplate.execute("CREATE INDEX idx_produto_busca_tsv ON produtos USING GIN (busca_tsv)");
+        jdbcTemplate.execute("ANALYZE produtos");
+
+        log.info("Catálogo de {} produtos gerado em {}s", produtos, (System.nanoTime() - inicio) / 1_000_000_000);
+    }
+
+    @AfterAll
+    void removerCatalogo() {
+        if (jdbcTemplate != null) {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            dataSource.destroy();
+        }
+    }
+
+    @ParameterizedTest(name = "termo \"{0}\"")
+    @ValueSource(strings = {"ergonomico", "bluetooth", "notebook gamer", "impressora 4242"})
+    void latenciaDaBusca(String termo) {
+        FiltroProdutoRequest filtro = FiltroProdutoRequest.builder()
+                .termo(termo)
+                .ativo(true)
+                .build();
+
+        long[] like = medir(() -> buscarComLike(termo));
+        long[] fullText = medir(() -> motorFullText.buscar(filtro, PAGINA).getTotalElements());
+
+        log.info("Busca \"{}\": LIKE p50={}ms p99={}ms | full-text p50={}ms p99={}ms",
+                termo,
+                percentil(like, 50) / 1_000_000, percentil(like, 99) / 1_000_000,
+                percentil(fullText, 50) / 1_000_000, percentil(fullText, 99) / 1_000_000);
+    }
+
+    /**
+     * Equivalente em SQL ao que ProdutoSpecification.comFiltros gera (página + contagem).
+     */
+    private long buscarComLike(String termo) {
+        String like = "%" + termo.toLowerCase() + "%";
+        jdbcTemplate.queryForList("""
+                SELECT p.id, p.nome FROM produtos p
+                WHERE p.ativo = TRUE AND (LOWER(p.nome) LIKE ? OR LOWER(p.descricao) LIKE ?)
+                ORDER BY p.nome LIMIT 20
+                """, like, like);
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM produtos p
+                WHERE p.ativo = TRUE AND (LOWER(p.nome) LIKE ? OR LOWER(p.descricao) LIKE ?)
+                """, Long.class, like, like);
+    }
+
+    private static long[] medir(Supplier<Long> busca) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            busca.get();
+        }
+
+        long[] latenciasNanos = new long[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            busca.get();
+            latenciasNanos[i] = System.nanoTime() - inicio;
+        }
+        Arrays.sort(latenciasNanos);
+        return latenciasNanos;
+    }
+
+    private static long percentil(long[] ordenado, int percentil) {
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenado.length) - 1;
+        return ordenado[Math.max(0, Math.min(indice, ordenado.length - 1))];
+    }
+}
@@ -0,0 +1,287 @@
+package br.com.minhavenda.minhavenda.benchmark;
+
+import br.com.minhavenda.minhavenda.MinhavendaApplication;
+import br.com.minhavenda.minhavenda.domain.entity.Carrinho;
+import br.com.minhavenda.minhavenda.domain.entity.ItemCarrinho;
+import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.domain.entity.Usuario;
+import br.com.minhavenda.minhavenda.domain.enums.StatusCarrinho;
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CarrinhoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import br.com.minhavenda.minhavenda.infrastructure.security.JwtService;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioAutenticado;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Carga HTTP: vazão e p50/p99 do catálogo e do checkout com requests em
+ * threads de plataforma (pool padrão do Tomcat) e em threads virtuais
+ * (spring.threads.virtual.enabled=true). O resumo traz o número de
+ * threads do Tomcat ao lado de cada resultado.
+ *
+ * Sobe a aplicação inteira em porta aleatória contra um Postgres real
+ * (Testcontainers, um banco por modo, com o schema das migrations Flyway)
+ * e o pool do Hikari do application.properties, e dispara CONCORRENCIA
+ * clientes simultâneos (java.net.http.HttpClient). O modo virtual é
+ * pulado fora do Java 21; o teste inteiro, quando não há Docker.
+ *
+ * Fora da execução padrão (tag "benchmark"). Executar:
+ * mvn -Pjava21 test -Dtest=CargaHttpBenchmarkTest -Dsurefire.excludedGroups=
+ */
+@Slf4j
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class CargaHttpBenchmarkTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int CONCORRENCIA = 200;
+    private static final int PRODUTOS = 200;
+    private static final int AQUECIMENTO = 2_000;
+    private static final int REQUESTS_CATALOGO = 20_000;
+    private static final int AQUECIMENTO_CHECKOUT = 200;
+    private static final int CHECKOUTS = 2_000;
+
+    private static final List<String> resumo = new CopyOnWriteArrayList<>();
+
+    @AfterAll
+    static void imprimirResumo() {
+        resumo.forEach(log::info);
+    }
+
+    @ParameterizedTest(name = "threads virtuais = {0}")
+    @ValueSource(booleans = {false, true})
+    void cargaCatalogoECheckout(boolean threadsVirtuais) throws Exception {
+        assumeTrue(!threadsVirtuais || Runtime.version().feature() >= 21, "Threads virtuais exigem Java 21+");
+        String modo = threadsVirtuais ? "virtual" : "plataforma";
+
+        try (ConfigurableApplicationContext contexto = iniciar(criarBanco("carga_" + modo), threadsVirtuais)) {
+            if (!threadsVirtuais) {
+                modo += " (" + contexto.getBean(ServerProperties.class).getTomcat().getThreads().getMax()
+                        + " threads Tomcat)";
+            }
+            String base = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/api";
+            List<UUID> produtos = criarProdutos(contexto);
+            List<String> tokens = criarCarrinhos(contexto, produtos, AQUECIMENTO_CHECKOUT + CHECKOUTS);
+
+            ExecutorService clientes = Executors.newFixedThreadPool(CONCORRENCIA);
+            try {
+                HttpClient http = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(Duration.ofSeconds(10))
+                        .build();
+
+                IntFunction<HttpRequest> catalogo = i -> (i % 2 == 0
+                        ? HttpRequest.newBuilder(URI.create(base + "/produtos/paginado?page=" + (i % 10) + "&size=20"))
+                        : HttpRequest.newBuilder(URI.create(base + "/produtos/" + produtos.get(i % produtos.size()))))
+                        .GET()
+                        .build();
+                IntFunction<HttpRequest> checkout = i -> HttpRequest
+                        .newBuilder(URI.create(base + "/checkout/finalizar"))
+                        .header("Authorization", "Bearer " + tokens.get(i))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"enderecoEntrega\":\"Rua das Flores, 123\"}"))
+                        .build();
+
+                medir(http, clientes, AQUECIMENTO, catalogo);
+                resumo.add(modo + " catalogo: " + medir(http, clientes, REQUESTS_CATALOGO, catalogo));
+
+                medir(http, clientes, AQUECIMENTO_CHECKOUT, checkout);
+                resumo.add(modo + " checkout: "
+                        + medir(http, clientes, CHECKOUTS, i -> checkout.apply(AQUECIMENTO_CHECKOUT + i)));
+            } finally {
+                clientes.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Banco novo no container, para cada modo medir com a mesma massa de dados.
+     *
+     * @return URL JDBC do banco criado
+     */
+    private static String criarBanco(String nome) throws SQLException {
+        try (Connection conexao = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = conexao.createStatement()) {
+            statement.execute("CREATE DATABASE " + nome);
+        }
+        return String.format("jdbc:postgresql://%s:%d/%s",
+                postgres.getHost(), postgres.getMappedPort(PostgreSQLContainer.POSTGRESQL_PORT), nome);
+    }
+
+    private static ConfigurableApplicationContext iniciar(String url, boolean threadsVirtuais) {
+        byte[] segredo = new byte[32];
+        new SecureRandom().nextBytes(segredo);
+
+        // Argumentos de linha de comando: têm precedência sobre o application.properties
+        return new SpringApplicationBuilder(MinhavendaApplication.class).run(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + threadsVirtuais,
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--security.jwt.secret=" + Base64.getEncoder().encodeToString(segredo),
+                "--security.jwt.expiration=3600000",
+                "--eventos.publicador=memoria",
+                // Mede os modos de thread sem descarte de carga pelo limitador do banco
+                "--banco.limitador.habilitado=false",
+                "--cors.allowed-origins=http://localhost",
+                "--logging.level.root=WARN"
+        );
+    }
+
+    private static String medir(
+            HttpClient http,
+            ExecutorService clientes,
+            int total,
+            IntFunction<HttpRequest> requisicao
+    ) throws InterruptedException {
+        long[] latenciasNanos = new long[total];
+        AtomicInteger proxima = new AtomicInteger();
+        AtomicInteger erros = new AtomicInteger();
+
+        long inicio = System.nanoTime();
+        List<Future<?>> execucoes = new ArrayList<>();
+        for (int c = 0; c < CONCORRENCIA; c++) {
+            execucoes.add(clientes.submit(() -> {
+                for (int i = proxima.getAndIncrement(); i < total; i = proxima.getAndIncrement()) {
+                    long t0 = System.nanoTime();
+                    try {
+                        HttpResponse<Void> resposta =
+                                http.send(requisicao.apply(i), HttpResponse.BodyHandlers.discarding());
+                        if (resposta.statusCode() >= 400) {
+                            erros.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        erros.incrementAndGet();
+                    }
+                    latenciasNanos[i] = System.nanoTime() - t0;
+                }
+            }));
+        }
+        for (Future<?> execucao : execucoes) {
+            try {
+                execucao.get(5, TimeUnit.MINUTES);
+            } catch (Exception e) {
+                throw new IllegalStateException("Cliente de carga falhou", e);
+            }
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+
+        Arrays.sort(latenciasNanos);
+        return String.format("%d requests, %.0f req/s, p50=%.1fms p99=%.1fms, erros=%d",
+                total,
+                total / segundos,
+                percentil(latenciasNanos, 50) / 1e6,
+                percentil(latenciasNanos, 99) / 1e6,
+                erros.get());
+    }
+
+    private static List<UUID> criarProdutos(ConfigurableApplicationContext contexto) {
+        ProdutoRepository produtoRepository = contexto.getBean(ProdutoRepository.class);
+
+        return new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class)).execute(status -> {
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < PRODUTOS; i++) {
+                Produto produto = Produto.builder()
+                        .nome("Produto " + i)
+                        .preco(Money.of(new BigDecimal("10.00")))
+                        .build();
+                produto.adicionarEstoque(1_000_000);
+                ids.add(produtoRepository.save(produto).getId());
+            }
+            return ids;
+        });
+    }
+
+    /**
+     * Um usuário com carrinho ativo por checkout (o checkout consome o carrinho).
+     *
+     * @return token JWT de cada usuário
+     */
+    private static List<String> criarCarrinhos(
+            ConfigurableApplicationContext contexto,
+            List<UUID> produtos,
+            int quantidade
+    ) {
+        UsuarioRepository usuarioRepository = contexto.getBean(UsuarioRepository.class);
+        ProdutoRepository produtoRepository = contexto.getBean(ProdutoRepository.class);
+        CarrinhoRepository carrinhoRepository = contexto.getBean(CarrinhoRepository.class);
+        JwtService jwtService = contexto.getBean(JwtService.class);
+
+        return new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class)).execute(status -> {
+            List<String> tokens = new ArrayList<>();
+            for (int i = 0; i < quantidade; i++) {
+                Usuario usuario = usuarioRepository.save(Usuario.builder()
+                        .nome("Cliente " + i)
+                        .email("cliente-" + i + "@minhavenda.com.br")
+                        .senha("hash")
+                        .tipo(TipoUsuario.CLIENTE)
+                        .build());
+
+                Carrinho carrinho = Carrinho.builder()
+                        .usuario(usuario)
+                        .status(StatusCarrinho.ATIVO)
+                        .build();
+                for (int j = 0; j < 3; j++) {
+                    carrinho.adicionarItem(ItemCarrinho.builder()
+                            .produto(produtoRepository.getReferenceById(produtos.get((i + j) % produtos.size())))
+                            .quantidade(1)
+                            .precoUnitario(new BigDecimal("10.00"))
+                            .build());
+                }
+                carrinhoRepository.save(carrinho);
+
+                tokens.add(jwtService.generateToken(UsuarioAutenticado.de(usuario)));
+            }
+            return tokens;
+        });
+    }
+
+    private static long percentil(long[] ordenado, int percentil) {
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenado.length) - 1;
+        return ordenado[Math.max(0, Math.min(indice, ordenado.length - 1))];
+    }
+}
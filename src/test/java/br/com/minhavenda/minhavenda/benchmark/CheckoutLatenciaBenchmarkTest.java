@@ -0,0 +1,170 @@
+package br.com.minhavenda.minhavenda.benchmark;
+
+import br.com.minhavenda.minhavenda.application.dto.pedido.CheckoutRequest;
+import br.com.minhavenda.minhavenda.application.mapper.PedidoMapper;
+import br.com.minhavenda.minhavenda.application.service.PedidoService;
+import br.com.minhavenda.minhavenda.domain.entity.Carrinho;
+import br.com.minhavenda.minhavenda.domain.entity.ItemCarrinho;
+import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.domain.entity.Usuario;
+import br.com.minhavenda.minhavenda.domain.enums.StatusCarrinho;
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import br.com.minhavenda.minhavenda.infrastructure.eventos.OutboxEventos;
+import br.com.minhavenda.minhavenda.infrastructure.notificacao.FilaNotificacoes;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.CarrinhoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.ProdutoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import br.com.minhavenda.minhavenda.infrastructure.security.UsuarioPrincipalCache;
+import br.com.minhavenda.minhavenda.infrastructure.tarefas.TarefasAposCommit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Latência p50/p99 do checkout para carrinhos de 1, 10 e 100 linhas,
+ * usando H2 em memória como stand-in do Postgres.
+ *
+ * Fora da execução padrão (tag "benchmark"). Executar:
+ * mvn test -Dtest=CheckoutLatenciaBenchmarkTest -Dsurefire.excludedGroups=
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false"
+})
+@Import({
+        PedidoService.class, PedidoMapper.class, OutboxEventos.class, FilaNotificacoes.class,
+        TarefasAposCommit.class, UsuarioPrincipalCache.class, SimpleMeterRegistry.class
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CheckoutLatenciaBenchmarkTest {
+
+    private static final int AQUECIMENTO = 20;
+    private static final int MEDICOES = 200;
+    private static final int PRODUTOS = 100;
+
+    @Autowired
+    private PedidoService pedidoService;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private CarrinhoRepository carrinhoRepository;
+
+    @Autowired
+    private UsuarioPrincipalCache usuarioPrincipalCache;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private List<Produto> produtos;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        produtos = transactionTemplate.execute(status -> {
+            List<Produto> criados = new ArrayList<>();
+            for (int i = 0; i < PRODUTOS; i++) {
+                Produto produto = Produto.builder()
+                        .nome("Produto " + i)
+                        .preco(Money.of(new BigDecimal("10.00")))
+                        .build();
+                produto.adicionarEstoque(1_000_000);
+                criados.add(produtoRepository.save(produto));
+            }
+            return criados;
+        });
+    }
+
+    @ParameterizedTest(name = "carrinho com {0} linhas")
+    @ValueSource(ints = {1, 10, 100})
+    void latenciaDoCheckout(int linhas) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            medirCheckout(linhas);
+        }
+
+        long[] latenciasNanos = new long[MEDICOES];
+        for (int i = 0; i < MEDICOES; i++) {
+            latenciasNanos[i] = medirCheckout(linhas);
+        }
+        Arrays.sort(latenciasNanos);
+
+        log.info("Checkout {} linhas: p50={}us p99={}us",
+                linhas,
+                percentil(latenciasNanos, 50) / 1_000,
+                percentil(latenciasNanos, 99) / 1_000);
+    }
+
+    private long medirCheckout(int linhas) {
+        String email = prepararCarrinho(linhas);
+        CheckoutRequest request = CheckoutRequest.builder()
+                .enderecoEntrega("Rua das Flores, 123")
+                .build();
+
+        long inicio = System.nanoTime();
+        pedidoService.finalizarCheckout(email, request);
+        return System.nanoTime() - inicio;
+    }
+
+    private String prepararCarrinho(int linhas) {
+        String email = "cliente-" + UUID.randomUUID() + "@minhavenda.com.br";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Usuario usuario = usuarioRepository.save(Usuario.builder()
+                    .nome("Cliente")
+                    .email(email)
+                    .senha("hash")
+                    .tipo(TipoUsuario.CLIENTE)
+                    .build());
+
+            Carrinho carrinho = Carrinho.builder()
+                    .usuario(usuario)
+                    .status(StatusCarrinho.ATIVO)
+                    .build();
+
+            for (Produto produto : produtos.subList(0, linhas)) {
+                carrinho.adicionarItem(ItemCarrinho.builder()
+                        .produto(produto)
+                        .quantidade(1)
+                        .precoUnitario(new BigDecimal("10.00"))
+                        .build());
+            }
+
+            carrinhoRepository.save(carrinho);
+        });
+
+        // Carrega o cache de principal, que não faz parte do custo medido
+        usuarioPrincipalCache.buscar(email);
+        return email;
+    }
+
+    private static long percentil(long[] ordenado, int percentil) {
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenado.length) - 1;
+        return ordenado[Math.max(0, Math.min(indice, ordenado.length - 1))];
+    }
+}
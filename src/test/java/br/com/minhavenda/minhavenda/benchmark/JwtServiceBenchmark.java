@@ -0,0 +1,107 @@
+package br.com.minhavenda.minhavenda.benchmark;
+
+import br.com.minhavenda.minhavenda.infrastructure.security.JwtService;
+import br.com.minhavenda.minhavenda.infrastructure.security.TokenVerificado;
+import br.com.minhavenda.minhavenda.infrastructure.security.VersaoTokenStoreEmMemoria;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de autenticar um request com JWT.
+ *
+ * Compara:
+ * - legado: fluxo antigo (chave recriada + 3 parses/HMAC por request)
+ * - semCache: chave/parser únicos, 1 parse por request
+ * - comCache: token quente já verificado (sem parse nem HMAC)
+ *
+ * Executar:
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=br.com.minhavenda.minhavenda.benchmark.JwtServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET =
+            "dGVzdGUtYmVuY2htYXJrLWp3dC1taW5oYXZlbmRhLWNoYXZlLXNlY3JldGEtY29tLTY0LWJ5dGVzLW5vLW1pbmltbw==";
+
+    private JwtService servicoSemCache;
+    private JwtService servicoComCache;
+    private UserDetails usuario;
+    private String token;
+
+    @Setup
+    public void setup() {
+        servicoSemCache = criarServico(0);
+        servicoComCache = criarServico(10_000);
+        usuario = User.withUsername("cliente@minhavenda.com.br")
+                .password("x")
+                .authorities(List.of())
+                .build();
+        token = servicoSemCache.generateToken(usuario);
+    }
+
+    @Benchmark
+    public boolean legado() {
+        String email = parseLegado().getSubject();
+        boolean mesmoUsuario = parseLegado().getSubject().equals(email);
+        return mesmoUsuario && !parseLegado().getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean semCache() {
+        TokenVerificado verificado = servicoSemCache.verificar(token);
+        return servicoSemCache.isTokenValid(verificado, usuario);
+    }
+
+    @Benchmark
+    public boolean comCache() {
+        TokenVerificado verificado = servicoComCache.verificar(token);
+        return servicoComCache.isTokenValid(verificado, usuario);
+    }
+
+    private Claims parseLegado() {
+        SecretKey chave = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser()
+                .verifyWith(chave)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static JwtService criarServico(long tamanhoCache) {
+        JwtService servico = new JwtService(new SimpleMeterRegistry(), new VersaoTokenStoreEmMemoria());
+        ReflectionTestUtils.setField(servico, "secretKey", SECRET);
+        ReflectionTestUtils.setField(servico, "jwtExpiration", Duration.ofHours(1).toMillis());
+        ReflectionTestUtils.setField(servico, "cacheTtl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(servico, "cacheTamanhoMaximo", tamanhoCache);
+        ReflectionTestUtils.invokeMethod(servico, "inicializar");
+        return servico;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtServiceBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,94 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndiceInvertidoProdutosTest {
+
+    private static final Sort RELEVANCIA = Sort.by(Sort.Direction.DESC, MotorBusca.ORDENACAO_RELEVANCIA);
+
+    private IndiceInvertidoProdutos indice;
+    private ProdutoDTO notebook;
+    private ProdutoDTO mouse;
+    private ProdutoDTO camera;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceInvertidoProdutos();
+        notebook = produto("Notebook Dell Inspiron", "Tela de 15 polegadas", "3500.00", 1L, "Eletrônicos");
+        mouse = produto("Mouse Logitech", "Mouse sem fio para notebook", "150.00", 1L, "Eletrônicos");
+        camera = produto("Câmera Canon", "Câmera digital", "2800.00", 2L, "Fotografia");
+        indice.indexar(notebook);
+        indice.indexar(mouse);
+        indice.indexar(camera);
+    }
+
+    @Test
+    void buscaPorPrefixoIgnorandoAcentosEOrdenaPorRelevancia() {
+        assertThat(indice.buscar(filtro("note"), RELEVANCIA))
+                .containsExactly(notebook.getId(), mouse.getId());
+
+        assertThat(indice.buscar(filtro("CAMERA"), RELEVANCIA))
+                .containsExactly(camera.getId());
+
+        assertThat(indice.buscar(filtro("eletronicos mouse"), RELEVANCIA))
+                .containsExactly(mouse.getId());
+    }
+
+    @Test
+    void aplicaFiltrosDeCategoriaEPreco() {
+        FiltroProdutoRequest filtro = filtro("eletronicos");
+        filtro.setPrecoMax(new BigDecimal("1000.00"));
+        assertThat(indice.buscar(filtro, Sort.by("nome"))).containsExactly(mouse.getId());
+
+        filtro = filtro("camera");
+        filtro.setCategoriaId(1L);
+        assertThat(indice.buscar(filtro, RELEVANCIA)).isEmpty();
+    }
+
+    @Test
+    void atualizacaoIncrementalSubstituiTokensERemoveInativos() {
+        notebook.setNome("Ultrabook Dell");
+        notebook.setDescricao(null);
+        indice.indexar(notebook);
+
+        assertThat(indice.buscar(filtro("inspiron"), RELEVANCIA)).isEmpty();
+        assertThat(indice.buscar(filtro("ultra"), RELEVANCIA)).containsExactly(notebook.getId());
+
+        mouse.setAtivo(false);
+        indice.indexar(mouse);
+
+        assertThat(indice.buscar(filtro("logitech"), RELEVANCIA)).isEmpty();
+        assertThat(indice.tamanho()).isEqualTo(2);
+    }
+
+    private static FiltroProdutoRequest filtro(String termo) {
+        return FiltroProdutoRequest.builder()
+                .termo(termo)
+                .ativo(true)
+                .build();
+    }
+
+    private static ProdutoDTO produto(String nome, String descricao, String preco, Long categoriaId, String categoriaNome) {
+        return ProdutoDTO.builder()
+                .id(UUID.randomUUID())
+                .nome(nome)
+                .descricao(descricao)
+                .preco(Money.of(new BigDecimal(preco)))
+                .ativo(true)
+                .dataCadastro(Instant.now())
+                .categoriaId(categoriaId)
+                .categoriaNome(categoriaNome)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FacetasProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Motores de busca nativos do Postgres contra um Postgres real
+ * (Testcontainers), com o schema e os dados das migrations Flyway.
+ *
+ * Pulado automaticamente quando não há Docker disponível.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.database=POSTGRESQL",
+        "spring.jpa.hibernate.ddl-auto=none"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MotorBuscaPostgresIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Pageable PAGINA = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "relevancia"));
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private MotorBuscaTrigram motorTrigram;
+    private MotorBuscaFullText motorFullText;
+
+    @BeforeEach
+    void setUp() {
+        ContadorFacetas contadorFacetas = new ContadorFacetas(
+                namedParameterJdbcTemplate, new BigDecimal[]{new BigDecimal("100"), new BigDecimal("1000")});
+        motorTrigram = new MotorBuscaTrigram(namedParameterJdbcTemplate, contadorFacetas, 0.4);
+        motorFullText = new MotorBuscaFullText(namedParameterJdbcTemplate, contadorFacetas);
+    }
+
+    @Test
+    void trigramToleraErroDeDigitacao() {
+        Page<ProdutoDTO> resultado = motorTrigram.buscar(filtro("notbook"), PAGINA);
+
+        assertThat(resultado.getContent()).isNotEmpty();
+        assertThat(resultado.getContent().get(0).getNome()).isEqualTo("Notebook Dell Inspiron 15");
+        assertThat(resultado.getContent().get(0).getCategoriaNome()).isNotNull();
+    }
+
+    @Test
+    void facetasDoTrigramContamOsMesmosResultados() {
+        Page<ProdutoDTO> resultado = motorTrigram.buscar(filtro("notbook"), PAGINA);
+        FacetasProdutoDTO facetas = motorTrigram.contarFacetas(filtro("notbook"), PAGINA.getSort());
+
+        assertThat(resultado.getTotalElements()).isPositive();
+        assertThat(facetas.categorias())
+                .extracting(FacetasProdutoDTO.CategoriaFaceta::quantidade)
+                .containsOnly(resultado.getTotalElements());
+        assertThat(facetas.emEstoque() + facetas.semEstoque()).isEqualTo(resultado.getTotalElements());
+    }
+
+    @Test
+    void trigramContinuaEncontrandoSubstring() {
+        Page<ProdutoDTO> resultado = motorTrigram.buscar(filtro("camiseta"), PAGINA);
+
+        assertThat(resultado.getContent()).extracting(ProdutoDTO::getNome)
+                .contains("Camiseta Básica Preta");
+    }
+
+    @Test
+    void fullTextIgnoraAcentos() {
+        Page<ProdutoDTO> resultado = motorFullText.buscar(filtro("camera"), PAGINA);
+
+        assertThat(resultado.getContent()).extracting(ProdutoDTO::getNome)
+                .contains("Smartphone Samsung Galaxy S23");
+    }
+
+    @Test
+    void likeDaBuscaPadraoUsaIndiceTrigrama() {
+        // Catálogo de teste é pequeno: força o planner a considerar os índices
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+
+        List<String> plano = jdbcTemplate.queryForList(
+                "EXPLAIN SELECT id FROM produtos WHERE LOWER(nome) LIKE '%notebook%'", String.class);
+
+        assertThat(String.join("\n", plano)).contains("idx_produto_nome_trgm");
+    }
+
+    private FiltroProdutoRequest filtro(String termo) {
+        return FiltroProdutoRequest.builder()
+                .termo(termo)
+                .ativo(true)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.minhavenda.minhavenda.infrastructure.busca;
+
+import br.com.minhavenda.minhavenda.application.dto.produto.SugestaoDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrieSugestoesTest {
+
+    private final TrieSugestoes trie = TrieSugestoes.construir(List.of(
+            entrada(SugestaoDTO.produto(UUID.randomUUID(), "Notebook Dell Inspiron"), 40),
+            entrada(SugestaoDTO.produto(UUID.randomUUID(), "Notebook Lenovo IdeaPad"), 75),
+            entrada(SugestaoDTO.produto(UUID.randomUUID(), "Mouse Dell sem fio"), 10),
+            entrada(SugestaoDTO.produto(UUID.randomUUID(), "Câmera Canon"), 5),
+            entrada(SugestaoDTO.categoria(1L, "Eletrônicos"), 125)
+    ), 10);
+
+    @Test
+    void ordenaPorVendasEIgnoraAcentos() {
+        assertThat(trie.sugerir("note", 10)).extracting(SugestaoDTO::texto)
+                .containsExactly("Notebook Lenovo IdeaPad", "Notebook Dell Inspiron");
+
+        assertThat(trie.sugerir("ELETRON", 10)).extracting(SugestaoDTO::tipo)
+                .containsExactly(SugestaoDTO.Tipo.CATEGORIA);
+
+        assertThat(trie.sugerir("camera c", 10)).extracting(SugestaoDTO::texto)
+                .containsExactly("Câmera Canon");
+    }
+
+    @Test
+    void casaInicioDeQualquerPalavraERespeitaLimite() {
+        assertThat(trie.sugerir("dell", 10)).extracting(SugestaoDTO::texto)
+                .containsExactly("Notebook Dell Inspiron", "Mouse Dell sem fio");
+
+        assertThat(trie.sugerir("notebook", 1)).extracting(SugestaoDTO::texto)
+                .containsExactly("Notebook Lenovo IdeaPad");
+
+        assertThat(trie.sugerir("notebox", 10)).isEmpty();
+        assertThat(trie.sugerir("  ", 10)).isEmpty();
+    }
+
+    private static TrieSugestoes.Entrada entrada(SugestaoDTO sugestao, long vendas) {
+        return new TrieSugestoes.Entrada(sugestao, vendas);
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import br.com.minhavenda.minhavenda.application.dto.ProdutoDTO;
+import br.com.minhavenda.minhavenda.application.dto.produto.FiltroProdutoRequest;
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheConsultasProdutoTest {
+
+    private static final Pageable PAGINA = PageRequest.of(0, 20);
+    private static final UUID PRODUTO = UUID.randomUUID();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheConsultasProduto cache = new CacheConsultasProduto(meterRegistry, Duration.ofMinutes(1), 100);
+    private final AtomicInteger consultas = new AtomicInteger();
+
+    @Test
+    void consultasConcorrentesDaMesmaChaveVaoAoBancoUmaVez() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        FiltroProdutoRequest filtro = FiltroProdutoRequest.builder().termo("notebook").ativo(true).build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Page<ProdutoDTO>>> paginas = IntStream.range(0, 8)
+                    .mapToObj(i -> executor.submit(() -> buscar(filtro, () -> {
+                        aguardar(liberar);
+                        return consultar();
+                    })))
+                    .toList();
+
+            // Só libera a consulta depois que as outras 7 estão esperando por ela
+            long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (meterRegistry.counter("cache.coalescidas", "cache", "catalogo.consultas").count() < 7
+                    && System.nanoTime() < limite) {
+                Thread.sleep(10);
+            }
+            liberar.countDown();
+
+            for (Future<Page<ProdutoDTO>> pagina : paginas) {
+                assertThat(pagina.get(5, TimeUnit.SECONDS).getContent())
+                        .extracting(ProdutoDTO::getId)
+                        .containsExactly(PRODUTO);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(consultas).hasValue(1);
+    }
+
+    @Test
+    void alteracaoInvalidaApenasBuscasDaCategoriaEAsSemCategoria() {
+        FiltroProdutoRequest categoria7 = FiltroProdutoRequest.builder().categoriaId(7L)
+                .precoMin(new BigDecimal("100.00")).ativo(true).build();
+        FiltroProdutoRequest mesmoFiltroNormalizado = FiltroProdutoRequest.builder().categoriaId(7L)
+                .precoMin(new BigDecimal("100")).ativo(true).build();
+        FiltroProdutoRequest categoria8 = FiltroProdutoRequest.builder().categoriaId(8L).ativo(true).build();
+        FiltroProdutoRequest semCategoria = FiltroProdutoRequest.builder().termo("Notebook ").ativo(true).build();
+
+        buscar(categoria7, this::consultar);
+        buscar(mesmoFiltroNormalizado, this::consultar);
+        buscar(categoria8, this::consultar);
+        buscar(semCategoria, this::consultar);
+        assertThat(consultas).hasValue(3);
+
+        cache.aoAlterarEstoque(new EstoqueAlteradoEvent(List.of(PRODUTO), Set.of(7L)));
+
+        buscar(categoria7, this::consultar);
+        buscar(categoria8, this::consultar);
+        buscar(semCategoria, this::consultar);
+        assertThat(consultas).hasValue(5);
+    }
+
+    private Page<ProdutoDTO> buscar(FiltroProdutoRequest filtro, Supplier<Page<ProdutoDTO>> consultar) {
+        return cache.buscar(filtro, PAGINA, consultar,
+                ids -> ids.stream().map(id -> ProdutoDTO.builder().id(id).build()).toList());
+    }
+
+    private Page<ProdutoDTO> consultar() {
+        consultas.incrementAndGet();
+        return new PageImpl<>(List.of(ProdutoDTO.builder().id(PRODUTO).build()), PAGINA, 1);
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
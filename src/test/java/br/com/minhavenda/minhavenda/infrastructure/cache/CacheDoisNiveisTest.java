@@ -0,0 +1,53 @@
+package br.com.minhavenda.minhavenda.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Duas "instâncias" (caches locais) sobre o mesmo segundo nível.
+ */
+class CacheDoisNiveisTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CacheCompartilhado compartilhado = new CacheCompartilhadoEmMemoria(Duration.ofMinutes(1));
+    private final AtomicInteger cargas = new AtomicInteger();
+
+    private final CacheDoisNiveis<Long, String> instanciaA = novaInstancia();
+    private final CacheDoisNiveis<Long, String> instanciaB = novaInstancia();
+
+    @Test
+    void segundaInstanciaAproveitaONivelCompartilhado() {
+        assertThat(instanciaA.buscar(1L, this::carregar)).isEqualTo("valor-1");
+        assertThat(instanciaA.buscar(1L, this::carregar)).isEqualTo("valor-1");
+        assertThat(instanciaB.buscar(1L, this::carregar)).isEqualTo("valor-1");
+
+        assertThat(cargas).hasValue(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounters())
+                .anySatisfy(contador -> assertThat(contador.count()).isEqualTo(1));
+        assertThat(meterRegistry.get("cache.compartilhado.gets").tag("result", "hit").counters())
+                .anySatisfy(contador -> assertThat(contador.count()).isEqualTo(1));
+    }
+
+    @Test
+    void invalidacaoRemoveDosDoisNiveisENaoCacheiaAusentes() {
+        instanciaA.buscar(1L, this::carregar);
+        instanciaA.invalidar(1L);
+
+        assertThat(instanciaA.buscar(1L, this::carregar)).isEqualTo("valor-2");
+        assertThat(instanciaA.buscar(99L, chave -> null)).isNull();
+        assertThat(compartilhado.buscar("teste", 99L)).isNull();
+    }
+
+    private String carregar(Long chave) {
+        return "valor-" + cargas.incrementAndGet();
+    }
+
+    private CacheDoisNiveis<Long, String> novaInstancia() {
+        return new CacheDoisNiveis<>("teste", 100, Duration.ofMinutes(1), compartilhado, meterRegistry);
+    }
+}
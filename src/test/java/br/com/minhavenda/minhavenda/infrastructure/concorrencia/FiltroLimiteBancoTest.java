@@ -0,0 +1,191 @@
+package br.com.minhavenda.minhavenda.infrastructure.concorrencia;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FiltroLimiteBancoTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final LimitadorConcorrenciaBanco limitador = new LimitadorConcorrenciaBanco(meterRegistry,
+            10, 1, 20, Duration.ofMillis(250), 0.5, Duration.ofMillis(50), Duration.ofSeconds(2));
+    private final FiltroLimiteBanco filtro = new FiltroLimiteBanco(limitador, objectMapper,
+            new String[]{"/checkout/**", "/pedidos/*/pagar"},
+            new String[]{"/produtos/**", "/categorias/**"},
+            new String[]{"/actuator/**"});
+    private final DataSourceMedido dataSource = new DataSourceMedido(h2());
+
+    @Test
+    void catalogoRecebe503ComRetryAfterEnquantoCheckoutAindaPassa() throws Exception {
+        List<LimitadorConcorrenciaBanco.Permissao> ocupadas = ocupar(Prioridade.NORMAL, 7);
+
+        MockHttpServletResponse catalogo = executar("GET", "/produtos/paginado", 200);
+        assertThat(catalogo.getStatus()).isEqualTo(503);
+        assertThat(catalogo.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        JsonNode corpo = objectMapper.readTree(catalogo.getContentAsByteArray());
+        assertThat(corpo.get("status").asInt()).isEqualTo(503);
+
+        assertThat(executar("POST", "/checkout/finalizar", 201).getStatus()).isEqualTo(201);
+        assertThat(executar("GET", "/actuator/health", 200).getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.counter("banco.limitador.decisoes",
+                "prioridade", "baixa", "decisao", "rejeitada").count()).isEqualTo(1);
+
+        ocupadas.forEach(permissao -> permissao.liberar(false));
+        assertThat(limitador.emUso()).isZero();
+    }
+
+    @Test
+    void checkoutEsperaPorVagaAteOLimite() throws Exception {
+        List<LimitadorConcorrenciaBanco.Permissao> ocupadas = ocupar(Prioridade.CRITICA, 10);
+
+        assertThat(limitador.tentarAdquirir(Prioridade.CRITICA)).isEmpty();
+
+        CompletableFuture.runAsync(() -> ocupadas.remove(0).liberar(false),
+                CompletableFuture.delayedExecutor(10, TimeUnit.MILLISECONDS));
+        Optional<LimitadorConcorrenciaBanco.Permissao> admitida = limitador.tentarAdquirir(Prioridade.CRITICA);
+
+        assertThat(admitida).isPresent();
+        assertThat(meterRegistry.counter("banco.limitador.decisoes",
+                "prioridade", "critica", "decisao", "enfileirada").count()).isEqualTo(1);
+    }
+
+    @Test
+    void falhaComBancoReduzOLimite() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(new MockHttpServletRequest("POST", "/checkout/finalizar"), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                        consultar();
+                        resp.setStatus(500);
+                    }
+                }));
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(limitador.limite()).isEqualTo(5);
+        assertThat(limitador.emUso()).isZero();
+    }
+
+    @Test
+    void requestSemBancoNaoAlimentaOLimite() throws Exception {
+        // Resposta do cache, lenta por outro motivo: não é sinal de banco saturado
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(new MockHttpServletRequest("GET", "/produtos/paginado"), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                        esperar(300);
+                        resp.setStatus(200);
+                    }
+                }));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(limitador.limite()).isEqualTo(10);
+        assertThat(limitador.emUso()).isZero();
+    }
+
+    @Test
+    void respostaAssincronaLiberaAVagaAoConcluirSemMedirOStreaming() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/produtos/exportar");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Connection[] conexaoDoStreaming = new Connection[1];
+
+        filtro.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                try {
+                    conexaoDoStreaming[0] = dataSource.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                resp.setStatus(200);
+                req.startAsync();
+            }
+        }));
+
+        // Request devolvido ao container: a vaga continua ocupada até o fim da resposta
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(limitador.emUso()).isEqualTo(1);
+
+        // Cliente lento consumindo o stream com a conexão ainda aberta
+        esperar(300);
+        conexaoDoStreaming[0].close();
+        request.getAsyncContext().complete();
+
+        assertThat(limitador.emUso()).isZero();
+        assertThat(limitador.limite()).isEqualTo(10);
+    }
+
+    @Test
+    void capacidadeDasPrioridadesDeixaFolgaAbaixoDoLimite() {
+        assertThat(Prioridade.CRITICA.capacidade(5)).isEqualTo(5);
+        assertThat(Prioridade.NORMAL.capacidade(5)).isEqualTo(4);
+        assertThat(Prioridade.BAIXA.capacidade(5)).isEqualTo(3);
+        assertThat(Prioridade.BAIXA.capacidade(1)).isEqualTo(1);
+    }
+
+    private List<LimitadorConcorrenciaBanco.Permissao> ocupar(Prioridade prioridade, int quantidade) {
+        List<LimitadorConcorrenciaBanco.Permissao> permissoes = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            permissoes.add(limitador.tentarAdquirir(prioridade).orElseThrow());
+        }
+        return permissoes;
+    }
+
+    private void consultar() {
+        try (Connection conexao = dataSource.getConnection(); Statement statement = conexao.createStatement()) {
+            statement.execute("SELECT 1");
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void esperar(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:limitador;DB_CLOSE_DELAY=-1");
+        return h2;
+    }
+
+    private MockHttpServletResponse executar(String metodo, String caminho, int status) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filtro.doFilter(new MockHttpServletRequest(metodo, caminho), response,
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                        resp.setStatus(status);
+                    }
+                }));
+        return response;
+    }
+}
@@ -0,0 +1,172 @@
+package br.com.minhavenda.minhavenda.infrastructure.eventos;
+
+import br.com.minhavenda.minhavenda.domain.entity.EventoDominio;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.EventoDominioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Outbox: eventos gravados na transação de negócio, publicados em lote
+ * pelo relay e marcados só depois da confirmação do broker.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(OutboxEventos.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RelayEventosTest {
+
+    @Autowired
+    private OutboxEventos outboxEventos;
+
+    @Autowired
+    private EventoDominioRepository eventoDominioRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PublicadorEventosEmMemoria broker = new PublicadorEventosEmMemoria();
+
+    @BeforeEach
+    void setUp() {
+        eventoDominioRepository.deleteAll();
+    }
+
+    @Test
+    void relayPublicaPendentesEmLotesNaOrdemDeGravacao() {
+        registrar(5);
+
+        assertThat(relay(broker, 2).drenar()).isEqualTo(5);
+
+        assertThat(broker.mensagens()).hasSize(5)
+                .allSatisfy(mensagem -> assertThat(mensagem.routingKey()).isEqualTo("estoque.atualizado"));
+        assertThat(eventoDominioRepository.countByPublicadoEmIsNull()).isZero();
+        assertThat(relay(broker, 2).drenar()).isZero();
+        assertThat(broker.entregas()).isEqualTo(5);
+    }
+
+    @Test
+    void falhaDoBrokerMantemEventosPendentesSemContarTentativa() {
+        registrar(3);
+
+        RelayEventos relay = relay(eventos -> {
+            throw new IllegalStateException("broker indisponível");
+        }, 10);
+
+        assertThat(relay.drenar()).isZero();
+        assertThat(eventoDominioRepository.countByPublicadoEmIsNull()).isEqualTo(3);
+        // Nenhum evento passou: broker fora, não é falha dos eventos
+        assertThat(eventoDominioRepository.findAll())
+                .extracting(EventoDominio::getTentativas)
+                .containsOnly(0);
+        assertThat(eventoDominioRepository.countByEstacionadoEmIsNotNull()).isZero();
+
+        assertThat(relay(broker, 10).drenar()).isEqualTo(3);
+        assertThat(eventoDominioRepository.countByPublicadoEmIsNull()).isZero();
+    }
+
+    @Test
+    void eventoRecusadoAteAsTentativasMaximasEEstacionadoSemTravarOsDemais() {
+        registrar(4);
+
+        // Só o evento com quantidadeAnterior = 0 (o mais antigo) não serializa
+        PublicadorEventos recusaPrimeiro = eventos -> {
+            if (eventos.stream().anyMatch(evento -> Integer.valueOf(0).equals(evento.getPayloadValue("quantidadeAnterior")))) {
+                throw new UncheckedIOException("mensagem rejeitada", new IOException("payload inválido"));
+            }
+            broker.publicar(eventos);
+        };
+        RelayEventos relay = relay(recusaPrimeiro, 10, 3);
+
+        assertThat(relay.drenar()).isEqualTo(3);
+        assertThat(broker.mensagens()).hasSize(3);
+        assertThat(eventoDominioRepository.countByPublicadoEmIsNull()).isEqualTo(1);
+        assertThat(eventoDominioRepository.countByEstacionadoEmIsNotNull()).isZero();
+
+        assertThat(relay.drenar()).isZero();
+        assertThat(relay.drenar()).isZero();
+
+        EventoDominio recusado = eventoDominioRepository.findAll().stream()
+                .filter(evento -> !evento.isPublicado())
+                .findFirst().orElseThrow();
+        assertThat(recusado.getTentativas()).isEqualTo(3);
+        assertThat(recusado.getUltimoErro()).isEqualTo("mensagem rejeitada");
+        assertThat(recusado.isEstacionado()).isTrue();
+
+        // Estacionado sai da fila: novos eventos passam direto
+        registrar(1, 7);
+        assertThat(relay.drenar()).isEqualTo(1);
+        assertThat(eventoDominioRepository.findById(recusado.getId()).orElseThrow().getTentativas()).isEqualTo(3);
+        assertThat(broker.mensagens()).hasSize(4);
+    }
+
+    @Test
+    void recusaRecuperavelSoContaTentativaQuandoOutroEventoPassa() {
+        registrar(3);
+
+        // Broker recusa o mais antigo com erro transitório e aceita os demais
+        PublicadorEventos recusaPrimeiro = eventos -> {
+            if (eventos.stream().anyMatch(evento -> Integer.valueOf(0).equals(evento.getPayloadValue("quantidadeAnterior")))) {
+                throw new IllegalStateException("nack");
+            }
+            broker.publicar(eventos);
+        };
+        RelayEventos relay = relay(recusaPrimeiro, 10);
+
+        assertThat(relay.drenar()).isEqualTo(2);
+        EventoDominio recusado = eventoDominioRepository.findAll().stream()
+                .filter(evento -> !evento.isPublicado())
+                .findFirst().orElseThrow();
+        assertThat(recusado.getTentativas()).isEqualTo(1);
+
+        // Sozinho no lote: pode ser o broker, então só espera
+        assertThat(relay.drenar()).isZero();
+        assertThat(eventoDominioRepository.findById(recusado.getId()).orElseThrow().getTentativas()).isEqualTo(1);
+    }
+
+    @Test
+    void outboxExigeTransacaoDeNegocio() {
+        assertThatThrownBy(() -> outboxEventos.registrar(EventoDominio.pedidoEntregue(UUID.randomUUID())))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    private void registrar(int quantidade) {
+        registrar(quantidade, 0);
+    }
+
+    private void registrar(int quantidade, int quantidadeInicial) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = quantidadeInicial; i < quantidadeInicial + quantidade; i++) {
+                outboxEventos.registrar(EventoDominio.estoqueAtualizado(UUID.randomUUID(), i, i + 1));
+            }
+        });
+    }
+
+    private RelayEventos relay(PublicadorEventos publicador, int tamanhoLote) {
+        return relay(publicador, tamanhoLote, 20);
+    }
+
+    private RelayEventos relay(PublicadorEventos publicador, int tamanhoLote, int tentativasMaximas) {
+        return new RelayEventos(eventoDominioRepository, publicador, transactionManager, new SimpleMeterRegistry(),
+                tamanhoLote, Duration.ofSeconds(1), Duration.ofMinutes(1), tentativasMaximas);
+    }
+}
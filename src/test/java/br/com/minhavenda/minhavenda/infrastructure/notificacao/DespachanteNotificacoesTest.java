@@ -0,0 +1,180 @@
+package br.com.minhavenda.minhavenda.infrastructure.notificacao;
+
+import br.com.minhavenda.minhavenda.domain.entity.Notificacao;
+import br.com.minhavenda.minhavenda.domain.entity.Usuario;
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.NotificacaoRepository;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Fila de notificações: envio em lote pelos workers, limite de taxa por
+ * canal e nova tentativa com backoff após falha do provedor.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(FilaNotificacoes.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DespachanteNotificacoesTest {
+
+    @Autowired
+    private FilaNotificacoes filaNotificacoes;
+
+    @Autowired
+    private NotificacaoRepository notificacaoRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<MensagemNotificacao> enviadas = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DespachanteNotificacoes despachante;
+
+    @BeforeEach
+    void setUp() {
+        notificacaoRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (despachante != null) {
+            despachante.encerrar();
+        }
+    }
+
+    @Test
+    void enviaPendentesEmLoteERespeitaTaxaDoCanal() {
+        enfileirar(5);
+        despachante = despachante(enviadas::add, 3);
+
+        assertThat(despachante.despachar()).isEqualTo(3);
+
+        assertThat(enviadas).hasSize(3)
+                .allSatisfy(mensagem -> assertThat(mensagem.email()).endsWith("@minhavenda.com.br"));
+        assertThat(notificacaoRepository.countByTipoInAndEnviadoFalseAndFalhouFalse(List.of(Notificacao.Tipo.EMAIL))).isEqualTo(2);
+        assertThat(meterRegistry.get("notificacoes.adiadas").tag("canal", "email").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("notificacoes.pendentes").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void falhaDoProvedorReagendaComBackoff() {
+        enfileirar(1);
+        despachante = despachante(mensagem -> {
+            throw new IllegalStateException("SMTP indisponível");
+        }, 100);
+
+        Instant antes = Instant.now();
+        assertThat(despachante.despachar()).isZero();
+
+        Notificacao notificacao = notificacaoRepository.findAll().get(0);
+        assertThat(notificacao.getTentativas()).isEqualTo(1);
+        assertThat(notificacao.getUltimoErro()).isEqualTo("SMTP indisponível");
+        assertThat(notificacao.getProximaTentativaEm()).isAfter(antes.plusSeconds(9));
+        assertThat(notificacao.isPendente()).isTrue();
+
+        // Ainda em backoff: não é reenviada
+        despachante.despachar();
+        assertThat(notificacaoRepository.findAll().get(0).getTentativas()).isEqualTo(1);
+    }
+
+    @Test
+    void provedorTravadoContaComoFalhaAntesDoLease() {
+        enfileirar(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        despachante = despachante(mensagem -> {
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, 100);
+
+        try {
+            long inicio = System.nanoTime();
+            assertThat(despachante.despachar()).isZero();
+            assertThat(Duration.ofNanos(System.nanoTime() - inicio)).isLessThan(Duration.ofMinutes(1));
+        } finally {
+            liberar.countDown();
+        }
+
+        Notificacao notificacao = notificacaoRepository.findAll().get(0);
+        assertThat(notificacao.getTentativas()).isEqualTo(1);
+        assertThat(notificacao.getUltimoErro()).startsWith("Timeout de envio");
+        assertThat(notificacao.isPendente()).isTrue();
+        assertThat(meterRegistry.get("notificacoes.falhas").tag("canal", "email").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void timeoutDeEnvioPrecisaSerMenorQueOLease() {
+        assertThatThrownBy(() -> new DespachanteNotificacoes(notificacaoRepository, enviadas::add, transactionManager,
+                meterRegistry, 2, 10, Duration.ofMinutes(1), Duration.ofMinutes(1), 5, Duration.ofSeconds(10),
+                Duration.ofMinutes(30), 100, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void smsSemTelefoneNoCadastroNaoEReservado() {
+        Usuario usuario = enfileirar(1);
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                filaNotificacoes.enfileirar(Notificacao.criarSms(usuario, "Pedido enviado")));
+        despachante = despachante(enviadas::add, 100);
+
+        assertThat(despachante.despachar()).isEqualTo(1);
+
+        assertThat(enviadas).extracting(MensagemNotificacao::canal).containsExactly(Notificacao.Tipo.EMAIL);
+        assertThat(notificacaoRepository.findAll())
+                .filteredOn(Notificacao::isSms)
+                .singleElement()
+                .satisfies(sms -> {
+                    assertThat(sms.getTentativas()).isZero();
+                    assertThat(sms.isPendente()).isTrue();
+                });
+        assertThat(meterRegistry.get("notificacoes.pendentes").gauge().value()).isZero();
+    }
+
+    private Usuario enfileirar(int quantidade) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Usuario usuario = usuarioRepository.save(Usuario.builder()
+                    .nome("Cliente")
+                    .email("cliente-" + UUID.randomUUID() + "@minhavenda.com.br")
+                    .senha("hash")
+                    .tipo(TipoUsuario.CLIENTE)
+                    .build());
+            for (int i = 0; i < quantidade; i++) {
+                filaNotificacoes.enfileirar(Notificacao.criarEmail(usuario, "Pedido " + i));
+            }
+            return usuario;
+        });
+    }
+
+    private DespachanteNotificacoes despachante(EnviadorNotificacao enviador, double taxaEmail) {
+        return new DespachanteNotificacoes(notificacaoRepository, enviador, transactionManager, meterRegistry,
+                2, 10, Duration.ofMinutes(1), Duration.ofMillis(500), 5, Duration.ofSeconds(10), Duration.ofMinutes(30), taxaEmail, false);
+    }
+}
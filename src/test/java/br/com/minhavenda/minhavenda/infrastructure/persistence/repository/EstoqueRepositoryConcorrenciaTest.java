@@ -0,0 +1,170 @@
+package br.com.minhavenda.minhavenda.infrastructure.persistence.repository;
+
+import br.com.minhavenda.minhavenda.domain.entity.Estoque;
+import br.com.minhavenda.minhavenda.domain.entity.Produto;
+import br.com.minhavenda.minhavenda.domain.valueobject.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Dispara N checkouts concorrentes contra um único SKU e compara a
+ * reserva atômica ({@link EstoqueRepository#reservar}) com o fluxo
+ * antigo de ler, validar e salvar a entidade Estoque.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EstoqueRepositoryConcorrenciaTest {
+
+    private static final int ESTOQUE_INICIAL = 50;
+    private static final int CHECKOUTS = 200;
+    private static final int THREADS = 16;
+
+    @Autowired
+    private EstoqueRepository estoqueRepository;
+
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private UUID produtoId;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        produtoId = transactionTemplate.execute(status -> {
+            Produto produto = Produto.builder()
+                    .nome("Produto Concorrido")
+                    .preco(Money.of(new BigDecimal("10.00")))
+                    .build();
+            produto.adicionarEstoque(ESTOQUE_INICIAL);
+            return produtoRepository.save(produto).getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            estoqueRepository.deleteAll();
+            produtoRepository.deleteAll();
+        });
+    }
+
+    @Test
+    void reservaAtomicaNaoVendeMaisQueOEstoque() throws Exception {
+        Resultado resultado = executarCheckouts(() -> transactionTemplate.execute(status ->
+                estoqueRepository.reservar(produtoId, 1, Instant.now()) == 1
+        ));
+
+        log.info("Reserva atômica: vendidos={}, falhas={}, {} checkouts/s",
+                resultado.vendidos(), resultado.falhas(), resultado.throughput());
+
+        assertThat(resultado.vendidos()).isEqualTo(ESTOQUE_INICIAL);
+        assertThat(quantidadeAtual()).isZero();
+    }
+
+    @Test
+    void comparaComFluxoLerValidarSalvar() throws Exception {
+        Resultado legado = executarCheckouts(() -> transactionTemplate.execute(status -> {
+            Estoque estoque = produtoRepository.findById(produtoId).orElseThrow().getEstoque();
+            if (!estoque.temEstoqueSuficiente(1)) {
+                return false;
+            }
+            estoque.remover(1);
+            return true;
+        }));
+        int quantidadeLegado = quantidadeAtual();
+
+        log.info("Fluxo antigo: vendidos={}, falhas={}, estoque final={}, {} checkouts/s",
+                legado.vendidos(), legado.falhas(), quantidadeLegado, legado.throughput());
+
+        // Volta ao estoque inicial e repete com a reserva atômica
+        transactionTemplate.executeWithoutResult(status ->
+                produtoRepository.findById(produtoId).orElseThrow().getEstoque().ajustar(ESTOQUE_INICIAL)
+        );
+
+        Resultado atomico = executarCheckouts(() -> transactionTemplate.execute(status ->
+                estoqueRepository.reservar(produtoId, 1, Instant.now()) == 1
+        ));
+
+        log.info("Reserva atômica: vendidos={}, falhas={}, {} checkouts/s",
+                atomico.vendidos(), atomico.falhas(), atomico.throughput());
+
+        // O fluxo antigo perde atualizações sem @Version (vendidos > baixa real
+        // no estoque); com @Version, passa a falhar por conflito sob contenção
+        log.info("Oversell do fluxo antigo: {}",
+                legado.vendidos() - (ESTOQUE_INICIAL - quantidadeLegado));
+
+        assertThat(atomico.vendidos()).isEqualTo(ESTOQUE_INICIAL);
+        assertThat(quantidadeAtual()).isZero();
+    }
+
+    private Resultado executarCheckouts(Supplier<Boolean> checkout) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger vendidos = new AtomicInteger();
+        AtomicInteger falhas = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < CHECKOUTS; i++) {
+            futures.add(executor.submit(() -> {
+                largada.await();
+                try {
+                    if (Boolean.TRUE.equals(checkout.get())) {
+                        vendidos.incrementAndGet();
+                    } else {
+                        falhas.incrementAndGet();
+                    }
+                } catch (RuntimeException e) {
+                    falhas.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        long inicio = System.nanoTime();
+        largada.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        long duracaoNanos = System.nanoTime() - inicio;
+        executor.shutdown();
+
+        return new Resultado(vendidos.get(), falhas.get(), CHECKOUTS * 1_000_000_000L / Math.max(duracaoNanos, 1));
+    }
+
+    private int quantidadeAtual() {
+        return transactionTemplate.execute(status ->
+                produtoRepository.findById(produtoId).orElseThrow().getEstoque().getQuantidade()
+        );
+    }
+
+    private record Resultado(int vendidos, int falhas, long throughput) {
+    }
+}
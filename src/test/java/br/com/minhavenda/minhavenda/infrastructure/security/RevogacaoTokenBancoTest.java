@@ -0,0 +1,84 @@
+package br.com.minhavenda.minhavenda.infrastructure.security;
+
+import br.com.minhavenda.minhavenda.domain.entity.Usuario;
+import br.com.minhavenda.minhavenda.domain.enums.TipoUsuario;
+import br.com.minhavenda.minhavenda.infrastructure.persistence.repository.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Revogação com security.jwt.versao-store=banco: o incremento feito pelo
+ * listener depois do commit precisa chegar de fato em usuarios.versao_token.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.database=H2",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "security.jwt.versao-store=banco",
+        // Hikari sem auto-commit: o que não for commitado explicitamente é
+        // desfeito quando a conexão volta ao pool
+        "spring.datasource.url=jdbc:h2:mem:revogacao;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.hikari.auto-commit=false",
+        "spring.jpa.properties.hibernate.connection.provider_disables_autocommit=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({VersaoTokenStoreBanco.class, RevogacaoTokenListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RevogacaoTokenBancoTest {
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private VersaoTokenStore versaoTokenStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        // Coluna criada pela V7 (Flyway); a entidade não a mapeia
+        jdbcTemplate.execute(
+                "ALTER TABLE usuarios ADD COLUMN IF NOT EXISTS versao_token BIGINT DEFAULT 0 NOT NULL");
+        usuarioRepository.deleteAll();
+    }
+
+    @Test
+    void alteracaoDoUsuarioIncrementaVersaoNoBanco() {
+        UUID usuarioId = usuarioRepository.save(Usuario.builder()
+                .nome("Cliente")
+                .email("cliente@minhavenda.com")
+                .senha("hash")
+                .tipo(TipoUsuario.CLIENTE)
+                .build()).getId();
+        assertThat(versaoTokenStore.versaoAtual(usuarioId)).isZero();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Usuario usuario = usuarioRepository.findById(usuarioId).orElseThrow();
+            usuario.desativar();
+            usuarioRepository.save(usuario);
+        });
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT versao_token FROM usuarios WHERE id = ?", Long.class, usuarioId))
+                .isEqualTo(1L);
+        assertThat(versaoTokenStore.versaoAtual(usuarioId)).isEqualTo(1L);
+    }
+}
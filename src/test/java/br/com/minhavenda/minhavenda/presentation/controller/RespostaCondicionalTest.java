@@ -0,0 +1,232 @@
+package br.com.minhavenda.minhavenda.presentation.controller;
+
+import br.com.minhavenda.minhavenda.domain.event.CategoriaAlteradaEvent;
+import br.com.minhavenda.minhavenda.domain.event.EstoqueAlteradoEvent;
+import br.com.minhavenda.minhavenda.infrastructure.cache.CatalogoAlteradoExternamenteEvent;
+import br.com.minhavenda.minhavenda.infrastructure.cache.VersaoCatalogo;
+import br.com.minhavenda.minhavenda.infrastructure.tarefas.TarefasAposCommit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RespostaCondicionalTest {
+
+    private final AtomicInteger cargas = new AtomicInteger();
+    private final List<Object> eventos = new ArrayList<>();
+
+    private final TarefasAposCommit tarefasAposCommit = new TarefasAposCommit(
+            new SimpleMeterRegistry(), 1, 10, 1, Duration.ZERO, false);
+
+    private EmbeddedDatabase banco;
+    private VersaoCatalogo versaoCatalogo;
+
+    @BeforeEach
+    void setUp() {
+        banco = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        new JdbcTemplate(banco).execute("""
+                CREATE TABLE catalogo_versao (id SMALLINT PRIMARY KEY, versao BIGINT NOT NULL,
+                                              atualizado_em TIMESTAMP NOT NULL);
+                INSERT INTO catalogo_versao VALUES (1, 0, CURRENT_TIMESTAMP);
+                CREATE TABLE catalogo_alteracoes (id BIGINT AUTO_INCREMENT PRIMARY KEY, versao BIGINT NOT NULL,
+                                                  produto_id UUID, categoria_id BIGINT,
+                                                  categoria_alterada BOOLEAN NOT NULL DEFAULT FALSE,
+                                                  registrado_em TIMESTAMP NOT NULL);
+                """);
+        versaoCatalogo = instancia();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        tarefasAposCommit.encerrar();
+        banco.shutdown();
+    }
+
+    @Test
+    void etagAtualRespondeNotModifiedSemCarregarOCorpo() throws InterruptedException {
+        MockHttpServletResponse primeira = new MockHttpServletResponse();
+        ResponseEntity<List<String>> ok = responder(versaoCatalogo, get(null), primeira);
+        String etag = primeira.getHeader(HttpHeaders.ETAG);
+
+        assertThat(ok.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(etag).isNotBlank();
+        assertThat(primeira.getHeader(HttpHeaders.LAST_MODIFIED)).isNotBlank();
+
+        ResponseEntity<List<String>> naoModificado = responder(versaoCatalogo, get(etag), new MockHttpServletResponse());
+
+        assertThat(naoModificado.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(naoModificado.getBody()).isNull();
+        assertThat(cargas).hasValue(1);
+
+        versaoCatalogo.aoAlterarCategoria(new CategoriaAlteradaEvent(1L));
+        assertThat(tarefasAposCommit.aguardar(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(responder(versaoCatalogo, get(etag), new MockHttpServletResponse()).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(cargas).hasValue(2);
+    }
+
+    @Test
+    void recursoComEtagAtualSoVerificaExistencia() {
+        MockHttpServletResponse primeira = new MockHttpServletResponse();
+        responder(versaoCatalogo, get(null), primeira);
+        String etag = primeira.getHeader(HttpHeaders.ETAG);
+        AtomicInteger verificacoes = new AtomicInteger();
+
+        ResponseEntity<Object> existente = RespostaCondicional.responder(versaoCatalogo,
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()),
+                () -> verificacoes.incrementAndGet() > 0,
+                () -> {
+                    throw new AssertionError("corpo carregado num 304");
+                });
+        ResponseEntity<Object> removido = RespostaCondicional.responder(versaoCatalogo,
+                new ServletWebRequest(get(etag), new MockHttpServletResponse()),
+                () -> false,
+                () -> {
+                    throw new AssertionError("corpo carregado de recurso inexistente");
+                });
+
+        assertThat(existente.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(verificacoes).hasValue(1);
+        assertThat(removido.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void recursoInexistenteSemPrecondicaoRespondeNotFound() {
+        ResponseEntity<Object> resposta = RespostaCondicional.responder(versaoCatalogo,
+                new ServletWebRequest(get(null), new MockHttpServletResponse()),
+                () -> {
+                    throw new AssertionError("existência verificada sem pré-condição");
+                },
+                () -> null);
+
+        assertThat(resposta.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void versaoECompartilhadaEntreInstancias() throws InterruptedException {
+        VersaoCatalogo outraInstancia = instancia();
+        MockHttpServletResponse primeira = new MockHttpServletResponse();
+        responder(versaoCatalogo, get(null), primeira);
+        String etag = primeira.getHeader(HttpHeaders.ETAG);
+
+        // Mesmo estado do catálogo: a outra instância também responde 304
+        assertThat(responder(outraInstancia, get(etag), new MockHttpServletResponse()).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+
+        versaoCatalogo.aoAlterarCategoria(new CategoriaAlteradaEvent(1L));
+        assertThat(tarefasAposCommit.aguardar(Duration.ofSeconds(5))).isTrue();
+
+        // A alteração chega à outra instância, que descarta os caches locais
+        assertThat(responder(outraInstancia, get(etag), new MockHttpServletResponse()).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+        assertThat(eventos).containsExactly(
+                new CatalogoAlteradoExternamenteEvent(1, false, Set.of(), Set.of(1L), Set.of(1L)));
+    }
+
+    @Test
+    void alteracaoDeEstoqueEmOutraInstanciaSoAfetaOsProdutosReservados() throws InterruptedException {
+        List<Object> eventosB = new ArrayList<>();
+        VersaoCatalogo instanciaB = instancia(eventosB);
+        assertThat(instanciaB.atual().numero()).isZero();
+        UUID produtoId = UUID.randomUUID();
+
+        // Checkout na instância A
+        versaoCatalogo.aoAlterarEstoque(new EstoqueAlteradoEvent(List.of(produtoId), Set.of(3L)));
+        assertThat(tarefasAposCommit.aguardar(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(instanciaB.atual().numero()).isEqualTo(1);
+        assertThat(eventosB).containsExactly(
+                new CatalogoAlteradoExternamenteEvent(1, false, Set.of(produtoId), Set.of(3L), Set.of()));
+    }
+
+    @Test
+    void historicoSemAsVersoesDoIntervaloDescartaTudo() {
+        VersaoCatalogo outraInstancia = instancia();
+        assertThat(outraInstancia.atual().numero()).isZero();
+
+        // Versões sem alterações registradas (apagadas pela retenção)
+        new JdbcTemplate(banco).update("UPDATE catalogo_versao SET versao = 5");
+
+        assertThat(outraInstancia.atual().numero()).isEqualTo(5);
+        assertThat(eventos).containsExactly(CatalogoAlteradoExternamenteEvent.completo(5));
+    }
+
+    @Test
+    void incrementoLocalQuePulaVersaoDescartaOsCachesDaOutraInstancia() throws InterruptedException {
+        List<Object> eventosA = new ArrayList<>();
+        List<Object> eventosB = new ArrayList<>();
+        VersaoCatalogo instanciaA = instancia(eventosA);
+        VersaoCatalogo instanciaB = instancia(eventosB);
+        assertThat(instanciaA.atual().numero()).isZero();
+        assertThat(instanciaB.atual().numero()).isZero();
+
+        // B altera primeiro; A altera em seguida, sem ter lido a versão de B
+        instanciaB.aoAlterarCategoria(new CategoriaAlteradaEvent(1L));
+        assertThat(tarefasAposCommit.aguardar(Duration.ofSeconds(5))).isTrue();
+        instanciaA.aoAlterarCategoria(new CategoriaAlteradaEvent(2L));
+        assertThat(tarefasAposCommit.aguardar(Duration.ofSeconds(5))).isTrue();
+
+        assertThat(eventosB).isEmpty();
+        // A descarta o que B alterou na versão que pulou (categoria 1)
+        assertThat(eventosA).containsExactly(
+                new CatalogoAlteradoExternamenteEvent(1, false, Set.of(), Set.of(1L), Set.of(1L)));
+        assertThat(instanciaA.atual().numero()).isEqualTo(2);
+
+        // B percebe a alteração de A na próxima leitura
+        assertThat(instanciaB.atual().numero()).isEqualTo(2);
+        assertThat(eventosB).containsExactly(
+                new CatalogoAlteradoExternamenteEvent(2, false, Set.of(), Set.of(2L), Set.of(2L)));
+    }
+
+    private VersaoCatalogo instancia() {
+        return instancia(eventos);
+    }
+
+    private VersaoCatalogo instancia(List<Object> eventos) {
+        // Intervalo zero: toda leitura vai ao banco
+        return new VersaoCatalogo(new JdbcTemplate(banco), new DataSourceTransactionManager(banco),
+                eventos::add, tarefasAposCommit, Duration.ZERO, Duration.ofHours(1));
+    }
+
+    private static MockHttpServletRequest get(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/categorias");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    private ResponseEntity<List<String>> responder(
+            VersaoCatalogo versao, MockHttpServletRequest request, MockHttpServletResponse response) {
+        Supplier<List<String>> corpo = () -> {
+            cargas.incrementAndGet();
+            return List.of("Eletrônicos");
+        };
+        return RespostaCondicional.responder(versao, new ServletWebRequest(request, response), corpo);
+    }
+}
@@ -0,0 +1,47 @@
+package br.com.minhavenda.minhavenda.presentation.controller;
+
+import br.com.minhavenda.minhavenda.application.dto.ListaLimitada;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RespostaLimitadaTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void escreveArrayJsonEIndicaCorteNoHeader() throws Exception {
+        RespostaLimitada resposta = new RespostaLimitada(objectMapper, DataSize.ofMegabytes(1));
+
+        ResponseEntity<StreamingResponseBody> entity = resposta.responder(
+                ListaLimitada.de(List.of("a", "b", "c"), 2));
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        entity.getBody().writeTo(saida);
+
+        assertThat(entity.getHeaders().getFirst(RespostaLimitada.HEADER_TRUNCADA)).isEqualTo("true");
+        assertThat(objectMapper.readTree(saida.toByteArray())).hasSize(2);
+    }
+
+    @Test
+    void guardaDeTamanhoFechaOArraySemPassarDoLimite() throws Exception {
+        RespostaLimitada resposta = new RespostaLimitada(objectMapper, DataSize.ofKilobytes(1));
+        List<String> itens = IntStream.range(0, 1000).mapToObj(i -> "x".repeat(100)).toList();
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        resposta.escrever(new ListaLimitada<>(itens, false), saida);
+
+        JsonNode array = objectMapper.readTree(saida.toByteArray());
+        assertThat(array.isArray()).isTrue();
+        assertThat(array.size()).isBetween(1, 10);
+        assertThat(saida.size()).isLessThan(1024 + 110);
+    }
+}